@@ -4,6 +4,7 @@ import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.info.Info;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 
 /**
  * Classe principal da aplicação Tech Challenge
@@ -24,12 +25,17 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 )
 public class TechChallengeApplication {
 
+    private static final int STARTUP_STEPS_CAPACITY = 10_000;
+
     /**
      * Método principal que inicia a aplicação Spring Boot
      *
      * @param args Argumentos de linha de comando
      */
     public static void main(String[] args) {
-        SpringApplication.run(TechChallengeApplication.class, args);
+        SpringApplication application = new SpringApplication(TechChallengeApplication.class);
+        // Linha do tempo da inicialização: resumo no log (StartupConfig) e detalhe em /api/startup
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEPS_CAPACITY));
+        application.run(args);
     }
 }
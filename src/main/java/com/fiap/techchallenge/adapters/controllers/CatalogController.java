@@ -0,0 +1,20 @@
+package com.fiap.techchallenge.adapters.controllers;
+
+import com.fiap.techchallenge.application.usecases.CatalogUseCase;
+import com.fiap.techchallenge.application.usecases.CatalogUseCase.CatalogImportResult;
+import com.fiap.techchallenge.application.usecases.CatalogUseCase.CatalogItemRequest;
+
+import java.util.Iterator;
+
+public class CatalogController {
+
+    private final CatalogUseCase catalogUseCase;
+
+    public CatalogController(CatalogUseCase catalogUseCase) {
+        this.catalogUseCase = catalogUseCase;
+    }
+
+    public CatalogImportResult importCatalog(Iterator<CatalogItemRequest> items) {
+        return catalogUseCase.importCatalog(items);
+    }
+}
@@ -2,6 +2,7 @@ package com.fiap.techchallenge.adapters.controllers;
 
 import com.fiap.techchallenge.application.usecases.CategoryUseCase;
 import com.fiap.techchallenge.domain.entities.Category;
+import com.fiap.techchallenge.domain.readmodels.ResourceVersion;
 
 import java.util.List;
 import java.util.Optional;
@@ -27,6 +28,10 @@ public class CategoryController {
         return categoryUseCase.findById(id);
     }
 
+    public Optional<ResourceVersion> findVersionById(UUID id) {
+        return categoryUseCase.findVersionById(id);
+    }
+
     public List<Category> findAll() {
         return categoryUseCase.findAll();
     }
@@ -2,6 +2,7 @@ package com.fiap.techchallenge.adapters.controllers;
 
 import com.fiap.techchallenge.application.usecases.CustomerUseCase;
 import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.readmodels.ResourceVersion;
 
 import java.util.List;
 import java.util.Optional;
@@ -27,6 +28,10 @@ public class CustomerController {
         return customerUseCase.findCustomerById(id);
     }
 
+    public Optional<ResourceVersion> findCustomerVersionById(UUID id) {
+        return customerUseCase.findCustomerVersionById(id);
+    }
+
     public List<Customer> findAllCustomers() {
         return customerUseCase.findCustomerAll();
     }
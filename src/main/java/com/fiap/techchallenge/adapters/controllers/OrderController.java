@@ -2,9 +2,12 @@ package com.fiap.techchallenge.adapters.controllers;
 
 import com.fiap.techchallenge.application.usecases.OrderUseCase;
 import com.fiap.techchallenge.application.usecases.OrderUseCase.OrderItemRequest;
+import com.fiap.techchallenge.application.usecases.OrderUseCase.OrderStatusUpdateResult;
 import com.fiap.techchallenge.domain.entities.Order;
 import com.fiap.techchallenge.domain.entities.OrderStatus;
 import com.fiap.techchallenge.domain.entities.StatusPayment;
+import com.fiap.techchallenge.domain.readmodels.OrderQueueStats;
+import com.fiap.techchallenge.domain.readmodels.OrderSummary;
 
 import java.util.List;
 import java.util.Optional;
@@ -18,8 +21,8 @@ public class OrderController {
         this.orderUseCase = orderUseCase;
     }
 
-    public Order createOrder(UUID customerId, List<OrderItemRequest> items) {
-        return orderUseCase.createOrder(customerId, items);
+    public Order createOrder(UUID customerId, List<OrderItemRequest> items, String idempotencyKey) {
+        return orderUseCase.createOrder(customerId, items, idempotencyKey);
     }
 
     public Optional<Order> findOrderById(Long id) {
@@ -30,6 +33,10 @@ public class OrderController {
         return orderUseCase.findByOptionalStatus(status);
     }
 
+    public List<OrderSummary> findOrderSummaries(OrderStatus status) {
+        return orderUseCase.findOrderSummaries(status);
+    }
+
     public Order updateOrderStatus(Long id, OrderStatus status) {
         return orderUseCase.updateOrderStatus(id, status);
     }
@@ -38,7 +45,15 @@ public class OrderController {
         return orderUseCase.updateOrderStatus(id);
     }
 
+    public List<OrderStatusUpdateResult> updateOrdersStatus(List<Long> ids, OrderStatus status) {
+        return orderUseCase.updateOrdersStatus(ids, status);
+    }
+
     public Order updateOrderStatusPayment(Long id, StatusPayment statusPayment) {
         return orderUseCase.updateOrderStatusPayment(id, statusPayment);
     }
+
+    public OrderQueueStats getOrderStats() {
+        return orderUseCase.getOrderStats();
+    }
 }
@@ -1,6 +1,7 @@
 package com.fiap.techchallenge.adapters.controllers;
 
 import com.fiap.techchallenge.application.usecases.PaymentUseCase;
+import com.fiap.techchallenge.domain.entities.Money;
 
 public class PaymentController {
 
@@ -11,7 +12,7 @@ public class PaymentController {
     }
 
     public Long createPaymentOrder(
-        Double amount,
+        Money amount,
         String description,
         String paymentMethodId,
         Integer installments,
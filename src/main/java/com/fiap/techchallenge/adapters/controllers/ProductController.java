@@ -2,6 +2,8 @@ package com.fiap.techchallenge.adapters.controllers;
 
 import com.fiap.techchallenge.application.usecases.ProductUseCase;
 import com.fiap.techchallenge.domain.entities.Product;
+import com.fiap.techchallenge.domain.readmodels.ProductSummary;
+import com.fiap.techchallenge.domain.readmodels.ResourceVersion;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -24,6 +26,10 @@ public class ProductController {
         return productUseCase.findProductById(id);
     }
 
+    public Optional<ResourceVersion> findProductVersionById(UUID id) {
+        return productUseCase.findProductVersionById(id);
+    }
+
     public List<Product> findProductsByName(String name) {
         return productUseCase.findProductsByName(name);
     }
@@ -32,6 +38,10 @@ public class ProductController {
         return productUseCase.findAllProducts();
     }
 
+    public List<ProductSummary> findProductSummaries(UUID categoryId) {
+        return productUseCase.findProductSummaries(categoryId);
+    }
+
     public List<Product> findProductsByCategory(UUID categoryId) {
         return productUseCase.findProductsByCategory(categoryId);
     }
@@ -0,0 +1,30 @@
+package com.fiap.techchallenge.adapters.controllers;
+
+import com.fiap.techchallenge.application.usecases.SalesReportUseCase;
+import com.fiap.techchallenge.domain.readmodels.CategorySales;
+import com.fiap.techchallenge.domain.readmodels.DailySales;
+import com.fiap.techchallenge.domain.readmodels.ProductSales;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class SalesReportController {
+
+    private final SalesReportUseCase salesReportUseCase;
+
+    public SalesReportController(SalesReportUseCase salesReportUseCase) {
+        this.salesReportUseCase = salesReportUseCase;
+    }
+
+    public List<DailySales> getDailySales(LocalDate from, LocalDate to) {
+        return salesReportUseCase.getDailySales(from, to);
+    }
+
+    public List<ProductSales> getTopProducts(LocalDate from, LocalDate to, int limit) {
+        return salesReportUseCase.getTopProducts(from, to, limit);
+    }
+
+    public List<CategorySales> getCategorySales(LocalDate from, LocalDate to) {
+        return salesReportUseCase.getCategorySales(from, to);
+    }
+}
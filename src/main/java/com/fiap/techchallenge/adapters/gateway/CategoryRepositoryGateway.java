@@ -2,33 +2,76 @@ package com.fiap.techchallenge.adapters.gateway;
 
 import com.fiap.techchallenge.application.usecases.mappers.CategoryMapper;
 import com.fiap.techchallenge.domain.entities.Category;
+import com.fiap.techchallenge.domain.entities.Product;
+import com.fiap.techchallenge.domain.readmodels.ResourceVersion;
+import com.fiap.techchallenge.domain.readmodels.SavedCategories;
 import com.fiap.techchallenge.domain.repositories.CategoryRepository;
 import com.fiap.techchallenge.external.datasource.repositories.CategoryJpaRepository;
+import com.fiap.techchallenge.infrastructure.cache.RequestIdentityCache;
+import com.fiap.techchallenge.infrastructure.search.ProductSearchIndex;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 public class CategoryRepositoryGateway implements CategoryRepository {
 
+    // Um único INSERT para o lote (o batch reescrito pelo driver não informa linhas afetadas).
+    // "Lanches" não é criada se já existe " lanches": a comparação é pelo nome normalizado
+    private static final String INSERT_MISSING_SQL =
+            "INSERT INTO categories (id, name) SELECT gen_random_uuid(), n.name FROM unnest(?::varchar[]) AS n(name) " +
+            "WHERE NOT EXISTS (SELECT 1 FROM categories c WHERE lower(trim(c.name)) = lower(trim(n.name))) " +
+            "ON CONFLICT (name) DO NOTHING RETURNING name";
+
     private final CategoryJpaRepository categoryJpaRepository;
+    private final ProductSearchIndex productSearchIndex;
+    private final JdbcTemplate jdbcTemplate;
+    private final ReadOnlyLookup readOnlyLookup;
 
-    public CategoryRepositoryGateway(CategoryJpaRepository categoryJpaRepository) {
+    public CategoryRepositoryGateway(CategoryJpaRepository categoryJpaRepository, ProductSearchIndex productSearchIndex,
+                                     JdbcTemplate jdbcTemplate, ReadOnlyLookup readOnlyLookup) {
         this.categoryJpaRepository = categoryJpaRepository;
+        this.productSearchIndex = productSearchIndex;
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyLookup = readOnlyLookup;
     }
 
     @Override
+    @Transactional(timeoutString = "${app.datasource.timeouts.write:5}")
     public Category save(Category category) {
         var jpaEntity = CategoryMapper.toJpaEntity(category);
         var savedEntity = categoryJpaRepository.save(jpaEntity);
-        return CategoryMapper.toDomainEntity(savedEntity);
+        // Os produtos indexados carregam a categoria; recarrega na próxima busca
+        productSearchIndex.invalidate();
+        Category savedCategory = CategoryMapper.toDomainEntity(savedEntity);
+        RequestIdentityCache.put(Category.class, savedCategory.getId(), savedCategory);
+        RequestIdentityCache.evictAll(Product.class);
+        return savedCategory;
     }
 
     @Override
     public Optional<Category> findById(UUID id) {
-        return categoryJpaRepository.findById(id)
-                .map(CategoryMapper::toDomainEntity);
+        return RequestIdentityCache.findById(Category.class, id, () -> readOnlyLookup.find(
+                () -> categoryJpaRepository.findById(id).map(CategoryMapper::toDomainEntity)));
+    }
+
+    @Override
+    @Transactional(readOnly = true, timeoutString = "${app.datasource.timeouts.query:5}")
+    public Optional<ResourceVersion> findVersionById(UUID id) {
+        return categoryJpaRepository.findVersionById(id)
+                .map(row -> new ResourceVersion(row.getTag(), row.getLastModified()));
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return RequestIdentityCache.existsById(Category.class, id,
+                () -> readOnlyLookup.exists(() -> categoryJpaRepository.existsById(id)));
     }
 
     @Override
@@ -37,15 +80,44 @@ public class CategoryRepositoryGateway implements CategoryRepository {
     }
 
     @Override
+    @Transactional(readOnly = true, timeoutString = "${app.datasource.timeouts.query:5}")
     public List<Category> findAll() {
-        return categoryJpaRepository.findAll()
-                .stream()
-                .map(CategoryMapper::toDomainEntity)
-                .collect(Collectors.toList());
+        return CategoryMapper.toDomainEntities(categoryJpaRepository.findAll());
+    }
+
+    @Override
+    @Transactional(timeoutString = "${app.datasource.timeouts.bulk:60}")
+    public SavedCategories saveAllByName(Collection<String> names) {
+        Map<String, UUID> ids = new HashMap<>();
+        if (names.isEmpty()) {
+            return new SavedCategories(ids, 0);
+        }
+        Map<String, String> distinctNames = new LinkedHashMap<>();
+        for (String name : names) {
+            distinctNames.putIfAbsent(normalize(name), name.trim());
+        }
+        // ON CONFLICT cobre categorias criadas em paralelo; o RETURNING só traz as inseridas aqui
+        int created = jdbcTemplate.queryForList(INSERT_MISSING_SQL, String.class,
+                (Object) distinctNames.values().toArray(new String[0])).size();
+        jdbcTemplate.query("SELECT id, name FROM categories WHERE lower(trim(name)) = ANY (?) ORDER BY name",
+                rs -> {
+                    ids.putIfAbsent(normalize(rs.getString("name")), rs.getObject("id", UUID.class));
+                },
+                (Object) distinctNames.keySet().toArray(new String[0]));
+        RequestIdentityCache.evictAll(Category.class);
+        return new SavedCategories(ids, created);
+    }
+
+    private static String normalize(String name) {
+        return name.trim().toLowerCase();
     }
 
     @Override
+    @Transactional(timeoutString = "${app.datasource.timeouts.write:5}")
     public void deleteById(UUID id) {
         categoryJpaRepository.deleteById(id);
+        productSearchIndex.invalidate();
+        RequestIdentityCache.evict(Category.class, id);
+        RequestIdentityCache.evictAll(Product.class);
     }
 }
@@ -2,8 +2,11 @@ package com.fiap.techchallenge.adapters.gateway;
 
 import com.fiap.techchallenge.application.usecases.mappers.CustomerMapper;
 import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.readmodels.ResourceVersion;
 import com.fiap.techchallenge.domain.repositories.CustomerRepository;
 import com.fiap.techchallenge.external.datasource.repositories.CustomerJpaRepository;
+import com.fiap.techchallenge.infrastructure.cache.RequestIdentityCache;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -13,25 +16,38 @@ import java.util.stream.Collectors;
 public class CustomerRepositoryGateway implements CustomerRepository {
 
     private final CustomerJpaRepository customerJpaRepository;
+    private final ReadOnlyLookup readOnlyLookup;
 
-    public CustomerRepositoryGateway(CustomerJpaRepository customerJpaRepository) {
+    public CustomerRepositoryGateway(CustomerJpaRepository customerJpaRepository, ReadOnlyLookup readOnlyLookup) {
         this.customerJpaRepository = customerJpaRepository;
+        this.readOnlyLookup = readOnlyLookup;
     }
 
     @Override
+    @Transactional(timeoutString = "${app.datasource.timeouts.write:5}")
     public Customer save(Customer customer) {
         var jpaEntity = CustomerMapper.toJpaEntity(customer);
         var savedEntity = customerJpaRepository.save(jpaEntity);
-        return CustomerMapper.toDomainEntity(savedEntity);
+        Customer savedCustomer = CustomerMapper.toDomainEntity(savedEntity);
+        RequestIdentityCache.put(Customer.class, savedCustomer.getId(), savedCustomer);
+        return savedCustomer;
     }
 
     @Override
     public Optional<Customer> findById(UUID id) {
-        return customerJpaRepository.findById(id)
-                .map(CustomerMapper::toDomainEntity);
+        return RequestIdentityCache.findById(Customer.class, id, () -> readOnlyLookup.find(
+                () -> customerJpaRepository.findById(id).map(CustomerMapper::toDomainEntity)));
+    }
+
+    @Override
+    @Transactional(readOnly = true, timeoutString = "${app.datasource.timeouts.query:5}")
+    public Optional<ResourceVersion> findVersionById(UUID id) {
+        return customerJpaRepository.findVersionById(id)
+                .map(row -> new ResourceVersion(row.getTag(), row.getLastModified()));
     }
 
     @Override
+    @Transactional(readOnly = true, timeoutString = "${app.datasource.timeouts.query:5}")
     public Optional<Customer> findByCpf(String cpf) {
         return customerJpaRepository.findByCpf(cpf)
                 .map(CustomerMapper::toDomainEntity);
@@ -43,6 +59,7 @@ public class CustomerRepositoryGateway implements CustomerRepository {
     }
 
     @Override
+    @Transactional(readOnly = true, timeoutString = "${app.datasource.timeouts.query:5}")
     public List<Customer> findAll() {
         return customerJpaRepository.findAll()
                 .stream()
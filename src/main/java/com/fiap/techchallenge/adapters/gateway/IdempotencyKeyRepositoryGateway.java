@@ -0,0 +1,65 @@
+package com.fiap.techchallenge.adapters.gateway;
+
+import com.fiap.techchallenge.domain.readmodels.IdempotencyRecord;
+import com.fiap.techchallenge.domain.repositories.IdempotencyKeyRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public class IdempotencyKeyRepositoryGateway implements IdempotencyKeyRepository {
+
+    // Insere a reserva ou assume uma abandonada; o RETURNING só traz linha quando a reserva é nossa
+    private static final String ACQUIRE_SQL =
+            "INSERT INTO idempotency_keys (idempotency_key, request_hash, status, created_at, updated_at) " +
+            "VALUES (?, ?, 'IN_PROGRESS', ?, ?) " +
+            "ON CONFLICT (idempotency_key) DO UPDATE SET updated_at = EXCLUDED.updated_at " +
+            "WHERE idempotency_keys.status = 'IN_PROGRESS' AND idempotency_keys.updated_at < ? " +
+            "AND idempotency_keys.request_hash = EXCLUDED.request_hash " +
+            "RETURNING idempotency_key";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdempotencyKeyRepositoryGateway(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional(timeoutString = "${app.datasource.timeouts.write:5}")
+    public boolean tryAcquire(String key, String requestHash, LocalDateTime now, LocalDateTime staleBefore) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        return !jdbcTemplate.queryForList(ACQUIRE_SQL, String.class,
+                key, requestHash, timestamp, timestamp, Timestamp.valueOf(staleBefore)).isEmpty();
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> findByKey(String key) {
+        return jdbcTemplate.query(
+                "SELECT idempotency_key, request_hash, order_id FROM idempotency_keys WHERE idempotency_key = ?",
+                (rs, rowNum) -> new IdempotencyRecord(rs.getString("idempotency_key"),
+                        rs.getString("request_hash"), rs.getObject("order_id", Long.class)),
+                key).stream().findFirst();
+    }
+
+    @Override
+    @Transactional(timeoutString = "${app.datasource.timeouts.write:5}")
+    public boolean complete(String key, Long orderId, LocalDateTime now) {
+        return jdbcTemplate.update(
+                "UPDATE idempotency_keys SET status = 'COMPLETED', order_id = ?, updated_at = ? " +
+                "WHERE idempotency_key = ? AND status = 'IN_PROGRESS'",
+                orderId, Timestamp.valueOf(now), key) == 1;
+    }
+
+    @Override
+    @Transactional(timeoutString = "${app.datasource.timeouts.write:5}")
+    public void release(String key) {
+        jdbcTemplate.update("DELETE FROM idempotency_keys WHERE idempotency_key = ? AND status = 'IN_PROGRESS'", key);
+    }
+
+    @Override
+    public int deleteOlderThan(LocalDateTime cutoff) {
+        return jdbcTemplate.update("DELETE FROM idempotency_keys WHERE updated_at < ?", Timestamp.valueOf(cutoff));
+    }
+}
@@ -0,0 +1,41 @@
+package com.fiap.techchallenge.adapters.gateway;
+
+import com.fiap.techchallenge.domain.repositories.JobLeaseRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.UUID;
+
+public class JobLeaseRepositoryGateway implements JobLeaseRepository {
+
+    // Insere, renova (mesmo dono) ou assume um vencido; o RETURNING só traz linha quando o lease é nosso.
+    // O relógio é o do banco: instâncias com horário diferente não se atropelam
+    private static final String ACQUIRE_SQL =
+            "INSERT INTO job_leases (job_name, owner, expires_at) " +
+            "VALUES (?, ?, LOCALTIMESTAMP + make_interval(secs => ?)) " +
+            "ON CONFLICT (job_name) DO UPDATE SET owner = EXCLUDED.owner, expires_at = EXCLUDED.expires_at " +
+            "WHERE job_leases.owner = EXCLUDED.owner OR job_leases.expires_at < LOCALTIMESTAMP " +
+            "RETURNING job_name";
+
+    private final JdbcTemplate jdbcTemplate;
+    // Uma identidade por processo
+    private final String owner = UUID.randomUUID().toString();
+
+    public JobLeaseRepositoryGateway(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional(timeoutString = "${app.datasource.timeouts.write:5}")
+    public boolean tryAcquire(String jobName, Duration duration) {
+        return !jdbcTemplate.queryForList(ACQUIRE_SQL, String.class,
+                jobName, owner, duration.toMillis() / 1000.0).isEmpty();
+    }
+
+    @Override
+    @Transactional(timeoutString = "${app.datasource.timeouts.write:5}")
+    public void release(String jobName) {
+        jdbcTemplate.update("DELETE FROM job_leases WHERE job_name = ? AND owner = ?", jobName, owner);
+    }
+}
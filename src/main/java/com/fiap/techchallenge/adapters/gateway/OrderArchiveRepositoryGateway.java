@@ -0,0 +1,165 @@
+package com.fiap.techchallenge.adapters.gateway;
+
+import com.fiap.techchallenge.application.usecases.mappers.OrderMapper;
+import com.fiap.techchallenge.domain.entities.Money;
+import com.fiap.techchallenge.domain.entities.Order;
+import com.fiap.techchallenge.domain.entities.OrderStatus;
+import com.fiap.techchallenge.domain.entities.StatusPayment;
+import com.fiap.techchallenge.domain.readmodels.OrderState;
+import com.fiap.techchallenge.domain.repositories.OrderArchiveRepository;
+import com.fiap.techchallenge.external.datasource.entities.OrderItemJpaEntity;
+import com.fiap.techchallenge.external.datasource.entities.OrderJpaEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Pedidos finalizados movidos de orders/order_items para as tabelas
+ * particionadas orders_archive/order_items_archive (uma partição por mês de criação).
+ */
+public class OrderArchiveRepositoryGateway implements OrderArchiveRepository {
+
+    private static final String PENDING_MONTHS_SQL =
+            "SELECT DISTINCT date_trunc('month', created_at)::date FROM orders " +
+            "WHERE status = 'FINISHED' AND updated_at < ?";
+
+    // Um único statement: trava o lote (SKIP LOCKED para não disputar com outra instância),
+    // move itens e pedidos e devolve a quantidade de pedidos arquivados
+    private static final String ARCHIVE_BATCH_SQL =
+            "WITH batch AS (" +
+            "  SELECT id, created_at FROM orders" +
+            "  WHERE status = 'FINISHED' AND updated_at < ?" +
+            "  ORDER BY updated_at LIMIT ? FOR UPDATE SKIP LOCKED" +
+            "), moved_items AS (" +
+            "  DELETE FROM order_items i USING batch b WHERE i.order_id = b.id" +
+            "  RETURNING i.id, i.order_id, b.created_at AS order_created_at, i.product_id, i.product_name," +
+            "            i.category_id, i.category_name, i.quantity, i.unit_price, i.sub_total" +
+            "), archived_items AS (" +
+            "  INSERT INTO order_items_archive (id, order_id, order_created_at, product_id, product_name," +
+            "                                   category_id, category_name, quantity, unit_price, sub_total)" +
+            "  SELECT * FROM moved_items" +
+            "), moved_orders AS (" +
+            "  DELETE FROM orders o USING batch b WHERE o.id = b.id" +
+            "  RETURNING o.id, o.customer_id, o.total_amount, o.status, o.status_payment, o.id_payment," +
+            "            o.created_at, o.updated_at" +
+            "), archived_orders AS (" +
+            "  INSERT INTO orders_archive (id, customer_id, total_amount, status, status_payment, id_payment," +
+            "                              created_at, updated_at)" +
+            "  SELECT * FROM moved_orders RETURNING id" +
+            ") SELECT COUNT(*) FROM archived_orders";
+
+    private static final String SELECT_ORDER_SQL =
+            "SELECT id, customer_id, total_amount, status, status_payment, id_payment, created_at, updated_at " +
+            "FROM orders_archive ";
+
+    private static final String SELECT_STATE_SQL = "SELECT id, status, status_payment FROM orders_archive ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public OrderArchiveRepositoryGateway(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public boolean preparePartitions(LocalDateTime finishedBefore) {
+        // Partições criadas fora da transação do lote: o DDL trava a tabela pai só por um instante
+        List<LocalDate> months = jdbcTemplate.queryForList(PENDING_MONTHS_SQL, LocalDate.class,
+                Timestamp.valueOf(finishedBefore));
+        for (LocalDate month : months) {
+            jdbcTemplate.queryForObject("SELECT ensure_order_archive_partition(?)", Object.class, month);
+        }
+        return !months.isEmpty();
+    }
+
+    @Override
+    public int archiveFinishedOrders(LocalDateTime finishedBefore, int batchSize) {
+        Integer archived = transactionTemplate.execute(status -> jdbcTemplate.queryForObject(
+                ARCHIVE_BATCH_SQL, Integer.class, Timestamp.valueOf(finishedBefore), batchSize));
+        return archived != null ? archived : 0;
+    }
+
+    @Override
+    public Optional<Order> findById(Long id) {
+        return findOne(SELECT_ORDER_SQL + "WHERE id = ?", id);
+    }
+
+    @Override
+    public Optional<Order> findByIdPayment(Long idPayment) {
+        return findOne(SELECT_ORDER_SQL + "WHERE id_payment = ?", idPayment);
+    }
+
+    @Override
+    public List<OrderState> findStatesByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(SELECT_STATE_SQL + "WHERE id = ANY (?)", OrderArchiveRepositoryGateway::toOrderState,
+                (Object) ids.toArray(new Long[0]));
+    }
+
+    @Override
+    public Optional<OrderState> findStateByIdPayment(Long idPayment) {
+        return jdbcTemplate.query(SELECT_STATE_SQL + "WHERE id_payment = ?", OrderArchiveRepositoryGateway::toOrderState,
+                idPayment).stream().findFirst();
+    }
+
+    @Override
+    public boolean existsByProductId(UUID productId) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM order_items_archive WHERE product_id = ?)", Boolean.class, productId));
+    }
+
+    private static OrderState toOrderState(ResultSet rs, int rowNum) throws SQLException {
+        return new OrderState(rs.getLong("id"), OrderStatus.valueOf(rs.getString("status")),
+                StatusPayment.valueOf(rs.getString("status_payment")));
+    }
+
+    private Optional<Order> findOne(String sql, Long key) {
+        List<OrderJpaEntity> orders = jdbcTemplate.query(sql,
+                (rs, rowNum) -> {
+                    OrderJpaEntity order = new OrderJpaEntity();
+                    order.setId(rs.getLong("id"));
+                    order.setCustomerId(rs.getObject("customer_id", UUID.class));
+                    order.setTotalAmount(Money.of(rs.getBigDecimal("total_amount")));
+                    order.setStatus(OrderJpaEntity.OrderStatusJpa.valueOf(rs.getString("status")));
+                    order.setStatusPayment(OrderJpaEntity.StatusPaymentJpa.valueOf(rs.getString("status_payment")));
+                    order.setIdPayment(rs.getObject("id_payment", Long.class));
+                    order.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
+                    order.setUpdatedAt(rs.getTimestamp("updated_at").toLocalDateTime());
+                    return order;
+                },
+                key);
+        if (orders.isEmpty()) {
+            return Optional.empty();
+        }
+
+        OrderJpaEntity order = orders.get(0);
+        // order_created_at na condição limita a leitura à partição do pedido
+        order.setItems(jdbcTemplate.query(
+                "SELECT id, product_id, product_name, category_id, category_name, quantity, unit_price, sub_total " +
+                "FROM order_items_archive WHERE order_id = ? AND order_created_at = ?",
+                (rs, rowNum) -> new OrderItemJpaEntity(
+                        rs.getObject("id", UUID.class),
+                        rs.getObject("product_id", UUID.class),
+                        null,
+                        rs.getString("product_name"),
+                        rs.getObject("category_id", UUID.class),
+                        rs.getString("category_name"),
+                        rs.getInt("quantity"),
+                        Money.of(rs.getBigDecimal("unit_price")),
+                        Money.of(rs.getBigDecimal("sub_total"))),
+                order.getId(), Timestamp.valueOf(order.getCreatedAt())));
+        return Optional.of(OrderMapper.toDomainEntity(order));
+    }
+}
@@ -3,24 +3,47 @@ package com.fiap.techchallenge.adapters.gateway;
 import com.fiap.techchallenge.application.usecases.mappers.OrderMapper;
 import com.fiap.techchallenge.domain.entities.Order;
 import com.fiap.techchallenge.domain.entities.OrderStatus;
+import com.fiap.techchallenge.domain.entities.StatusPayment;
+import com.fiap.techchallenge.domain.exception.IdempotencyKeyInProgressException;
+import com.fiap.techchallenge.domain.readmodels.OrderState;
+import com.fiap.techchallenge.domain.readmodels.OrderItemSummary;
+import com.fiap.techchallenge.domain.readmodels.OrderSummary;
+import com.fiap.techchallenge.domain.readmodels.PendingPayment;
+import com.fiap.techchallenge.domain.repositories.IdempotencyKeyRepository;
+import com.fiap.techchallenge.domain.repositories.OrderArchiveRepository;
 import com.fiap.techchallenge.domain.repositories.OrderRepository;
 import com.fiap.techchallenge.external.datasource.entities.OrderJpaEntity;
 import com.fiap.techchallenge.external.datasource.repositories.OrderJpaRepository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 public class OrderRepositoryGateway implements OrderRepository {
 
     private final OrderJpaRepository orderJpaRepository;
+    private final OrderArchiveRepository orderArchiveRepository;
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
 
-    public OrderRepositoryGateway(OrderJpaRepository orderJpaRepository) {
+    public OrderRepositoryGateway(OrderJpaRepository orderJpaRepository, OrderArchiveRepository orderArchiveRepository,
+                                  IdempotencyKeyRepository idempotencyKeyRepository) {
         this.orderJpaRepository = orderJpaRepository;
+        this.orderArchiveRepository = orderArchiveRepository;
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
     }
 
     @Override
+    @Transactional(timeoutString = "${app.datasource.timeouts.write:5}")
     public Order save(Order order) {
         var jpaEntity = OrderMapper.toJpaEntity(order);
         var savedEntity = orderJpaRepository.save(jpaEntity);
@@ -28,40 +51,164 @@ public class OrderRepositoryGateway implements OrderRepository {
     }
 
     @Override
+    @Transactional(timeoutString = "${app.datasource.timeouts.write:5}")
+    public Order saveCompletingIdempotencyKey(Order order, String idempotencyKey, LocalDateTime completedAt) {
+        Order savedOrder = save(order);
+        // Sem a reserva (concluída por outra execução) o INSERT do pedido é desfeito junto
+        if (!idempotencyKeyRepository.complete(idempotencyKey, savedOrder.getId(), completedAt)) {
+            throw new IdempotencyKeyInProgressException("A request with this Idempotency-Key was already completed");
+        }
+        return savedOrder;
+    }
+
+    @Override
+    @Transactional(readOnly = true, timeoutString = "${app.datasource.timeouts.query:5}")
     public Optional<Order> findById(Long id) {
+        // Pedidos finalizados antigos já foram movidos para o arquivo
         return orderJpaRepository.findById(id)
-                .map(OrderMapper::toDomainEntity);
+                .map(OrderMapper::toDomainEntity)
+                .or(() -> orderArchiveRepository.findById(id));
     }
 
     @Override
     public Optional<Order> findByIdPayment(Long id) {
         return orderJpaRepository.findByIdPayment(id)
-                .map(OrderMapper::toDomainEntity);
+                .map(OrderMapper::toDomainEntity)
+                .or(() -> orderArchiveRepository.findByIdPayment(id));
     }
 
     @Override
+    @Transactional(readOnly = true, timeoutString = "${app.datasource.timeouts.query:5}")
     public List<Order> findByOptionalStatus(OrderStatus status) {
         OrderJpaEntity.OrderStatusJpa jpaStatus = null;
         if (status != null) {
             jpaStatus = mapToJpaStatus(status);
         }
-        return orderJpaRepository.findByOptionalStatus(jpaStatus)
-                .stream()
-                .map(OrderMapper::toDomainEntity)
-                .collect(Collectors.toList());
+        return OrderMapper.toDomainEntities(orderJpaRepository.findByOptionalStatus(jpaStatus));
     }
 
     @Override
+    @Transactional(readOnly = true, timeoutString = "${app.datasource.timeouts.query:5}")
     public List<Order> findAll() {
-        return orderJpaRepository.findAll()
-                .stream()
-                .map(OrderMapper::toDomainEntity)
-                .collect(Collectors.toList());
+        return OrderMapper.toDomainEntities(orderJpaRepository.findAll());
+    }
+
+    @Override
+    @Transactional(readOnly = true, timeoutString = "${app.datasource.timeouts.query:5}")
+    public List<OrderSummary> findSummariesByOptionalStatus(OrderStatus status) {
+        var rows = orderJpaRepository.findSummariesByOptionalStatus(status != null ? mapToJpaStatus(status) : null);
+        if (rows.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // Itens de todos os pedidos em uma segunda consulta, agrupados em memória
+        Map<Long, List<OrderItemSummary>> itemsByOrder = new HashMap<>();
+        List<Long> orderIds = rows.stream().map(OrderJpaRepository.OrderSummaryRow::getId).collect(Collectors.toList());
+        for (var item : orderJpaRepository.findItemSummariesByOrderIds(orderIds)) {
+            itemsByOrder.computeIfAbsent(item.getOrderId(), id -> new ArrayList<>())
+                    .add(new OrderItemSummary(item.getProductName(), item.getQuantity()));
+        }
+
+        List<OrderSummary> summaries = new ArrayList<>(rows.size());
+        for (var row : rows) {
+            summaries.add(OrderMapper.toOrderSummary(row, itemsByOrder.getOrDefault(row.getId(), Collections.emptyList())));
+        }
+        return summaries;
+    }
+
+    @Override
+    @Transactional(timeoutString = "${app.datasource.timeouts.write:5}")
+    public boolean updateStatus(Long id, Set<OrderStatus> expectedStatuses, StatusPayment requiredPayment,
+                                OrderStatus newStatus, LocalDateTime updatedAt) {
+        if (expectedStatuses.isEmpty()) {
+            return false;
+        }
+        var jpaExpected = expectedStatuses.stream().map(this::mapToJpaStatus).collect(Collectors.toList());
+        return orderJpaRepository.updateStatusIfIn(id, jpaExpected, OrderMapper.toJpaPaymentStatus(requiredPayment),
+                mapToJpaStatus(newStatus), updatedAt) > 0;
+    }
+
+    @Override
+    @Transactional(timeoutString = "${app.datasource.timeouts.write:5}")
+    public boolean updatePaymentStatus(Long idPayment, StatusPayment expectedPayment, StatusPayment newPayment,
+                                       OrderStatus newStatus, LocalDateTime updatedAt) {
+        return orderJpaRepository.updatePaymentStatusIf(idPayment,
+                OrderMapper.toJpaPaymentStatus(expectedPayment),
+                OrderMapper.toJpaPaymentStatus(newPayment),
+                newStatus != null ? mapToJpaStatus(newStatus) : null,
+                updatedAt) > 0;
+    }
+
+    @Override
+    @Transactional(timeoutString = "${app.datasource.timeouts.write:5}")
+    public Set<Long> updateStatuses(Collection<Long> ids, Set<OrderStatus> expectedStatuses, StatusPayment requiredPayment,
+                                   OrderStatus newStatus, LocalDateTime updatedAt) {
+        if (ids.isEmpty() || expectedStatuses.isEmpty()) {
+            return Collections.emptySet();
+        }
+        var jpaExpected = expectedStatuses.stream().map(status -> mapToJpaStatus(status).name()).collect(Collectors.toList());
+        var jpaPayment = OrderMapper.toJpaPaymentStatus(requiredPayment);
+        return new HashSet<>(orderJpaRepository.updateStatusesIfIn(ids, jpaExpected,
+                jpaPayment != null ? jpaPayment.name() : null, mapToJpaStatus(newStatus).name(), updatedAt));
+    }
+
+    @Override
+    @Transactional(timeoutString = "${app.datasource.timeouts.write:5}")
+    public Set<Long> updatePaymentStatuses(Collection<Long> idPayments, StatusPayment expectedPayment,
+                                           StatusPayment newPayment, OrderStatus newStatus, LocalDateTime updatedAt) {
+        if (idPayments.isEmpty()) {
+            return Collections.emptySet();
+        }
+        return new HashSet<>(orderJpaRepository.updatePaymentStatusesIf(idPayments,
+                OrderMapper.toJpaPaymentStatus(expectedPayment).name(),
+                OrderMapper.toJpaPaymentStatus(newPayment).name(),
+                newStatus != null ? mapToJpaStatus(newStatus).name() : null,
+                updatedAt));
+    }
+
+    @Override
+    @Transactional(readOnly = true, timeoutString = "${app.datasource.timeouts.query:5}")
+    public List<PendingPayment> findStalePendingPayments(LocalDateTime updatedBefore, Long afterOrderId, int limit) {
+        List<OrderJpaRepository.PendingPaymentRow> rows = orderJpaRepository.findStalePendingPayments(
+                updatedBefore, afterOrderId != null ? afterOrderId : Long.MIN_VALUE, limit);
+        List<PendingPayment> payments = new ArrayList<>(rows.size());
+        for (OrderJpaRepository.PendingPaymentRow row : rows) {
+            payments.add(new PendingPayment(row.getOrderId(), row.getIdPayment()));
+        }
+        return payments;
+    }
+
+    @Override
+    public List<OrderState> findStatesByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<OrderState> states = new ArrayList<>(OrderMapper.toOrderStates(orderJpaRepository.findStatesByIds(ids)));
+        if (states.size() < ids.size()) {
+            // Os que faltam podem já ter sido arquivados: o chamador responde conflito, não 404
+            Set<Long> missing = new HashSet<>(ids);
+            states.forEach(state -> missing.remove(state.getId()));
+            states.addAll(orderArchiveRepository.findStatesByIds(missing));
+        }
+        return states;
+    }
+
+    @Override
+    public Optional<OrderState> findStateById(Long id) {
+        return orderJpaRepository.findStateById(id).map(OrderMapper::toOrderState)
+                .or(() -> orderArchiveRepository.findStatesByIds(List.of(id)).stream().findFirst());
+    }
+
+    @Override
+    public Optional<OrderState> findStateByIdPayment(Long idPayment) {
+        return orderJpaRepository.findStateByIdPayment(idPayment).map(OrderMapper::toOrderState)
+                .or(() -> orderArchiveRepository.findStateByIdPayment(idPayment));
     }
 
     @Override
     public boolean existsByProductId(UUID productId) {
-        return orderJpaRepository.existsByItemsProductId(productId);
+        return orderJpaRepository.existsByItemsProductId(productId)
+                || orderArchiveRepository.existsByProductId(productId);
     }
 
     private OrderJpaEntity.OrderStatusJpa mapToJpaStatus(OrderStatus status) {
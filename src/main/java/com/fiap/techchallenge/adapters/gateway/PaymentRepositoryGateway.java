@@ -1,7 +1,10 @@
 package com.fiap.techchallenge.adapters.gateway;
 
+import com.fiap.techchallenge.domain.entities.Money;
+import com.fiap.techchallenge.domain.entities.StatusPayment;
 import com.fiap.techchallenge.domain.repositories.PaymentRepository;
 import com.fiap.techchallenge.external.datasource.mercadopago.MercadoPagoClient;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 public class PaymentRepositoryGateway implements PaymentRepository {
 
@@ -13,14 +16,20 @@ public class PaymentRepositoryGateway implements PaymentRepository {
 
     @Override
     public Long createPaymentOrder(
-        Double amount,
+        Money amount,
         String description,
         String paymentMethodId,
         Integer installments,
         String payerEmail,
         String identificationType,
-        String identificationNumber
+        String identificationNumber,
+        String idempotencyKey
     ) {
+        // A chamada ao Mercado Pago leva segundos; dentro de uma transação ela seguraria
+        // uma conexão do pool durante toda a espera
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Payment provider must not be called inside a database transaction");
+        }
         return mercadoPagoClient.createPaymentOrder(
             amount,
             description,
@@ -28,7 +37,16 @@ public class PaymentRepositoryGateway implements PaymentRepository {
             installments,
             payerEmail,
             identificationType,
-            identificationNumber
+            identificationNumber,
+            idempotencyKey
         );
     }
+
+    @Override
+    public StatusPayment getPaymentStatus(Long paymentId) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Payment provider must not be called inside a database transaction");
+        }
+        return StatusPayment.fromMercadoPagoStatus(mercadoPagoClient.getPaymentStatus(paymentId));
+    }
 }
@@ -2,61 +2,137 @@ package com.fiap.techchallenge.adapters.gateway;
 
 import com.fiap.techchallenge.application.usecases.mappers.ProductMapper;
 import com.fiap.techchallenge.domain.entities.Product;
+import com.fiap.techchallenge.domain.readmodels.ProductSummary;
+import com.fiap.techchallenge.domain.readmodels.ResourceVersion;
 import com.fiap.techchallenge.domain.repositories.ProductRepository;
 import com.fiap.techchallenge.external.datasource.repositories.ProductJpaRepository;
+import com.fiap.techchallenge.infrastructure.cache.RequestIdentityCache;
+import com.fiap.techchallenge.infrastructure.search.ProductSearchIndex;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 public class ProductRepositoryGateway implements ProductRepository {
 
     private final ProductJpaRepository productJpaRepository;
+    private final ProductSearchIndex productSearchIndex;
+    private final JdbcTemplate jdbcTemplate;
+    private final ReadOnlyLookup readOnlyLookup;
 
-    public ProductRepositoryGateway(ProductJpaRepository productJpaRepository) {
+    private static final String UPSERT_SQL =
+            "INSERT INTO products (id, name, description, price, category_id, active) VALUES (?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (id) DO UPDATE SET name = EXCLUDED.name, description = EXCLUDED.description, " +
+            "price = EXCLUDED.price, category_id = EXCLUDED.category_id, active = EXCLUDED.active";
+
+    public ProductRepositoryGateway(ProductJpaRepository productJpaRepository, ProductSearchIndex productSearchIndex,
+                                    JdbcTemplate jdbcTemplate, ReadOnlyLookup readOnlyLookup) {
         this.productJpaRepository = productJpaRepository;
+        this.productSearchIndex = productSearchIndex;
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyLookup = readOnlyLookup;
     }
 
     @Override
+    @Transactional(timeoutString = "${app.datasource.timeouts.write:5}")
     public Product save(Product product) {
         var jpaEntity = ProductMapper.toJpaEntity(product);
         var savedEntity = productJpaRepository.save(jpaEntity);
-        return ProductMapper.toDomainEntity(savedEntity);
+        Product savedProduct = ProductMapper.toDomainEntity(savedEntity);
+        productSearchIndex.put(savedProduct);
+        RequestIdentityCache.put(Product.class, savedProduct.getId(), savedProduct);
+        return savedProduct;
     }
 
     @Override
     public Optional<Product> findById(UUID id) {
-        return productJpaRepository.findById(id)
-                .map(ProductMapper::toDomainEntity);
+        // O mesmo produto em vários itens do pedido é lido uma vez só na requisição; só o miss abre transação
+        return RequestIdentityCache.findById(Product.class, id, () -> readOnlyLookup.find(
+                () -> productJpaRepository.findById(id).map(ProductMapper::toDomainEntity)));
+    }
+
+    @Override
+    @Transactional(readOnly = true, timeoutString = "${app.datasource.timeouts.query:5}")
+    public Optional<ResourceVersion> findVersionById(UUID id) {
+        return productJpaRepository.findVersionById(id)
+                .map(row -> new ResourceVersion(row.getTag(), row.getLastModified()));
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return RequestIdentityCache.existsById(Product.class, id,
+                () -> readOnlyLookup.exists(() -> productJpaRepository.existsById(id)));
+    }
+
+    @Override
+    public boolean existsByCategoryId(UUID categoryId) {
+        return productJpaRepository.existsByCategoryId(categoryId);
     }
 
     @Override
     public List<Product> findByName(String name) {
-        return productJpaRepository.findByNameContainingIgnoreCase(name)
-                .stream()
-                .map(ProductMapper::toDomainEntity)
-                .collect(Collectors.toList());
+        // Busca no índice em memória, sem transação; o banco só é lido na carga
+        productSearchIndex.loadIfNecessary(() -> readOnlyLookup.load(
+                () -> ProductMapper.toDomainEntities(productJpaRepository.findAll())));
+        return productSearchIndex.search(name);
     }
 
     @Override
+    @Transactional(readOnly = true, timeoutString = "${app.datasource.timeouts.query:5}")
     public List<Product> findByCategoryId(UUID categoryId) {
-        return productJpaRepository.findByCategoryId(categoryId)
-                .stream()
-                .map(ProductMapper::toDomainEntity)
-                .collect(Collectors.toList());
+        return ProductMapper.toDomainEntities(productJpaRepository.findByCategoryId(categoryId));
     }
 
     @Override
+    @Transactional(readOnly = true, timeoutString = "${app.datasource.timeouts.query:5}")
     public List<Product> findAll() {
-        return productJpaRepository.findAll()
-                .stream()
-                .map(ProductMapper::toDomainEntity)
-                .collect(Collectors.toList());
+        return ProductMapper.toDomainEntities(productJpaRepository.findAll());
+    }
+
+    @Override
+    @Transactional(readOnly = true, timeoutString = "${app.datasource.timeouts.query:5}")
+    public List<ProductSummary> findActiveSummaries(UUID categoryId) {
+        return productJpaRepository.findActiveSummaries(categoryId);
+    }
+
+    @Override
+    @Transactional(timeoutString = "${app.datasource.timeouts.bulk:60}")
+    public int upsertAll(List<Product> products) {
+        if (products.isEmpty()) {
+            return 0;
+        }
+        // JDBC batch direto: sem contexto de persistência nem SELECT prévio por produto
+        jdbcTemplate.batchUpdate(UPSERT_SQL, products, products.size(), (ps, product) -> {
+            ps.setObject(1, product.getId());
+            ps.setString(2, product.getName());
+            ps.setString(3, product.getDescription());
+            ps.setBigDecimal(4, product.getPrice());
+            ps.setObject(5, product.getCategory() != null ? product.getCategory().getId() : null);
+            ps.setBoolean(6, product.isActive());
+        });
+        productSearchIndex.invalidate();
+        RequestIdentityCache.evictAll(Product.class);
+        return products.size();
+    }
+
+    @Override
+    public Map<String, UUID> findIdsByName() {
+        Map<String, UUID> ids = new HashMap<>();
+        for (var row : productJpaRepository.findAllIdsAndNames()) {
+            ids.putIfAbsent(row.getName().trim().toLowerCase(), row.getId());
+        }
+        return ids;
     }
 
     @Override
+    @Transactional(timeoutString = "${app.datasource.timeouts.write:5}")
     public void deleteById(UUID id) {
         productJpaRepository.deleteById(id);
+        productSearchIndex.remove(id);
+        RequestIdentityCache.evict(Product.class, id);
     }
 }
@@ -0,0 +1,33 @@
+package com.fiap.techchallenge.adapters.gateway;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Leitura por id em transação read-only (réplica, timeout de consulta).
+ * <p>
+ * Os gateways consultam o {@link com.fiap.techchallenge.infrastructure.cache.RequestIdentityCache}
+ * fora de transação e só chamam este bean no miss: o hit não abre transação nem
+ * pede conexão ao pool.
+ * </p>
+ */
+public class ReadOnlyLookup {
+
+    @Transactional(readOnly = true, timeoutString = "${app.datasource.timeouts.query:5}")
+    public <T> Optional<T> find(Supplier<Optional<T>> loader) {
+        return loader.get();
+    }
+
+    @Transactional(readOnly = true, timeoutString = "${app.datasource.timeouts.query:5}")
+    public <T> T load(Supplier<T> loader) {
+        return loader.get();
+    }
+
+    @Transactional(readOnly = true, timeoutString = "${app.datasource.timeouts.query:5}")
+    public boolean exists(BooleanSupplier loader) {
+        return loader.getAsBoolean();
+    }
+}
@@ -0,0 +1,200 @@
+package com.fiap.techchallenge.adapters.gateway;
+
+import com.fiap.techchallenge.domain.entities.Money;
+import com.fiap.techchallenge.domain.readmodels.CategorySales;
+import com.fiap.techchallenge.domain.readmodels.DailySales;
+import com.fiap.techchallenge.domain.readmodels.ProductSales;
+import com.fiap.techchallenge.domain.repositories.SalesReportRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Tabelas sales_daily, product_sales_daily e category_sales_daily.
+ * <p>
+ * O refresh recalcula dia a dia (DELETE + INSERT ... SELECT) só os dias com pedidos
+ * alterados desde a última execução; os relatórios leem apenas as tabelas agregadas.
+ * O histórico entra em blocos de dias, um por execução, a partir do pedido mais antigo:
+ * cada bloco cabe no timeout de uma transação e o progresso fica em
+ * <code>report_refresh_state.backfill_next_day</code>.
+ * </p>
+ */
+public class SalesReportRepositoryGateway implements SalesReportRepository {
+
+    private static final String REPORT_NAME = "sales";
+
+    // Dia do pedido mais antigo, em andamento ou arquivado (LEAST ignora o lado vazio)
+    private static final String FIRST_ORDER_DAY_SQL =
+            "SELECT LEAST((SELECT MIN(created_at) FROM orders), (SELECT MIN(created_at) FROM orders_archive))::date";
+
+    // Itens vendidos em um intervalo de created_at, nos pedidos em andamento e nos arquivados
+    private static final String SOLD_ITEMS_CTE =
+            "WITH sold_items AS (" +
+            "  SELECT i.order_id, i.product_id, i.product_name, i.category_id, i.category_name," +
+            "         i.quantity, i.sub_total" +
+            "  FROM orders o JOIN order_items i ON i.order_id = o.id" +
+            "  WHERE o.status_payment = 'APROVADO' AND o.created_at >= ? AND o.created_at < ?" +
+            "  UNION ALL" +
+            "  SELECT i.order_id, i.product_id, i.product_name, i.category_id, i.category_name," +
+            "         i.quantity, i.sub_total" +
+            "  FROM orders_archive o" +
+            "  JOIN order_items_archive i ON i.order_id = o.id AND i.order_created_at = o.created_at" +
+            "  WHERE o.status_payment = 'APROVADO' AND o.created_at >= ? AND o.created_at < ?" +
+            ") ";
+
+    private static final String INSERT_DAILY_SQL =
+            SOLD_ITEMS_CTE +
+            "INSERT INTO sales_daily (day, orders_count, items_count, revenue, refreshed_at) " +
+            "SELECT ?, COUNT(DISTINCT order_id), SUM(quantity), SUM(sub_total), ? FROM sold_items " +
+            "HAVING COUNT(*) > 0";
+
+    private static final String INSERT_PRODUCTS_SQL =
+            SOLD_ITEMS_CTE +
+            "INSERT INTO product_sales_daily (day, product_id, product_name, category_id, category_name, quantity, revenue) " +
+            "SELECT ?, product_id, MAX(product_name), (ARRAY_AGG(category_id))[1], MAX(category_name)," +
+            "       SUM(quantity), SUM(sub_total) " +
+            "FROM sold_items GROUP BY product_id";
+
+    private static final String INSERT_CATEGORIES_SQL =
+            SOLD_ITEMS_CTE +
+            "INSERT INTO category_sales_daily (day, category_id, category_name, quantity, revenue) " +
+            "SELECT ?, category_id, MAX(category_name), SUM(quantity), SUM(sub_total) " +
+            "FROM sold_items GROUP BY category_id";
+
+    private static final String TOP_PRODUCTS_SQL =
+            "SELECT product_id, (ARRAY_AGG(product_name ORDER BY day DESC))[1] AS product_name," +
+            "       (ARRAY_AGG(category_name ORDER BY day DESC))[1] AS category_name," +
+            "       SUM(quantity) AS quantity, SUM(revenue) AS revenue " +
+            "FROM product_sales_daily WHERE day BETWEEN ? AND ? " +
+            "GROUP BY product_id ORDER BY quantity DESC, revenue DESC, product_id LIMIT ?";
+
+    private static final String CATEGORIES_SQL =
+            "SELECT category_id, (ARRAY_AGG(category_name ORDER BY day DESC))[1] AS category_name," +
+            "       SUM(quantity) AS quantity, SUM(revenue) AS revenue " +
+            "FROM category_sales_daily WHERE day BETWEEN ? AND ? " +
+            "GROUP BY category_id ORDER BY revenue DESC, category_name";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SalesReportRepositoryGateway(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional(timeoutString = "${app.datasource.timeouts.bulk:60}")
+    public int refreshChangedDays(LocalDateTime now, Duration overlap, int backfillDays) {
+        // Uma instância por vez; as demais pulam esta rodada
+        Boolean locked = jdbcTemplate.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(hashtext('report_refresh_' || ?))", Boolean.class, REPORT_NAME);
+        if (!Boolean.TRUE.equals(locked)) {
+            return -1;
+        }
+
+        List<RefreshState> states = jdbcTemplate.query(
+                "SELECT refreshed_until, backfill_next_day FROM report_refresh_state WHERE report_name = ?",
+                (rs, rowNum) -> new RefreshState(rs.getTimestamp("refreshed_until").toLocalDateTime(),
+                        rs.getObject("backfill_next_day", LocalDate.class)),
+                REPORT_NAME);
+        Set<LocalDate> days = new TreeSet<>();
+        LocalDate backfillNextDay;
+        if (states.isEmpty()) {
+            // Primeira execução: o histórico, inclusive o arquivado, entra em blocos a partir do dia mais antigo
+            backfillNextDay = jdbcTemplate.queryForObject(FIRST_ORDER_DAY_SQL, LocalDate.class);
+        } else {
+            // Com overlap: transações que gravaram updated_at antes do corte mas commitaram depois
+            Timestamp since = Timestamp.valueOf(states.get(0).refreshedUntil().minus(overlap));
+            days.addAll(jdbcTemplate.queryForList(
+                    "SELECT DISTINCT created_at::date FROM orders WHERE updated_at >= ?", LocalDate.class, since));
+            backfillNextDay = states.get(0).backfillNextDay();
+        }
+
+        if (backfillNextDay != null) {
+            // Até hoje: o que for criado depois deste corte o incremental pega pelo updated_at
+            LocalDate today = now.toLocalDate();
+            LocalDate last = backfillNextDay.plusDays(backfillDays - 1L);
+            if (last.isAfter(today)) {
+                last = today;
+            }
+            for (LocalDate day = backfillNextDay; !day.isAfter(last); day = day.plusDays(1)) {
+                days.add(day);
+            }
+            backfillNextDay = last.isBefore(today) ? last.plusDays(1) : null;
+        }
+
+        Timestamp refreshedAt = Timestamp.valueOf(now);
+        for (LocalDate day : days) {
+            rebuildDay(day, refreshedAt);
+        }
+
+        jdbcTemplate.update(
+                "INSERT INTO report_refresh_state (report_name, refreshed_until, backfill_next_day) VALUES (?, ?, ?) " +
+                "ON CONFLICT (report_name) DO UPDATE SET refreshed_until = EXCLUDED.refreshed_until, " +
+                "backfill_next_day = EXCLUDED.backfill_next_day",
+                REPORT_NAME, refreshedAt, backfillNextDay != null ? Date.valueOf(backfillNextDay) : null);
+        return days.size();
+    }
+
+    private void rebuildDay(LocalDate day, Timestamp refreshedAt) {
+        Date date = Date.valueOf(day);
+        Timestamp from = Timestamp.valueOf(day.atStartOfDay());
+        Timestamp to = Timestamp.valueOf(day.plusDays(1).atStartOfDay());
+
+        jdbcTemplate.update("DELETE FROM sales_daily WHERE day = ?", date);
+        jdbcTemplate.update("DELETE FROM product_sales_daily WHERE day = ?", date);
+        jdbcTemplate.update("DELETE FROM category_sales_daily WHERE day = ?", date);
+
+        jdbcTemplate.update(INSERT_DAILY_SQL, from, to, from, to, date, refreshedAt);
+        jdbcTemplate.update(INSERT_PRODUCTS_SQL, from, to, from, to, date);
+        jdbcTemplate.update(INSERT_CATEGORIES_SQL, from, to, from, to, date);
+    }
+
+    private record RefreshState(LocalDateTime refreshedUntil, LocalDate backfillNextDay) {
+    }
+
+    @Override
+    @Transactional(readOnly = true, timeoutString = "${app.datasource.timeouts.query:5}")
+    public List<DailySales> findDailySales(LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(
+                "SELECT day, orders_count, items_count, revenue FROM sales_daily WHERE day BETWEEN ? AND ? ORDER BY day",
+                (rs, rowNum) -> new DailySales(
+                        rs.getObject("day", LocalDate.class),
+                        rs.getInt("orders_count"),
+                        rs.getLong("items_count"),
+                        Money.of(rs.getBigDecimal("revenue"))),
+                Date.valueOf(from), Date.valueOf(to));
+    }
+
+    @Override
+    @Transactional(readOnly = true, timeoutString = "${app.datasource.timeouts.query:5}")
+    public List<ProductSales> findTopProducts(LocalDate from, LocalDate to, int limit) {
+        return jdbcTemplate.query(TOP_PRODUCTS_SQL,
+                (rs, rowNum) -> new ProductSales(
+                        rs.getObject("product_id", UUID.class),
+                        rs.getString("product_name"),
+                        rs.getString("category_name"),
+                        rs.getLong("quantity"),
+                        Money.of(rs.getBigDecimal("revenue"))),
+                Date.valueOf(from), Date.valueOf(to), limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true, timeoutString = "${app.datasource.timeouts.query:5}")
+    public List<CategorySales> findCategorySales(LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(CATEGORIES_SQL,
+                (rs, rowNum) -> new CategorySales(
+                        rs.getObject("category_id", UUID.class),
+                        rs.getString("category_name"),
+                        rs.getLong("quantity"),
+                        Money.of(rs.getBigDecimal("revenue"))),
+                Date.valueOf(from), Date.valueOf(to));
+    }
+}
@@ -7,7 +7,12 @@ import com.fiap.techchallenge.domain.repositories.*;
 import com.fiap.techchallenge.external.datasource.repositories.*;
 import com.fiap.techchallenge.external.datasource.mercadopago.MercadoPagoClient;
 import com.fiap.techchallenge.external.cognito.CognitoService;
+import com.fiap.techchallenge.infrastructure.analytics.OrderQueueAnalytics;
+import com.fiap.techchallenge.infrastructure.search.ProductSearchIndex;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
@@ -15,23 +20,58 @@ public class UseCaseConfig {
 
     // Repository Gateways (implementam as interfaces do domínio)
     @Bean
-    public CustomerRepository customerRepository(CustomerJpaRepository customerJpaRepository) {
-        return new CustomerRepositoryGateway(customerJpaRepository);
+    public ReadOnlyLookup readOnlyLookup() {
+        return new ReadOnlyLookup();
     }
 
     @Bean
-    public CategoryRepository categoryRepository(CategoryJpaRepository categoryJpaRepository) {
-        return new CategoryRepositoryGateway(categoryJpaRepository);
+    public CustomerRepository customerRepository(CustomerJpaRepository customerJpaRepository,
+                                                 ReadOnlyLookup readOnlyLookup) {
+        return new CustomerRepositoryGateway(customerJpaRepository, readOnlyLookup);
     }
 
     @Bean
-    public ProductRepository productRepository(ProductJpaRepository productJpaRepository) {
-        return new ProductRepositoryGateway(productJpaRepository);
+    public CategoryRepository categoryRepository(CategoryJpaRepository categoryJpaRepository,
+                                                 ProductSearchIndex productSearchIndex,
+                                                 JdbcTemplate jdbcTemplate,
+                                                 ReadOnlyLookup readOnlyLookup) {
+        return new CategoryRepositoryGateway(categoryJpaRepository, productSearchIndex, jdbcTemplate, readOnlyLookup);
     }
 
     @Bean
-    public OrderRepository orderRepository(OrderJpaRepository orderJpaRepository) {
-        return new OrderRepositoryGateway(orderJpaRepository);
+    public ProductRepository productRepository(ProductJpaRepository productJpaRepository,
+                                               ProductSearchIndex productSearchIndex,
+                                               JdbcTemplate jdbcTemplate,
+                                               ReadOnlyLookup readOnlyLookup) {
+        return new ProductRepositoryGateway(productJpaRepository, productSearchIndex, jdbcTemplate, readOnlyLookup);
+    }
+
+    @Bean
+    public OrderRepository orderRepository(OrderJpaRepository orderJpaRepository,
+                                           OrderArchiveRepository orderArchiveRepository,
+                                           IdempotencyKeyRepository idempotencyKeyRepository) {
+        return new OrderRepositoryGateway(orderJpaRepository, orderArchiveRepository, idempotencyKeyRepository);
+    }
+
+    @Bean
+    public OrderArchiveRepository orderArchiveRepository(JdbcTemplate jdbcTemplate,
+                                                         TransactionTemplate transactionTemplate) {
+        return new OrderArchiveRepositoryGateway(jdbcTemplate, transactionTemplate);
+    }
+
+    @Bean
+    public SalesReportRepository salesReportRepository(JdbcTemplate jdbcTemplate) {
+        return new SalesReportRepositoryGateway(jdbcTemplate);
+    }
+
+    @Bean
+    public IdempotencyKeyRepository idempotencyKeyRepository(JdbcTemplate jdbcTemplate) {
+        return new IdempotencyKeyRepositoryGateway(jdbcTemplate);
+    }
+
+    @Bean
+    public JobLeaseRepository jobLeaseRepository(JdbcTemplate jdbcTemplate) {
+        return new JobLeaseRepositoryGateway(jdbcTemplate);
     }
 
     @Bean
@@ -57,12 +97,32 @@ public class UseCaseConfig {
         return new ProductUseCaseImpl(productRepository, categoryRepository, orderRepository);
     }
 
+    @Bean
+    public CatalogUseCase catalogUseCase(ProductRepository productRepository, CategoryRepository categoryRepository) {
+        return new CatalogUseCaseImpl(productRepository, categoryRepository);
+    }
+
     @Bean
     public OrderUseCase orderUseCase(OrderRepository orderRepository,
                                     CustomerRepository customerRepository,
                                     ProductRepository productRepository,
-                                    PaymentRepository paymentRepository) {
-        return new OrderUseCaseImpl(orderRepository, customerRepository, productRepository, paymentRepository);
+                                    PaymentRepository paymentRepository,
+                                    IdempotencyKeyRepository idempotencyKeyRepository,
+                                    OrderQueueAnalytics orderQueueAnalytics) {
+        return new OrderUseCaseImpl(orderRepository, customerRepository, productRepository, paymentRepository,
+                idempotencyKeyRepository, orderQueueAnalytics);
+    }
+
+    @Bean
+    public OrderArchiveUseCase orderArchiveUseCase(OrderArchiveRepository orderArchiveRepository) {
+        return new OrderArchiveUseCaseImpl(orderArchiveRepository);
+    }
+
+    @Bean
+    public SalesReportUseCase salesReportUseCase(
+            SalesReportRepository salesReportRepository,
+            @Value("${app.reports.sales.backfill-days-per-run:31}") int backfillDaysPerRun) {
+        return new SalesReportUseCaseImpl(salesReportRepository, backfillDaysPerRun);
     }
 
     @Bean
@@ -70,6 +130,18 @@ public class UseCaseConfig {
         return new PaymentUseCaseImpl(paymentRepository);
     }
 
+    @Bean
+    public PaymentReconciliationUseCase paymentReconciliationUseCase(
+            OrderRepository orderRepository,
+            PaymentRepository paymentRepository,
+            JobLeaseRepository jobLeaseRepository,
+            OrderQueueAnalytics orderQueueAnalytics,
+            @Value("${app.payments.reconciliation.concurrency:4}") int concurrency,
+            @Value("${app.payments.reconciliation.rate-per-second:10}") double ratePerSecond) {
+        return new PaymentReconciliationUseCaseImpl(orderRepository, paymentRepository, jobLeaseRepository,
+                orderQueueAnalytics, concurrency, ratePerSecond);
+    }
+
     @Bean
     public PaymentNotificationUseCase paymentNotificationUseCase(OrderUseCase orderUseCase) {
         return new PaymentNotificationUseCaseImpl(orderUseCase);
@@ -91,11 +163,21 @@ public class UseCaseConfig {
         return new ProductController(productUseCase);
     }
 
+    @Bean
+    public CatalogController catalogController(CatalogUseCase catalogUseCase) {
+        return new CatalogController(catalogUseCase);
+    }
+
     @Bean
     public OrderController orderController(OrderUseCase orderUseCase) {
         return new OrderController(orderUseCase);
     }
 
+    @Bean
+    public SalesReportController salesReportController(SalesReportUseCase salesReportUseCase) {
+        return new SalesReportController(salesReportUseCase);
+    }
+
     @Bean
     public PaymentController paymentController(PaymentUseCase paymentUseCase) {
         return new PaymentController(paymentUseCase);
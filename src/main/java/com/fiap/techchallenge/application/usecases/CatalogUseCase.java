@@ -0,0 +1,86 @@
+package com.fiap.techchallenge.application.usecases;
+
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+
+public interface CatalogUseCase {
+
+    // Linha do arquivo de catálogo; error preenchido quando a linha nem pôde ser lida
+    public static class CatalogItemRequest {
+        private long line;
+        private UUID id;
+        private String name;
+        private String description;
+        private BigDecimal price;
+        private String category;
+        private Boolean active;
+        private String error;
+
+        public CatalogItemRequest() {}
+
+        public static CatalogItemRequest invalid(long line, String error) {
+            CatalogItemRequest request = new CatalogItemRequest();
+            request.setLine(line);
+            request.setError(error);
+            return request;
+        }
+
+        public long getLine() { return line; }
+        public void setLine(long line) { this.line = line; }
+        public UUID getId() { return id; }
+        public void setId(UUID id) { this.id = id; }
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+        public String getDescription() { return description; }
+        public void setDescription(String description) { this.description = description; }
+        public BigDecimal getPrice() { return price; }
+        public void setPrice(BigDecimal price) { this.price = price; }
+        public String getCategory() { return category; }
+        public void setCategory(String category) { this.category = category; }
+        public Boolean getActive() { return active; }
+        public void setActive(Boolean active) { this.active = active; }
+        public String getError() { return error; }
+        public void setError(String error) { this.error = error; }
+    }
+
+    public static class CatalogImportError {
+        private final long line;
+        private final String message;
+
+        public CatalogImportError(long line, String message) {
+            this.line = line;
+            this.message = message;
+        }
+
+        public long getLine() { return line; }
+        public String getMessage() { return message; }
+    }
+
+    public static class CatalogImportResult {
+        private final long received;
+        private final long upserted;
+        private final int categoriesCreated;
+        private final long failed;
+        private final List<CatalogImportError> errors;
+
+        public CatalogImportResult(long received, long upserted, int categoriesCreated, long failed,
+                                   List<CatalogImportError> errors) {
+            this.received = received;
+            this.upserted = upserted;
+            this.categoriesCreated = categoriesCreated;
+            this.failed = failed;
+            this.errors = errors;
+        }
+
+        public long getReceived() { return received; }
+        public long getUpserted() { return upserted; }
+        public int getCategoriesCreated() { return categoriesCreated; }
+        public long getFailed() { return failed; }
+        // Limitado aos primeiros erros; failed traz o total
+        public List<CatalogImportError> getErrors() { return errors; }
+    }
+
+    CatalogImportResult importCatalog(Iterator<CatalogItemRequest> items);
+}
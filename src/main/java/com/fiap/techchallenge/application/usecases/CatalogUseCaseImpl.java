@@ -0,0 +1,201 @@
+package com.fiap.techchallenge.application.usecases;
+
+import com.fiap.techchallenge.domain.entities.Category;
+import com.fiap.techchallenge.domain.entities.Product;
+import com.fiap.techchallenge.domain.readmodels.SavedCategories;
+import com.fiap.techchallenge.domain.repositories.CategoryRepository;
+import com.fiap.techchallenge.domain.repositories.ProductRepository;
+import com.fiap.techchallenge.infrastructure.logging.LogCategory;
+import com.fiap.techchallenge.infrastructure.logging.StructuredLogger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public class CatalogUseCaseImpl implements CatalogUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogUseCaseImpl.class);
+    private static final int CHUNK_SIZE = 1_000;
+    private static final int MAX_REPORTED_ERRORS = 1_000;
+    // Limites das colunas (varchar(255), numeric(38,2)): violação derrubaria o lote inteiro no banco
+    private static final int MAX_TEXT_LENGTH = 255;
+    private static final int MAX_PRICE_INTEGER_DIGITS = 36;
+
+    private final ProductRepository productRepository;
+    private final CategoryRepository categoryRepository;
+
+    public CatalogUseCaseImpl(ProductRepository productRepository, CategoryRepository categoryRepository) {
+        this.productRepository = productRepository;
+        this.categoryRepository = categoryRepository;
+    }
+
+    @Override
+    public CatalogImportResult importCatalog(Iterator<CatalogItemRequest> items) {
+        long startTime = System.currentTimeMillis();
+        ImportState state = new ImportState();
+        try {
+            StructuredLogger.setCategory(LogCategory.BUSINESS);
+            StructuredLogger.setOperation("ImportCatalog");
+
+            logger.info("Catalog import started");
+
+            // Categorias e produtos existentes são resolvidos uma única vez, não por linha
+            // Categorias casadas pelo nome normalizado, como os produtos: " Lanches" e "lanches" são "Lanches"
+            for (Category category : categoryRepository.findAll()) {
+                state.categoryIds.putIfAbsent(normalize(category.getName()), category.getId());
+            }
+            state.productIdsByName.putAll(productRepository.findIdsByName());
+
+            List<CatalogItemRequest> chunk = new ArrayList<>(CHUNK_SIZE);
+            while (items.hasNext()) {
+                chunk.add(items.next());
+                if (chunk.size() == CHUNK_SIZE) {
+                    importChunk(chunk, state);
+                    chunk.clear();
+                }
+            }
+            importChunk(chunk, state);
+
+            StructuredLogger.setDuration(System.currentTimeMillis() - startTime);
+            logger.info("Catalog import finished: received={}, upserted={}, failed={}, categoriesCreated={}",
+                       state.received, state.upserted, state.failed, state.categoriesCreated);
+
+            return new CatalogImportResult(state.received, state.upserted, state.categoriesCreated,
+                    state.failed, state.errors);
+
+        } catch (Exception e) {
+            StructuredLogger.setError("CATALOG_IMPORT_FAILED", e.getMessage());
+            logger.error("Failed to import catalog: received={}, upserted={}", state.received, state.upserted, e);
+            throw e;
+        } finally {
+            StructuredLogger.clear();
+        }
+    }
+
+    private void importChunk(List<CatalogItemRequest> chunk, ImportState state) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        state.received += chunk.size();
+
+        List<CatalogItemRequest> valid = new ArrayList<>(chunk.size());
+        Map<UUID, Long> lineById = new LinkedHashMap<>();
+        Map<String, String> missingCategories = new LinkedHashMap<>();
+        for (CatalogItemRequest item : chunk) {
+            String error = validate(item);
+            if (error != null) {
+                state.reject(item.getLine(), error);
+                continue;
+            }
+            UUID id = item.getId() != null
+                    ? item.getId()
+                    : state.productIdsByName.computeIfAbsent(normalize(item.getName()), key -> UUID.randomUUID());
+            // O mesmo produto duas vezes no mesmo upsert é erro no banco (ON CONFLICT não atualiza a linha duas vezes)
+            Long firstLine = lineById.putIfAbsent(id, item.getLine());
+            if (firstLine != null) {
+                state.reject(item.getLine(), "duplicate product, same id or name as line " + firstLine);
+                continue;
+            }
+            valid.add(item);
+            String categoryKey = normalize(item.getCategory());
+            if (!state.categoryIds.containsKey(categoryKey)) {
+                missingCategories.putIfAbsent(categoryKey, item.getCategory().trim());
+            }
+        }
+
+        try {
+            if (!missingCategories.isEmpty()) {
+                SavedCategories saved = categoryRepository.saveAllByName(missingCategories.values());
+                state.categoryIds.putAll(saved.getIds());
+                state.categoriesCreated += saved.getCreated();
+            }
+
+            List<Product> products = new ArrayList<>(valid.size());
+            Iterator<UUID> ids = lineById.keySet().iterator();
+            for (CatalogItemRequest item : valid) {
+                String categoryName = item.getCategory().trim();
+                UUID categoryId = state.categoryIds.get(normalize(categoryName));
+                products.add(Product.builder()
+                        .id(ids.next())
+                        .name(item.getName().trim())
+                        .description(item.getDescription())
+                        .price(item.getPrice())
+                        .category(new Category(categoryId, categoryName))
+                        .active(item.getActive() == null || item.getActive())
+                        .build());
+            }
+            state.upserted += productRepository.upsertAll(products);
+        } catch (RuntimeException e) {
+            // Os lotes anteriores já foram gravados: este vai para o relatório e a importação segue
+            String cause = rootCause(e).getMessage();
+            logger.warn("Catalog import chunk failed: rows={}, error={}", valid.size(), cause);
+            for (CatalogItemRequest item : valid) {
+                state.reject(item.getLine(), "not imported, database error: " + cause);
+            }
+        }
+    }
+
+    private static String normalize(String name) {
+        return name.trim().toLowerCase();
+    }
+
+    private static Throwable rootCause(Throwable e) {
+        Throwable cause = e;
+        while (cause.getCause() != null && cause.getCause() != cause) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    private String validate(CatalogItemRequest item) {
+        if (item.getError() != null) {
+            return item.getError();
+        }
+        if (item.getName() == null || item.getName().isBlank()) {
+            return "name is required";
+        }
+        if (item.getPrice() == null || item.getPrice().compareTo(BigDecimal.ZERO) <= 0) {
+            return "price must be greater than zero";
+        }
+        if (item.getCategory() == null || item.getCategory().isBlank()) {
+            return "category is required";
+        }
+        if (item.getName().trim().length() > MAX_TEXT_LENGTH) {
+            return "name must have at most " + MAX_TEXT_LENGTH + " characters";
+        }
+        if (item.getDescription() != null && item.getDescription().length() > MAX_TEXT_LENGTH) {
+            return "description must have at most " + MAX_TEXT_LENGTH + " characters";
+        }
+        if (item.getCategory().trim().length() > MAX_TEXT_LENGTH) {
+            return "category must have at most " + MAX_TEXT_LENGTH + " characters";
+        }
+        if (item.getPrice().precision() - item.getPrice().scale() > MAX_PRICE_INTEGER_DIGITS) {
+            return "price is too large";
+        }
+        return null;
+    }
+
+    private static class ImportState {
+        private final Map<String, UUID> categoryIds = new HashMap<>();
+        private final Map<String, UUID> productIdsByName = new HashMap<>();
+        private final List<CatalogImportError> errors = new ArrayList<>();
+        private long received;
+        private long upserted;
+        private long failed;
+        private int categoriesCreated;
+
+        private void reject(long line, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new CatalogImportError(line, message));
+            }
+        }
+    }
+}
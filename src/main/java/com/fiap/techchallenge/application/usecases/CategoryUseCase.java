@@ -1,6 +1,7 @@
 package com.fiap.techchallenge.application.usecases;
 
 import com.fiap.techchallenge.domain.entities.Category;
+import com.fiap.techchallenge.domain.readmodels.ResourceVersion;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,6 +11,7 @@ public interface CategoryUseCase {
     Category createCategory(String name);
     Category updateCategory(UUID id, String name);
     Optional<Category> findById(UUID id);
+    Optional<ResourceVersion> findVersionById(UUID id);
     List<Category> findAll();
     void deleteById(UUID id);
 }
@@ -1,9 +1,9 @@
 package com.fiap.techchallenge.application.usecases;
 
 import com.fiap.techchallenge.domain.entities.Category;
-import com.fiap.techchallenge.domain.entities.Product;
 import com.fiap.techchallenge.domain.exception.DomainException;
 import com.fiap.techchallenge.domain.exception.NotFoundException;
+import com.fiap.techchallenge.domain.readmodels.ResourceVersion;
 import com.fiap.techchallenge.domain.repositories.CategoryRepository;
 import com.fiap.techchallenge.domain.repositories.ProductRepository;
 import com.fiap.techchallenge.infrastructure.logging.LogCategory;
@@ -80,13 +80,7 @@ public class CategoryUseCaseImpl implements CategoryUseCase {
             }
 
             Category updatedCategory = categoryRepository.findById(id)
-                    .map(category -> {
-                        Category updated = Category.builder()
-                                .id(category.getId())
-                                .name(name)
-                                .build();
-                        return categoryRepository.save(updated);
-                    })
+                    .map(category -> categoryRepository.save(category.withName(name)))
                     .orElseThrow(() -> {
                         logger.warn("Category update failed - not found: categoryId={}", id);
                         return new NotFoundException(RECORD_NOT_FOUND_MESSAGE);
@@ -135,6 +129,27 @@ public class CategoryUseCaseImpl implements CategoryUseCase {
         }
     }
 
+    @Override
+    public Optional<ResourceVersion> findVersionById(UUID id) {
+        try {
+            StructuredLogger.setCategory(LogCategory.BUSINESS);
+            StructuredLogger.setOperation("FindCategoryVersionById");
+            StructuredLogger.put("categoryId", id.toString());
+
+            // GET condicional: não carrega a entidade; vazio deixa o fluxo normal responder o 404
+            Optional<ResourceVersion> version = categoryRepository.findVersionById(id);
+            logger.debug("Category version checked: categoryId={}, found={}", id, version.isPresent());
+            return version;
+
+        } catch (Exception e) {
+            StructuredLogger.setError("CATEGORY_VERSION_FAILED", e.getMessage());
+            logger.error("Failed to check category version: categoryId={}", id, e);
+            throw e;
+        } finally {
+            StructuredLogger.clear();
+        }
+    }
+
     @Override
     public List<Category> findAll() {
         try {
@@ -164,16 +179,14 @@ public class CategoryUseCaseImpl implements CategoryUseCase {
             
             logger.info("Category deletion started: categoryId={}", id);
             
-            if (categoryRepository.findById(id).isEmpty()) {
+            if (!categoryRepository.existsById(id)) {
                 logger.warn("Category deletion failed - not found: categoryId={}", id);
                 throw new NotFoundException(RECORD_NOT_FOUND_MESSAGE);
             }
 
-            // Verifica se a categoria está vinculada a produtos
-            List<Product> productsInCategory = productRepository.findByCategoryId(id);
-            if (!productsInCategory.isEmpty()) {
-                logger.warn("Category deletion failed - linked to products: categoryId={}, productsCount={}", 
-                           id, productsInCategory.size());
+            // Verifica se a categoria está vinculada a produtos (EXISTS, sem carregar os produtos)
+            if (productRepository.existsByCategoryId(id)) {
+                logger.warn("Category deletion failed - linked to products: categoryId={}", id);
                 throw new DomainException("Não é possível deletar a categoria pois ela está vinculada a um ou mais produtos");
             }
 
@@ -1,6 +1,7 @@
 package com.fiap.techchallenge.application.usecases;
 
 import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.readmodels.ResourceVersion;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,5 +11,6 @@ public interface CustomerUseCase {
     Customer registerCustomer(String name, String email, String cpf);
     Optional<Customer> findCustomerByCpf(String cpf);
     Optional<Customer> findCustomerById(UUID id);
+    Optional<ResourceVersion> findCustomerVersionById(UUID id);
     List<Customer> findCustomerAll();
 }
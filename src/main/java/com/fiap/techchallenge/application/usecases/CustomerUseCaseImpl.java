@@ -3,6 +3,7 @@ package com.fiap.techchallenge.application.usecases;
 import com.fiap.techchallenge.domain.entities.Customer;
 import com.fiap.techchallenge.domain.exception.DomainException;
 import com.fiap.techchallenge.domain.exception.NotFoundException;
+import com.fiap.techchallenge.domain.readmodels.ResourceVersion;
 import com.fiap.techchallenge.domain.repositories.CustomerRepository;
 import com.fiap.techchallenge.external.cognito.CognitoService;
 import com.fiap.techchallenge.infrastructure.logging.LogCategory;
@@ -138,6 +139,27 @@ public class CustomerUseCaseImpl implements CustomerUseCase {
         }
     }
 
+    @Override
+    public Optional<ResourceVersion> findCustomerVersionById(UUID id) {
+        try {
+            StructuredLogger.setCategory(LogCategory.BUSINESS);
+            StructuredLogger.setOperation("FindCustomerVersionById");
+            StructuredLogger.setCustomerId(id.toString());
+
+            // GET condicional: não carrega a entidade; vazio deixa o fluxo normal responder o 404
+            Optional<ResourceVersion> version = customerRepository.findVersionById(id);
+            logger.debug("Customer version checked: customerId={}, found={}", id, version.isPresent());
+            return version;
+
+        } catch (Exception e) {
+            StructuredLogger.setError("CUSTOMER_VERSION_FAILED", e.getMessage());
+            logger.error("Failed to check customer version: customerId={}", id, e);
+            throw e;
+        } finally {
+            StructuredLogger.clear();
+        }
+    }
+
     @Override
     public List<Customer> findCustomerAll() {
         try {
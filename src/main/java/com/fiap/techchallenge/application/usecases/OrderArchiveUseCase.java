@@ -0,0 +1,8 @@
+package com.fiap.techchallenge.application.usecases;
+
+import java.time.Duration;
+
+public interface OrderArchiveUseCase {
+    // Arquiva, em lotes, os pedidos finalizados há mais de retention; devolve o total movido
+    int archiveFinishedOrders(Duration retention, int batchSize);
+}
@@ -0,0 +1,58 @@
+package com.fiap.techchallenge.application.usecases;
+
+import com.fiap.techchallenge.domain.repositories.OrderArchiveRepository;
+import com.fiap.techchallenge.infrastructure.logging.LogCategory;
+import com.fiap.techchallenge.infrastructure.logging.StructuredLogger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+public class OrderArchiveUseCaseImpl implements OrderArchiveUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderArchiveUseCaseImpl.class);
+
+    private final OrderArchiveRepository orderArchiveRepository;
+
+    public OrderArchiveUseCaseImpl(OrderArchiveRepository orderArchiveRepository) {
+        this.orderArchiveRepository = orderArchiveRepository;
+    }
+
+    @Override
+    public int archiveFinishedOrders(Duration retention, int batchSize) {
+        long startTime = System.currentTimeMillis();
+        LocalDateTime finishedBefore = LocalDateTime.now().minus(retention);
+        int total = 0;
+        try {
+            StructuredLogger.setCategory(LogCategory.BUSINESS);
+            StructuredLogger.setOperation("ArchiveFinishedOrders");
+            StructuredLogger.put("finishedBefore", finishedBefore.toString());
+
+            // Lotes curtos: cada um é uma transação própria e não segura locks por muito tempo
+            if (orderArchiveRepository.preparePartitions(finishedBefore)) {
+                int archived;
+                do {
+                    archived = orderArchiveRepository.archiveFinishedOrders(finishedBefore, batchSize);
+                    total += archived;
+                } while (archived == batchSize);
+            }
+
+            StructuredLogger.setDuration(System.currentTimeMillis() - startTime);
+            if (total > 0) {
+                logger.info("Finished orders archived: count={}, finishedBefore={}", total, finishedBefore);
+            } else {
+                logger.debug("No finished orders to archive: finishedBefore={}", finishedBefore);
+            }
+            return total;
+
+        } catch (Exception e) {
+            StructuredLogger.setError("ORDER_ARCHIVE_FAILED", e.getMessage());
+            logger.error("Failed to archive finished orders: archivedSoFar={}, finishedBefore={}",
+                        total, finishedBefore, e);
+            throw e;
+        } finally {
+            StructuredLogger.clear();
+        }
+    }
+}
@@ -3,7 +3,10 @@ package com.fiap.techchallenge.application.usecases;
 import com.fiap.techchallenge.domain.entities.Order;
 import com.fiap.techchallenge.domain.entities.OrderStatus;
 import com.fiap.techchallenge.domain.entities.StatusPayment;
+import com.fiap.techchallenge.domain.readmodels.OrderQueueStats;
+import com.fiap.techchallenge.domain.readmodels.OrderSummary;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -27,10 +30,36 @@ public interface OrderUseCase {
         public void setQuantity(Integer quantity) { this.quantity = quantity; }
     }
 
-    Order createOrder(UUID customerId, List<OrderItemRequest> items);
+    // Resultado por pedido de uma atualização de status em lote
+    public static class OrderStatusUpdateResult {
+        public enum Outcome { UPDATED, NOT_FOUND, NOT_PAID, INVALID_TRANSITION }
+
+        private final Long orderId;
+        private final Outcome outcome;
+        private final OrderStatus status;
+
+        public OrderStatusUpdateResult(Long orderId, Outcome outcome, OrderStatus status) {
+            this.orderId = orderId;
+            this.outcome = outcome;
+            this.status = status;
+        }
+
+        public Long getOrderId() { return orderId; }
+        public Outcome getOutcome() { return outcome; }
+        // Status do pedido após a operação (o novo, se atualizado; o atual, caso contrário)
+        public OrderStatus getStatus() { return status; }
+    }
+
+    // idempotencyKey opcional: retentativas com a mesma chave devolvem o pedido já criado
+    Order createOrder(UUID customerId, List<OrderItemRequest> items, String idempotencyKey);
     Optional<Order> findOrderById(Long id);
     List<Order> findByOptionalStatus(OrderStatus status);
+    List<OrderSummary> findOrderSummaries(OrderStatus status);
     Order updateOrderStatus(Long id, OrderStatus status);
     Order updateOrderStatus(Long id);
+    List<OrderStatusUpdateResult> updateOrdersStatus(List<Long> ids, OrderStatus status);
     Order updateOrderStatusPayment(Long id, StatusPayment statusPayment);
+    // Tempos por status acumulados pela instância; não consulta a tabela de pedidos
+    OrderQueueStats getOrderStats();
+    int purgeIdempotencyKeys(Duration retention);
 }
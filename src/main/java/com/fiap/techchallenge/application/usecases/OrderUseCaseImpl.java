@@ -2,44 +2,86 @@ package com.fiap.techchallenge.application.usecases;
 
 import com.fiap.techchallenge.domain.entities.*;
 import com.fiap.techchallenge.domain.exception.DomainException;
+import com.fiap.techchallenge.domain.exception.IdempotencyKeyInProgressException;
+import com.fiap.techchallenge.domain.exception.IdempotencyKeyMismatchException;
 import com.fiap.techchallenge.domain.exception.NotFoundException;
+import com.fiap.techchallenge.domain.exception.OrderStatusConflictException;
+import com.fiap.techchallenge.domain.readmodels.IdempotencyRecord;
+import com.fiap.techchallenge.domain.readmodels.OrderQueueStats;
+import com.fiap.techchallenge.domain.readmodels.OrderState;
+import com.fiap.techchallenge.domain.readmodels.OrderSummary;
 import com.fiap.techchallenge.domain.repositories.CustomerRepository;
+import com.fiap.techchallenge.domain.repositories.IdempotencyKeyRepository;
 import com.fiap.techchallenge.domain.repositories.OrderRepository;
 import com.fiap.techchallenge.domain.repositories.PaymentRepository;
 import com.fiap.techchallenge.domain.repositories.ProductRepository;
+import com.fiap.techchallenge.infrastructure.analytics.OrderQueueAnalytics;
 import com.fiap.techchallenge.infrastructure.logging.LogCategory;
 import com.fiap.techchallenge.infrastructure.logging.StructuredLogger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
 
 public class OrderUseCaseImpl implements OrderUseCase {
 
     private static final Logger logger = LoggerFactory.getLogger(OrderUseCaseImpl.class);
     private static final String RECORD_NOT_FOUND_MESSAGE = "Record not found";
+    private static final int MAX_BULK_STATUS_UPDATE = 500;
+
+    // Idempotency-Key: reserva abandonada pode ser assumida depois do lease; duplicatas esperam até o wait
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+    private static final Duration IDEMPOTENCY_LEASE = Duration.ofSeconds(30);
+    private static final long IDEMPOTENCY_WAIT_MS = 10_000;
+    private static final long IDEMPOTENCY_POLL_MS = 100;
 
     private final OrderRepository orderRepository;
     private final CustomerRepository customerRepository;
     private final ProductRepository productRepository;
     private final PaymentRepository paymentRepository;
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final OrderQueueAnalytics orderQueueAnalytics;
+
+    // Criações em andamento nesta instância, por Idempotency-Key
+    private final ConcurrentMap<String, InFlightOrder> inFlightOrders = new ConcurrentHashMap<>();
 
     public OrderUseCaseImpl(OrderRepository orderRepository,
                            CustomerRepository customerRepository,
                            ProductRepository productRepository,
-                           PaymentRepository paymentRepository) {
+                           PaymentRepository paymentRepository,
+                           IdempotencyKeyRepository idempotencyKeyRepository,
+                           OrderQueueAnalytics orderQueueAnalytics) {
         this.orderRepository = orderRepository;
         this.customerRepository = customerRepository;
         this.productRepository = productRepository;
         this.paymentRepository = paymentRepository;
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.orderQueueAnalytics = orderQueueAnalytics;
     }
 
     @Override
-    public Order createOrder(UUID customerId, List<OrderItemRequest> items) {
+    public Order createOrder(UUID customerId, List<OrderItemRequest> items, String idempotencyKey) {
         long startTime = System.currentTimeMillis();
         
         try {
@@ -51,9 +93,9 @@ public class OrderUseCaseImpl implements OrderUseCase {
             
             logger.info("Order creation started: items={}", items.size());
             
-            Customer customer = findCustomerById(customerId);
-            List<OrderItem> orderItems = validateAndConvertOrderItems(items);
-            Order order = createAndSaveOrder(customer, orderItems);
+            Order order = idempotencyKey == null
+                    ? createNewOrder(customerId, items, null)
+                    : createOrderIdempotently(customerId, items, idempotencyKey);
             
             long duration = System.currentTimeMillis() - startTime;
             StructuredLogger.setDuration(duration);
@@ -61,7 +103,7 @@ public class OrderUseCaseImpl implements OrderUseCase {
             StructuredLogger.put("totalAmount", order.getTotalAmount().toString());
             
             logger.info("Order created successfully: orderId={}, totalAmount={}, items={}", 
-                       order.getId(), order.getTotalAmount(), orderItems.size());
+                       order.getId(), order.getTotalAmount(), order.getItems().size());
             
             return order;
             
@@ -80,6 +122,123 @@ public class OrderUseCaseImpl implements OrderUseCase {
         }
     }
 
+    private Order createNewOrder(UUID customerId, List<OrderItemRequest> items, String idempotencyKey) {
+        Customer customer = findCustomerById(customerId);
+        List<OrderItem> orderItems = validateAndConvertOrderItems(items);
+        return createAndSaveOrder(customer, orderItems, idempotencyKey);
+    }
+
+    /**
+     * Retentativas do totem com a mesma Idempotency-Key criam um único pedido.
+     * Duplicatas concorrentes na mesma instância aguardam a execução em andamento;
+     * entre instâncias, a reserva na tabela idempotency_keys decide quem executa.
+     */
+    private Order createOrderIdempotently(UUID customerId, List<OrderItemRequest> items, String idempotencyKey) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new DomainException("Idempotency-Key must have between 1 and " + MAX_IDEMPOTENCY_KEY_LENGTH + " characters");
+        }
+        StructuredLogger.put("idempotencyKey", idempotencyKey);
+        String requestHash = requestHash(customerId, items);
+
+        InFlightOrder mine = new InFlightOrder(requestHash);
+        InFlightOrder inFlight = inFlightOrders.putIfAbsent(idempotencyKey, mine);
+        if (inFlight != null) {
+            checkSameRequest(inFlight.requestHash, requestHash);
+            logger.info("Order creation coalesced with in-flight request: idempotencyKey={}", idempotencyKey);
+            return awaitInFlight(inFlight);
+        }
+
+        try {
+            Order order = createOrderOnce(customerId, items, idempotencyKey, requestHash);
+            mine.result.complete(order);
+            return order;
+        } catch (RuntimeException e) {
+            mine.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightOrders.remove(idempotencyKey, mine);
+        }
+    }
+
+    private Order createOrderOnce(UUID customerId, List<OrderItemRequest> items, String idempotencyKey,
+                                  String requestHash) {
+        long deadline = System.currentTimeMillis() + IDEMPOTENCY_WAIT_MS;
+        while (true) {
+            LocalDateTime now = LocalDateTime.now();
+            if (idempotencyKeyRepository.tryAcquire(idempotencyKey, requestHash, now, now.minus(IDEMPOTENCY_LEASE))) {
+                try {
+                    // A chave é concluída na transação do INSERT do pedido
+                    return createNewOrder(customerId, items, idempotencyKey);
+                } catch (IdempotencyKeyInProgressException e) {
+                    // Outra execução assumiu a reserva vencida e concluiu antes; a dela prevalece
+                    throw e;
+                } catch (RuntimeException e) {
+                    idempotencyKeyRepository.release(idempotencyKey);
+                    throw e;
+                }
+            }
+
+            Optional<IdempotencyRecord> record = idempotencyKeyRepository.findByKey(idempotencyKey);
+            if (record.isPresent()) {
+                checkSameRequest(record.get().getRequestHash(), requestHash);
+                if (record.get().isCompleted()) {
+                    Long orderId = record.get().getOrderId();
+                    logger.info("Order creation replayed: idempotencyKey={}, orderId={}", idempotencyKey, orderId);
+                    return orderRepository.findById(orderId)
+                            .orElseThrow(() -> new NotFoundException(RECORD_NOT_FOUND_MESSAGE));
+                }
+            }
+
+            // Em andamento em outra instância (ou liberada entre as duas consultas): tenta de novo
+            if (System.currentTimeMillis() >= deadline) {
+                throw new IdempotencyKeyInProgressException("A request with this Idempotency-Key is still in progress");
+            }
+            try {
+                Thread.sleep(IDEMPOTENCY_POLL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IdempotencyKeyInProgressException("A request with this Idempotency-Key is still in progress");
+            }
+        }
+    }
+
+    private Order awaitInFlight(InFlightOrder inFlight) {
+        try {
+            return inFlight.result.get(IDEMPOTENCY_WAIT_MS, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            // A duplicata recebe a mesma falha da execução original
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new IdempotencyKeyInProgressException("A request with this Idempotency-Key is still in progress");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyInProgressException("A request with this Idempotency-Key is still in progress");
+        }
+    }
+
+    private void checkSameRequest(String storedHash, String requestHash) {
+        if (!storedHash.equals(requestHash)) {
+            throw new IdempotencyKeyMismatchException("Idempotency-Key was already used with a different request");
+        }
+    }
+
+    private static String requestHash(UUID customerId, List<OrderItemRequest> items) {
+        StringBuilder canonical = new StringBuilder(String.valueOf(customerId));
+        for (OrderItemRequest item : items) {
+            canonical.append('|').append(item.getProductId()).append(':').append(item.getQuantity());
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     private Customer findCustomerById(UUID customerId) {
         if (customerId == null) {
             return null;
@@ -118,18 +277,21 @@ public class OrderUseCaseImpl implements OrderUseCase {
         }
     }
 
-    private Order createAndSaveOrder(Customer customer, List<OrderItem> orderItems) {
+    private Order createAndSaveOrder(Customer customer, List<OrderItem> orderItems, String idempotencyKey) {
+        // Order.create já começa em RECEIVED / AGUARDANDO_PAGAMENTO
         Order order = Order.create(customer, orderItems);
-        order.setStatus(OrderStatus.RECEIVED);
-        order.setStatusPayment(StatusPayment.AGUARDANDO_PAGAMENTO);
-        order.setIdPayment(createPaymentOrder(order, customer));
+        order = order.withIdPayment(createPaymentOrder(order, customer, idempotencyKey));
 
-        return orderRepository.save(order);
+        Order savedOrder = idempotencyKey == null
+                ? orderRepository.save(order)
+                : orderRepository.saveCompletingIdempotencyKey(order, idempotencyKey, LocalDateTime.now());
+        orderQueueAnalytics.orderReceived(savedOrder);
+        return orderQueueAnalytics.withEstimatedReadyAt(savedOrder, savedOrder.getCreatedAt());
     }
 
-    private Long createPaymentOrder(Order order, Customer customer) {
+    private Long createPaymentOrder(Order order, Customer customer, String idempotencyKey) {
 
-        Double amount = order.getTotalAmount().doubleValue();
+        Money amount = order.getTotalAmount();
         String description = "Pagamento para o pedido";
         String paymentMethodId = "pix";
         Integer installments = 1;
@@ -142,8 +304,9 @@ public class OrderUseCaseImpl implements OrderUseCase {
             cpfPayment = customer.getCpf();
         }
 
+        // Com a mesma chave, o Mercado Pago devolve o pagamento já criado em vez de cobrar de novo
         return paymentRepository.createPaymentOrder(amount, description, paymentMethodId, installments,
-                emailPayment, identificationType, cpfPayment);
+                emailPayment, identificationType, cpfPayment, idempotencyKey);
 
     }
 
@@ -154,7 +317,8 @@ public class OrderUseCaseImpl implements OrderUseCase {
             StructuredLogger.setOperation("FindOrderById");
             StructuredLogger.setOrderId(id.toString());
             
-            Optional<Order> order = orderRepository.findById(id);
+            Optional<Order> order = orderRepository.findById(id)
+                    .map(found -> orderQueueAnalytics.withEstimatedReadyAt(found, LocalDateTime.now()));
             if (order.isEmpty()) {
                 logger.warn("Order not found: orderId={}", id);
                 throw new NotFoundException(RECORD_NOT_FOUND_MESSAGE);
@@ -183,7 +347,11 @@ public class OrderUseCaseImpl implements OrderUseCase {
                 StructuredLogger.put("status", status.name());
             }
             
-            List<Order> orders = orderRepository.findByOptionalStatus(status);
+            LocalDateTime now = LocalDateTime.now();
+            List<Order> orders = new ArrayList<>();
+            for (Order order : orderRepository.findByOptionalStatus(status)) {
+                orders.add(orderQueueAnalytics.withEstimatedReadyAt(order, now));
+            }
             logger.info("Orders found: status={}, count={}", status, orders.size());
             
             return orders;
@@ -197,6 +365,29 @@ public class OrderUseCaseImpl implements OrderUseCase {
         }
     }
 
+    @Override
+    public List<OrderSummary> findOrderSummaries(OrderStatus status) {
+        try {
+            StructuredLogger.setCategory(LogCategory.BUSINESS);
+            StructuredLogger.setOperation("FindOrderSummaries");
+            if (status != null) {
+                StructuredLogger.put("status", status.name());
+            }
+            
+            List<OrderSummary> orders = orderRepository.findSummariesByOptionalStatus(status);
+            logger.info("Order summaries found: status={}, count={}", status, orders.size());
+            
+            return orders;
+            
+        } catch (Exception e) {
+            StructuredLogger.setError("ORDER_LIST_FAILED", e.getMessage());
+            logger.error("Failed to list order summaries: status={}", status, e);
+            throw e;
+        } finally {
+            StructuredLogger.clear();
+        }
+    }
+
     @Override
     public Order updateOrderStatus(Long id, OrderStatus status) {
         try {
@@ -205,24 +396,24 @@ public class OrderUseCaseImpl implements OrderUseCase {
             StructuredLogger.setOrderId(id.toString());
             StructuredLogger.put("newStatus", status.name());
             
-            Order existingOrder = orderRepository.findById(id)
-                    .orElseThrow(() -> new NotFoundException(RECORD_NOT_FOUND_MESSAGE));
-
-            if (!existingOrder.getStatusPayment().equals(StatusPayment.APROVADO)) {
-                logger.warn("Order status update failed - payment not approved: orderId={}, paymentStatus={}", 
-                           id, existingOrder.getStatusPayment());
-                throw new DomainException("The order is not paid");
+            // Só o pedido pago, e vindo do status anterior da máquina de estados, é atualizado
+            LocalDateTime now = LocalDateTime.now();
+            boolean updated = orderRepository.updateStatus(id, status.allowedPreviousStatuses(),
+                    StatusPayment.APROVADO, status, now);
+            if (!updated) {
+                OrderState state = orderRepository.findStateById(id)
+                        .orElseThrow(() -> new NotFoundException(RECORD_NOT_FOUND_MESSAGE));
+                if (state.getStatusPayment() != StatusPayment.APROVADO) {
+                    logger.warn("Order status update failed - payment not approved: orderId={}, paymentStatus={}", 
+                               id, state.getStatusPayment());
+                    throw new DomainException("The order is not paid");
+                }
+                throw statusConflict(state, status);
             }
-
-            OrderStatus oldStatus = existingOrder.getStatus();
-            existingOrder.setStatus(status);
-            existingOrder.setUpdatedAt(LocalDateTime.now());
-            Order updatedOrder = orderRepository.save(existingOrder);
             
-            logger.info("Order status updated: orderId={}, oldStatus={}, newStatus={}", 
-                       id, oldStatus, status);
+            logger.info("Order status updated: orderId={}, newStatus={}", id, status);
             
-            return updatedOrder;
+            return findTransitionedOrder(id, status, now);
             
         } catch (NotFoundException e) {
             logger.warn("Order not found for status update: orderId={}", id);
@@ -245,21 +436,25 @@ public class OrderUseCaseImpl implements OrderUseCase {
             StructuredLogger.setOperation("UpdateOrderToInPreparation");
             StructuredLogger.setOrderId(id.toString());
             
-            Order existingOrder = orderRepository.findById(id)
-                    .orElseThrow(() -> new NotFoundException(RECORD_NOT_FOUND_MESSAGE));
-
-            OrderStatus oldStatus = existingOrder.getStatus();
-            existingOrder.setStatus(OrderStatus.IN_PREPARATION);
-            existingOrder.setUpdatedAt(LocalDateTime.now());
-            Order updatedOrder = orderRepository.save(existingOrder);
+            OrderStatus status = OrderStatus.IN_PREPARATION;
+            LocalDateTime now = LocalDateTime.now();
+            boolean updated = orderRepository.updateStatus(id, status.allowedPreviousStatuses(),
+                    null, status, now);
+            if (!updated) {
+                OrderState state = orderRepository.findStateById(id)
+                        .orElseThrow(() -> new NotFoundException(RECORD_NOT_FOUND_MESSAGE));
+                throw statusConflict(state, status);
+            }
             
-            logger.info("Order moved to preparation: orderId={}, oldStatus={}", id, oldStatus);
+            logger.info("Order moved to preparation: orderId={}", id);
             
-            return updatedOrder;
+            return findTransitionedOrder(id, status, now);
             
         } catch (NotFoundException e) {
             logger.warn("Order not found for status update: orderId={}", id);
             throw e;
+        } catch (DomainException e) {
+            throw e;
         } catch (Exception e) {
             StructuredLogger.setError("ORDER_STATUS_UPDATE_FAILED", e.getMessage());
             logger.error("Failed to update order to preparation: orderId={}", id, e);
@@ -277,23 +472,46 @@ public class OrderUseCaseImpl implements OrderUseCase {
             StructuredLogger.setPaymentId(id.toString());
             StructuredLogger.put("paymentStatus", statusPayment.name());
             
-            Order existingOrder = orderRepository.findByIdPayment(id)
+            // Pagamento aprovado libera o pedido para a cozinha; rejeitado mantém o status
+            OrderStatus newStatus = statusPayment == StatusPayment.APROVADO ? OrderStatus.IN_PREPARATION : null;
+            LocalDateTime now = LocalDateTime.now();
+            boolean updated = StatusPayment.AGUARDANDO_PAGAMENTO.canTransitionTo(statusPayment)
+                    && orderRepository.updatePaymentStatus(id, StatusPayment.AGUARDANDO_PAGAMENTO,
+                            statusPayment, newStatus, now);
+            if (!updated) {
+                OrderState state = orderRepository.findStateByIdPayment(id)
+                        .orElseThrow(() -> new NotFoundException(RECORD_NOT_FOUND_MESSAGE));
+                if (state.getStatusPayment() != statusPayment) {
+                    logger.warn("Order payment status update rejected: paymentId={}, orderId={}, currentPaymentStatus={}, requestedPaymentStatus={}", 
+                               id, state.getId(), state.getStatusPayment(), statusPayment);
+                    throw new OrderStatusConflictException(String.format(
+                            "Payment status cannot change from %s to %s", state.getStatusPayment(), statusPayment));
+                }
+                // Notificação repetida do webhook: o pedido já está nesse estado
+                logger.info("Order payment status already applied: paymentId={}, orderId={}, paymentStatus={}", 
+                           id, state.getId(), statusPayment);
+                return orderQueueAnalytics.withEstimatedReadyAt(findUpdatedOrder(state.getId()), now);
+            }
+            
+            Order paidOrder = orderRepository.findByIdPayment(id)
                     .orElseThrow(() -> new NotFoundException(RECORD_NOT_FOUND_MESSAGE));
-
-            StatusPayment oldPaymentStatus = existingOrder.getStatusPayment();
-            existingOrder.setStatusPayment(statusPayment);
-            existingOrder.setStatus(OrderStatus.IN_PREPARATION);
-            existingOrder.setUpdatedAt(LocalDateTime.now());
-            Order updatedOrder = orderRepository.save(existingOrder);
+            if (newStatus != null) {
+                orderQueueAnalytics.statusChanged(paidOrder.getId(), newStatus, paidOrder.getCreatedAt(), now);
+            } else if (statusPayment == StatusPayment.REJEITADO) {
+                orderQueueAnalytics.orderDiscarded(paidOrder.getId());
+            }
+            Order updatedOrder = orderQueueAnalytics.withEstimatedReadyAt(paidOrder, now);
             
-            logger.info("Order payment status updated: paymentId={}, orderId={}, oldPaymentStatus={}, newPaymentStatus={}", 
-                       id, existingOrder.getId(), oldPaymentStatus, statusPayment);
+            logger.info("Order payment status updated: paymentId={}, orderId={}, newPaymentStatus={}", 
+                       id, updatedOrder.getId(), statusPayment);
             
             return updatedOrder;
             
         } catch (NotFoundException e) {
             logger.warn("Order not found for payment update: paymentId={}", id);
             throw e;
+        } catch (DomainException e) {
+            throw e;
         } catch (Exception e) {
             StructuredLogger.setError("ORDER_PAYMENT_UPDATE_FAILED", e.getMessage());
             logger.error("Failed to update order payment status: paymentId={}, paymentStatus={}", 
@@ -303,4 +521,150 @@ public class OrderUseCaseImpl implements OrderUseCase {
             StructuredLogger.clear();
         }
     }
+
+    @Override
+    public List<OrderStatusUpdateResult> updateOrdersStatus(List<Long> ids, OrderStatus status) {
+        try {
+            StructuredLogger.setCategory(LogCategory.BUSINESS);
+            StructuredLogger.setOperation("UpdateOrdersStatus");
+            if (status == null) {
+                throw new DomainException("Status is required");
+            }
+            StructuredLogger.put("newStatus", status.name());
+            
+            Set<Long> orderIds = ids == null ? Collections.emptySet() : new LinkedHashSet<>(ids);
+            orderIds.remove(null);
+            if (orderIds.isEmpty()) {
+                throw new DomainException("At least one order id is required");
+            }
+            if (orderIds.size() > MAX_BULK_STATUS_UPDATE) {
+                throw new DomainException("Cannot update more than " + MAX_BULK_STATUS_UPDATE + " orders at once");
+            }
+            StructuredLogger.put("orderCount", String.valueOf(orderIds.size()));
+            
+            // Um único UPDATE para o lote; só os pedidos que não mudaram são consultados para explicar o motivo
+            LocalDateTime now = LocalDateTime.now();
+            Set<Long> updatedIds = orderRepository.updateStatuses(orderIds, status.allowedPreviousStatuses(),
+                    StatusPayment.APROVADO, status, now);
+            
+            Map<Long, OrderState> rejected = new HashMap<>();
+            List<Long> notUpdated = orderIds.stream().filter(id -> !updatedIds.contains(id)).collect(Collectors.toList());
+            for (OrderState state : orderRepository.findStatesByIds(notUpdated)) {
+                rejected.put(state.getId(), state);
+            }
+            
+            List<OrderStatusUpdateResult> results = new ArrayList<>(orderIds.size());
+            for (Long id : orderIds) {
+                StructuredLogger.setOrderId(id.toString());
+                OrderState state = rejected.get(id);
+                if (updatedIds.contains(id)) {
+                    orderQueueAnalytics.statusChanged(id, status, null, now);
+                    logger.info("Order status updated: orderId={}, newStatus={}", id, status);
+                    results.add(new OrderStatusUpdateResult(id, OrderStatusUpdateResult.Outcome.UPDATED, status));
+                } else if (state == null) {
+                    logger.warn("Order not found for status update: orderId={}", id);
+                    results.add(new OrderStatusUpdateResult(id, OrderStatusUpdateResult.Outcome.NOT_FOUND, null));
+                } else if (state.getStatusPayment() != StatusPayment.APROVADO) {
+                    logger.warn("Order status update failed - payment not approved: orderId={}, paymentStatus={}", 
+                               id, state.getStatusPayment());
+                    results.add(new OrderStatusUpdateResult(id, OrderStatusUpdateResult.Outcome.NOT_PAID, state.getStatus()));
+                } else {
+                    logStatusConflict(state, status);
+                    results.add(new OrderStatusUpdateResult(id, OrderStatusUpdateResult.Outcome.INVALID_TRANSITION, state.getStatus()));
+                }
+            }
+            StructuredLogger.remove("orderId");
+            
+            logger.info("Bulk order status update finished: newStatus={}, requested={}, updated={}", 
+                       status, orderIds.size(), updatedIds.size());
+            
+            return results;
+            
+        } catch (DomainException e) {
+            logger.warn("Bulk order status update rejected: newStatus={}, reason={}", status, e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            StructuredLogger.setError("ORDER_STATUS_UPDATE_FAILED", e.getMessage());
+            logger.error("Failed to update orders status: newStatus={}", status, e);
+            throw e;
+        } finally {
+            StructuredLogger.clear();
+        }
+    }
+
+    private Order findUpdatedOrder(Long id) {
+        return orderRepository.findById(id)
+                .orElseThrow(() -> new NotFoundException(RECORD_NOT_FOUND_MESSAGE));
+    }
+
+    private Order findTransitionedOrder(Long id, OrderStatus status, LocalDateTime changedAt) {
+        Order order = findUpdatedOrder(id);
+        orderQueueAnalytics.statusChanged(id, status, order.getCreatedAt(), changedAt);
+        return orderQueueAnalytics.withEstimatedReadyAt(order, changedAt);
+    }
+
+    private OrderStatusConflictException statusConflict(OrderState state, OrderStatus requested) {
+        logStatusConflict(state, requested);
+        return new OrderStatusConflictException(String.format(
+                "Order status cannot change from %s to %s", state.getStatus(), requested));
+    }
+
+    private void logStatusConflict(OrderState state, OrderStatus requested) {
+        logger.warn("Order status transition rejected: orderId={}, currentStatus={}, requestedStatus={}", 
+                   state.getId(), state.getStatus(), requested);
+    }
+
+    @Override
+    public OrderQueueStats getOrderStats() {
+        try {
+            StructuredLogger.setCategory(LogCategory.BUSINESS);
+            StructuredLogger.setOperation("GetOrderStats");
+
+            OrderQueueStats stats = orderQueueAnalytics.snapshot();
+            logger.info("Order queue stats computed: timeToReadySamples={}", stats.getTimeToReady().getSamples());
+
+            return stats;
+
+        } catch (Exception e) {
+            StructuredLogger.setError("ORDER_STATS_FAILED", e.getMessage());
+            logger.error("Failed to compute order queue stats", e);
+            throw e;
+        } finally {
+            StructuredLogger.clear();
+        }
+    }
+
+    @Override
+    public int purgeIdempotencyKeys(Duration retention) {
+        long startTime = System.currentTimeMillis();
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+
+        try {
+            StructuredLogger.setCategory(LogCategory.BUSINESS);
+            StructuredLogger.setOperation("PurgeIdempotencyKeys");
+
+            int deleted = idempotencyKeyRepository.deleteOlderThan(cutoff);
+
+            StructuredLogger.setDuration(System.currentTimeMillis() - startTime);
+            logger.info("Idempotency keys purged: deleted={}, cutoff={}", deleted, cutoff);
+
+            return deleted;
+
+        } catch (Exception e) {
+            StructuredLogger.setError("IDEMPOTENCY_PURGE_FAILED", e.getMessage());
+            logger.error("Failed to purge idempotency keys: cutoff={}", cutoff, e);
+            throw e;
+        } finally {
+            StructuredLogger.clear();
+        }
+    }
+
+    private static final class InFlightOrder {
+        private final String requestHash;
+        private final CompletableFuture<Order> result = new CompletableFuture<>();
+
+        private InFlightOrder(String requestHash) {
+            this.requestHash = requestHash;
+        }
+    }
 }
@@ -0,0 +1,33 @@
+package com.fiap.techchallenge.application.usecases;
+
+import java.time.Duration;
+
+public interface PaymentReconciliationUseCase {
+
+    // Contagens de uma execução da reconciliação
+    public static class ReconciliationResult {
+        private final int checked;
+        private final int approved;
+        private final int rejected;
+        private final int stillPending;
+        private final int failed;
+
+        public ReconciliationResult(int checked, int approved, int rejected, int stillPending, int failed) {
+            this.checked = checked;
+            this.approved = approved;
+            this.rejected = rejected;
+            this.stillPending = stillPending;
+            this.failed = failed;
+        }
+
+        public int getChecked() { return checked; }
+        public int getApproved() { return approved; }
+        public int getRejected() { return rejected; }
+        public int getStillPending() { return stillPending; }
+        // Consultas ao Mercado Pago que falharam; o pedido é tentado de novo na próxima execução
+        public int getFailed() { return failed; }
+    }
+
+    // Consulta no Mercado Pago os pedidos aguardando pagamento há mais de staleAfter e aplica o resultado
+    ReconciliationResult reconcilePendingPayments(Duration staleAfter, int batchSize);
+}
@@ -0,0 +1,218 @@
+package com.fiap.techchallenge.application.usecases;
+
+import com.fiap.techchallenge.domain.entities.OrderStatus;
+import com.fiap.techchallenge.domain.entities.StatusPayment;
+import com.fiap.techchallenge.domain.readmodels.PendingPayment;
+import com.fiap.techchallenge.domain.repositories.JobLeaseRepository;
+import com.fiap.techchallenge.domain.repositories.OrderRepository;
+import com.fiap.techchallenge.domain.repositories.PaymentRepository;
+import com.fiap.techchallenge.infrastructure.analytics.OrderQueueAnalytics;
+import com.fiap.techchallenge.infrastructure.logging.LogCategory;
+import com.fiap.techchallenge.infrastructure.logging.StructuredLogger;
+import com.fiap.techchallenge.infrastructure.ratelimit.TokenBucketRateLimiter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Rede de segurança para webhooks perdidos: pedidos parados em AGUARDANDO_PAGAMENTO
+ * têm o pagamento consultado no Mercado Pago e o resultado aplicado em lote.
+ * <p>
+ * Os pendentes são percorridos em páginas por id; cada página é consultada com até
+ * <code>concurrency</code> chamadas simultâneas, limitadas a <code>ratePerSecond</code>
+ * no total, e gera no máximo dois UPDATEs (aprovados e rejeitados).
+ * </p>
+ * <p>
+ * Uma instância por vez: o limite de consultas é por processo, então a rodada só
+ * roda com o lease do job, renovado a cada página. As demais réplicas pulam a vez.
+ * </p>
+ */
+public class PaymentReconciliationUseCaseImpl implements PaymentReconciliationUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(PaymentReconciliationUseCaseImpl.class);
+    private static final String RATE_LIMIT_KEY = "mercado-pago";
+    private static final String LEASE_NAME = "payment-reconciliation";
+    // Folga sobre o tempo de uma página; uma instância que morreu libera a vez depois disso
+    private static final Duration LEASE_DURATION = Duration.ofMinutes(2);
+
+    private final OrderRepository orderRepository;
+    private final PaymentRepository paymentRepository;
+    private final JobLeaseRepository jobLeaseRepository;
+    private final OrderQueueAnalytics orderQueueAnalytics;
+    private final int concurrency;
+    private final TokenBucketRateLimiter rateLimiter;
+
+    public PaymentReconciliationUseCaseImpl(OrderRepository orderRepository,
+                                            PaymentRepository paymentRepository,
+                                            JobLeaseRepository jobLeaseRepository,
+                                            OrderQueueAnalytics orderQueueAnalytics,
+                                            int concurrency,
+                                            double ratePerSecond) {
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("Concurrency must be greater than zero");
+        }
+        this.orderRepository = orderRepository;
+        this.paymentRepository = paymentRepository;
+        this.jobLeaseRepository = jobLeaseRepository;
+        this.orderQueueAnalytics = orderQueueAnalytics;
+        this.concurrency = concurrency;
+        // Um único bucket: o limite vale para a soma das threads
+        this.rateLimiter = new TokenBucketRateLimiter(ratePerSecond, concurrency, 1);
+    }
+
+    @Override
+    public ReconciliationResult reconcilePendingPayments(Duration staleAfter, int batchSize) {
+        long startTime = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime updatedBefore = now.minus(staleAfter);
+        Counts counts = new Counts();
+        boolean leased = false;
+        ExecutorService executor = null;
+
+        try {
+            StructuredLogger.setCategory(LogCategory.INTEGRATION);
+            StructuredLogger.setOperation("ReconcilePendingPayments");
+
+            leased = jobLeaseRepository.tryAcquire(LEASE_NAME, LEASE_DURATION);
+            if (!leased) {
+                logger.debug("Payment reconciliation skipped: running on another instance");
+                return counts.toResult();
+            }
+            executor = Executors.newFixedThreadPool(concurrency, new PollingThreadFactory());
+
+            Long afterOrderId = null;
+            List<PendingPayment> page;
+            do {
+                if (afterOrderId != null && !jobLeaseRepository.tryAcquire(LEASE_NAME, LEASE_DURATION)) {
+                    logger.warn("Payment reconciliation lease lost, stopping: checkedSoFar={}", counts.checked);
+                    break;
+                }
+                page = orderRepository.findStalePendingPayments(updatedBefore, afterOrderId, batchSize);
+                if (page.isEmpty()) {
+                    break;
+                }
+                afterOrderId = page.get(page.size() - 1).getOrderId();
+                reconcilePage(page, executor, now, counts);
+            } while (page.size() == batchSize);
+
+            StructuredLogger.setDuration(System.currentTimeMillis() - startTime);
+            ReconciliationResult result = counts.toResult();
+            if (result.getChecked() > 0) {
+                logger.info("Pending payments reconciled: checked={}, approved={}, rejected={}, stillPending={}, failed={}",
+                           result.getChecked(), result.getApproved(), result.getRejected(),
+                           result.getStillPending(), result.getFailed());
+            } else {
+                logger.debug("No stale pending payments to reconcile: updatedBefore={}", updatedBefore);
+            }
+            return result;
+
+        } catch (Exception e) {
+            StructuredLogger.setError("PAYMENT_RECONCILIATION_FAILED", e.getMessage());
+            logger.error("Failed to reconcile pending payments: checkedSoFar={}", counts.checked, e);
+            throw e;
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+            if (leased) {
+                jobLeaseRepository.release(LEASE_NAME);
+            }
+            StructuredLogger.clear();
+        }
+    }
+
+    private void reconcilePage(List<PendingPayment> page, ExecutorService executor, LocalDateTime now, Counts counts) {
+        List<Future<StatusPayment>> statuses = new ArrayList<>(page.size());
+        for (PendingPayment payment : page) {
+            statuses.add(executor.submit(() -> {
+                awaitRatePermit();
+                return paymentRepository.getPaymentStatus(payment.getIdPayment());
+            }));
+        }
+
+        List<Long> approved = new ArrayList<>();
+        List<Long> rejected = new ArrayList<>();
+        for (int i = 0; i < page.size(); i++) {
+            counts.checked++;
+            StatusPayment status = awaitStatus(statuses.get(i), page.get(i), counts);
+            if (status == StatusPayment.APROVADO) {
+                approved.add(page.get(i).getIdPayment());
+            } else if (status == StatusPayment.REJEITADO) {
+                rejected.add(page.get(i).getIdPayment());
+            } else if (status == StatusPayment.AGUARDANDO_PAGAMENTO) {
+                counts.stillPending++;
+            }
+        }
+
+        // Condicionais em AGUARDANDO_PAGAMENTO: um webhook que chegou nesse meio tempo prevalece
+        Set<Long> approvedOrders = orderRepository.updatePaymentStatuses(approved, StatusPayment.AGUARDANDO_PAGAMENTO,
+                StatusPayment.APROVADO, OrderStatus.IN_PREPARATION, now);
+        for (Long orderId : approvedOrders) {
+            orderQueueAnalytics.statusChanged(orderId, OrderStatus.IN_PREPARATION, null, now);
+        }
+        Set<Long> rejectedOrders = orderRepository.updatePaymentStatuses(rejected, StatusPayment.AGUARDANDO_PAGAMENTO,
+                StatusPayment.REJEITADO, null, now);
+        for (Long orderId : rejectedOrders) {
+            orderQueueAnalytics.orderDiscarded(orderId);
+        }
+        counts.approved += approvedOrders.size();
+        counts.rejected += rejectedOrders.size();
+    }
+
+    private StatusPayment awaitStatus(Future<StatusPayment> status, PendingPayment payment, Counts counts) {
+        try {
+            return status.get();
+        } catch (ExecutionException e) {
+            counts.failed++;
+            logger.warn("Payment status check failed: orderId={}, paymentId={}, error={}",
+                       payment.getOrderId(), payment.getIdPayment(), e.getCause().getMessage());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Payment reconciliation interrupted", e);
+        }
+    }
+
+    private void awaitRatePermit() throws InterruptedException {
+        long waitNanos;
+        while ((waitNanos = rateLimiter.tryAcquire(RATE_LIMIT_KEY)) > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    // Só a thread da reconciliação altera as contagens
+    private static final class Counts {
+        private int checked;
+        private int approved;
+        private int rejected;
+        private int stillPending;
+        private int failed;
+
+        private ReconciliationResult toResult() {
+            return new ReconciliationResult(checked, approved, rejected, stillPending, failed);
+        }
+    }
+
+    private static final class PollingThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "payment-reconciliation-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
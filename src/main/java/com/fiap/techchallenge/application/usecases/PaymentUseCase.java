@@ -1,8 +1,10 @@
 package com.fiap.techchallenge.application.usecases;
 
+import com.fiap.techchallenge.domain.entities.Money;
+
 public interface PaymentUseCase {
     Long createPaymentOrder(
-        Double amount,
+        Money amount,
         String description,
         String paymentMethodId,
         Integer installments,
@@ -1,5 +1,6 @@
 package com.fiap.techchallenge.application.usecases;
 
+import com.fiap.techchallenge.domain.entities.Money;
 import com.fiap.techchallenge.domain.repositories.PaymentRepository;
 
 public class PaymentUseCaseImpl implements PaymentUseCase {
@@ -12,7 +13,7 @@ public class PaymentUseCaseImpl implements PaymentUseCase {
 
     @Override
     public Long createPaymentOrder(
-        Double amount,
+        Money amount,
         String description,
         String paymentMethodId,
         Integer installments,
@@ -27,7 +28,8 @@ public class PaymentUseCaseImpl implements PaymentUseCase {
             installments,
             payerEmail,
             identificationType,
-            identificationNumber
+            identificationNumber,
+            null
         );
     }
 }
@@ -1,6 +1,8 @@
 package com.fiap.techchallenge.application.usecases;
 
 import com.fiap.techchallenge.domain.entities.Product;
+import com.fiap.techchallenge.domain.readmodels.ProductSummary;
+import com.fiap.techchallenge.domain.readmodels.ResourceVersion;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -10,8 +12,10 @@ import java.util.UUID;
 public interface ProductUseCase {
     Product createProduct(String name, String description, BigDecimal price, UUID categoryId);
     Optional<Product> findProductById(UUID id);
+    Optional<ResourceVersion> findProductVersionById(UUID id);
     List<Product> findProductsByName(String name);
     List<Product> findAllProducts();
+    List<ProductSummary> findProductSummaries(UUID categoryId);
     List<Product> findProductsByCategory(UUID categoryId);
     Product updateProduct(UUID id, String name, String description, BigDecimal price, UUID categoryId);
     void deleteProduct(UUID id);
@@ -3,7 +3,9 @@ package com.fiap.techchallenge.application.usecases;
 import com.fiap.techchallenge.domain.entities.Category;
 import com.fiap.techchallenge.domain.entities.Product;
 import com.fiap.techchallenge.domain.exception.NotFoundException;
+import com.fiap.techchallenge.domain.readmodels.ProductSummary;
 import com.fiap.techchallenge.domain.exception.ProductLinkedToOrderException;
+import com.fiap.techchallenge.domain.readmodels.ResourceVersion;
 import com.fiap.techchallenge.domain.repositories.CategoryRepository;
 import com.fiap.techchallenge.domain.repositories.OrderRepository;
 import com.fiap.techchallenge.domain.repositories.ProductRepository;
@@ -104,6 +106,27 @@ public class ProductUseCaseImpl implements ProductUseCase {
         }
     }
 
+    @Override
+    public Optional<ResourceVersion> findProductVersionById(UUID id) {
+        try {
+            StructuredLogger.setCategory(LogCategory.BUSINESS);
+            StructuredLogger.setOperation("FindProductVersionById");
+            StructuredLogger.setProductId(id.toString());
+
+            // GET condicional: não carrega a entidade; vazio deixa o fluxo normal responder o 404
+            Optional<ResourceVersion> version = productRepository.findVersionById(id);
+            logger.debug("Product version checked: productId={}, found={}", id, version.isPresent());
+            return version;
+
+        } catch (Exception e) {
+            StructuredLogger.setError("PRODUCT_VERSION_FAILED", e.getMessage());
+            logger.error("Failed to check product version: productId={}", id, e);
+            throw e;
+        } finally {
+            StructuredLogger.clear();
+        }
+    }
+
     @Override
     public List<Product> findProductsByName(String name) {
         try {
@@ -144,6 +167,29 @@ public class ProductUseCaseImpl implements ProductUseCase {
         }
     }
 
+    @Override
+    public List<ProductSummary> findProductSummaries(UUID categoryId) {
+        try {
+            StructuredLogger.setCategory(LogCategory.BUSINESS);
+            StructuredLogger.setOperation("FindProductSummaries");
+            if (categoryId != null) {
+                StructuredLogger.put("categoryId", categoryId.toString());
+            }
+            
+            List<ProductSummary> products = productRepository.findActiveSummaries(categoryId);
+            logger.info("Product summaries listed: categoryId={}, count={}", categoryId, products.size());
+            
+            return products;
+            
+        } catch (Exception e) {
+            StructuredLogger.setError("PRODUCT_LIST_FAILED", e.getMessage());
+            logger.error("Failed to list product summaries: categoryId={}", categoryId, e);
+            throw e;
+        } finally {
+            StructuredLogger.clear();
+        }
+    }
+
     @Override
     public List<Product> findProductsByCategory(UUID categoryId) {
         try {
@@ -212,7 +258,7 @@ public class ProductUseCaseImpl implements ProductUseCase {
             
             logger.info("Product deletion started: productId={}", id);
             
-            if (productRepository.findById(id).isEmpty()) {
+            if (!productRepository.existsById(id)) {
                 logger.warn("Product deletion failed - not found: productId={}", id);
                 throw new NotFoundException(RECORD_NOT_FOUND_MESSAGE);
             }
@@ -0,0 +1,16 @@
+package com.fiap.techchallenge.application.usecases;
+
+import com.fiap.techchallenge.domain.readmodels.CategorySales;
+import com.fiap.techchallenge.domain.readmodels.DailySales;
+import com.fiap.techchallenge.domain.readmodels.ProductSales;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface SalesReportUseCase {
+    // Atualiza as tabelas agregadas com os pedidos alterados desde a última execução; devolve os dias recalculados
+    int refreshSalesReports();
+    List<DailySales> getDailySales(LocalDate from, LocalDate to);
+    List<ProductSales> getTopProducts(LocalDate from, LocalDate to, int limit);
+    List<CategorySales> getCategorySales(LocalDate from, LocalDate to);
+}
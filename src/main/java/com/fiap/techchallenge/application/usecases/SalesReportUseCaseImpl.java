@@ -0,0 +1,152 @@
+package com.fiap.techchallenge.application.usecases;
+
+import com.fiap.techchallenge.domain.exception.DomainException;
+import com.fiap.techchallenge.domain.readmodels.CategorySales;
+import com.fiap.techchallenge.domain.readmodels.DailySales;
+import com.fiap.techchallenge.domain.readmodels.ProductSales;
+import com.fiap.techchallenge.domain.repositories.SalesReportRepository;
+import com.fiap.techchallenge.infrastructure.logging.LogCategory;
+import com.fiap.techchallenge.infrastructure.logging.StructuredLogger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+public class SalesReportUseCaseImpl implements SalesReportUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(SalesReportUseCaseImpl.class);
+
+    // Janela revista a cada refresh para pegar transações que commitaram depois do corte anterior
+    private static final Duration REFRESH_OVERLAP = Duration.ofMinutes(5);
+    private static final long MAX_REPORT_DAYS = 366;
+    private static final int MAX_TOP_PRODUCTS = 100;
+
+    private final SalesReportRepository salesReportRepository;
+    private final int backfillDaysPerRun;
+
+    public SalesReportUseCaseImpl(SalesReportRepository salesReportRepository, int backfillDaysPerRun) {
+        if (backfillDaysPerRun <= 0) {
+            throw new IllegalArgumentException("Backfill days per run must be greater than zero");
+        }
+        this.salesReportRepository = salesReportRepository;
+        this.backfillDaysPerRun = backfillDaysPerRun;
+    }
+
+    @Override
+    public int refreshSalesReports() {
+        long startTime = System.currentTimeMillis();
+        try {
+            StructuredLogger.setCategory(LogCategory.BUSINESS);
+            StructuredLogger.setOperation("RefreshSalesReports");
+
+            int days = salesReportRepository.refreshChangedDays(LocalDateTime.now(), REFRESH_OVERLAP,
+                    backfillDaysPerRun);
+
+            StructuredLogger.setDuration(System.currentTimeMillis() - startTime);
+            if (days < 0) {
+                logger.debug("Sales reports refresh skipped - running on another instance");
+            } else if (days > 0) {
+                logger.info("Sales reports refreshed: days={}", days);
+            } else {
+                logger.debug("No order changes for sales reports");
+            }
+            return Math.max(days, 0);
+
+        } catch (Exception e) {
+            StructuredLogger.setError("SALES_REPORT_REFRESH_FAILED", e.getMessage());
+            logger.error("Failed to refresh sales reports", e);
+            throw e;
+        } finally {
+            StructuredLogger.clear();
+        }
+    }
+
+    @Override
+    public List<DailySales> getDailySales(LocalDate from, LocalDate to) {
+        try {
+            StructuredLogger.setCategory(LogCategory.BUSINESS);
+            StructuredLogger.setOperation("GetDailySales");
+            validatePeriod(from, to);
+
+            List<DailySales> sales = salesReportRepository.findDailySales(from, to);
+            logger.info("Daily sales found: from={}, to={}, days={}", from, to, sales.size());
+            return sales;
+
+        } catch (DomainException e) {
+            logger.warn("Daily sales report rejected: {}", e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            StructuredLogger.setError("SALES_REPORT_FAILED", e.getMessage());
+            logger.error("Failed to get daily sales: from={}, to={}", from, to, e);
+            throw e;
+        } finally {
+            StructuredLogger.clear();
+        }
+    }
+
+    @Override
+    public List<ProductSales> getTopProducts(LocalDate from, LocalDate to, int limit) {
+        try {
+            StructuredLogger.setCategory(LogCategory.BUSINESS);
+            StructuredLogger.setOperation("GetTopProducts");
+            validatePeriod(from, to);
+            if (limit <= 0 || limit > MAX_TOP_PRODUCTS) {
+                throw new DomainException("Limit must be between 1 and " + MAX_TOP_PRODUCTS);
+            }
+
+            List<ProductSales> products = salesReportRepository.findTopProducts(from, to, limit);
+            logger.info("Top products found: from={}, to={}, count={}", from, to, products.size());
+            return products;
+
+        } catch (DomainException e) {
+            logger.warn("Top products report rejected: {}", e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            StructuredLogger.setError("SALES_REPORT_FAILED", e.getMessage());
+            logger.error("Failed to get top products: from={}, to={}", from, to, e);
+            throw e;
+        } finally {
+            StructuredLogger.clear();
+        }
+    }
+
+    @Override
+    public List<CategorySales> getCategorySales(LocalDate from, LocalDate to) {
+        try {
+            StructuredLogger.setCategory(LogCategory.BUSINESS);
+            StructuredLogger.setOperation("GetCategorySales");
+            validatePeriod(from, to);
+
+            List<CategorySales> categories = salesReportRepository.findCategorySales(from, to);
+            logger.info("Category sales found: from={}, to={}, count={}", from, to, categories.size());
+            return categories;
+
+        } catch (DomainException e) {
+            logger.warn("Category sales report rejected: {}", e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            StructuredLogger.setError("SALES_REPORT_FAILED", e.getMessage());
+            logger.error("Failed to get category sales: from={}, to={}", from, to, e);
+            throw e;
+        } finally {
+            StructuredLogger.clear();
+        }
+    }
+
+    // O custo da consulta cresce com o número de dias: períodos limitados a um ano
+    private void validatePeriod(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new DomainException("Period start and end are required");
+        }
+        if (to.isBefore(from)) {
+            throw new DomainException("Period end must not be before start");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_REPORT_DAYS) {
+            throw new DomainException("Period must not exceed " + MAX_REPORT_DAYS + " days");
+        }
+    }
+}
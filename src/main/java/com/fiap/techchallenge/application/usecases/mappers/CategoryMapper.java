@@ -3,23 +3,21 @@ package com.fiap.techchallenge.application.usecases.mappers;
 import com.fiap.techchallenge.domain.entities.Category;
 import com.fiap.techchallenge.external.datasource.entities.CategoryJpaEntity;
 
+import java.util.List;
+
 public class CategoryMapper {
 
-    public static CategoryJpaEntity toJpaEntity(Category category) {
-        if (category == null) return null;
+    private static final CategoryMapping MAPPING = new CategoryMappingImpl();
 
-        return new CategoryJpaEntity(
-            category.getId(),
-            category.getName()
-        );
+    public static CategoryJpaEntity toJpaEntity(Category category) {
+        return MAPPING.toJpaEntity(category);
     }
 
     public static Category toDomainEntity(CategoryJpaEntity jpaEntity) {
-        if (jpaEntity == null) return null;
+        return MAPPING.toDomainEntity(jpaEntity);
+    }
 
-        return Category.builder()
-            .id(jpaEntity.getId())
-            .name(jpaEntity.getName())
-            .build();
+    public static List<Category> toDomainEntities(List<CategoryJpaEntity> jpaEntities) {
+        return MAPPING.toDomainEntities(jpaEntities);
     }
 }
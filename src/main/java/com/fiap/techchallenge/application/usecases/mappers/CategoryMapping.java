@@ -0,0 +1,18 @@
+package com.fiap.techchallenge.application.usecases.mappers;
+
+import com.fiap.techchallenge.domain.entities.Category;
+import com.fiap.techchallenge.external.datasource.entities.CategoryJpaEntity;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+// Implementação gerada pelo MapStruct (CategoryMappingImpl); use pela fachada CategoryMapper
+@Mapper
+interface CategoryMapping {
+
+    CategoryJpaEntity toJpaEntity(Category category);
+
+    Category toDomainEntity(CategoryJpaEntity jpaEntity);
+
+    List<Category> toDomainEntities(List<CategoryJpaEntity> jpaEntities);
+}
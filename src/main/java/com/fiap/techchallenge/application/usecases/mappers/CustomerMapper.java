@@ -5,25 +5,13 @@ import com.fiap.techchallenge.external.datasource.entities.CustomerJpaEntity;
 
 public class CustomerMapper {
 
-    public static CustomerJpaEntity toJpaEntity(Customer customer) {
-        if (customer == null) return null;
+    private static final CustomerMapping MAPPING = new CustomerMappingImpl();
 
-        return new CustomerJpaEntity(
-            customer.getId(),
-            customer.getName(),
-            customer.getEmail(),
-            customer.getCpf()
-        );
+    public static CustomerJpaEntity toJpaEntity(Customer customer) {
+        return MAPPING.toJpaEntity(customer);
     }
 
     public static Customer toDomainEntity(CustomerJpaEntity jpaEntity) {
-        if (jpaEntity == null) return null;
-
-        return Customer.builder()
-            .id(jpaEntity.getId())
-            .name(jpaEntity.getName())
-            .email(jpaEntity.getEmail())
-            .cpf(jpaEntity.getCpf())
-            .build();
+        return MAPPING.toDomainEntity(jpaEntity);
     }
 }
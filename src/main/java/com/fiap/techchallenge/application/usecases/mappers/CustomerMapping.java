@@ -0,0 +1,15 @@
+package com.fiap.techchallenge.application.usecases.mappers;
+
+import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.external.datasource.entities.CustomerJpaEntity;
+import org.mapstruct.Mapper;
+
+// Implementação gerada pelo MapStruct (CustomerMappingImpl); use pela fachada CustomerMapper
+@Mapper
+interface CustomerMapping {
+
+    CustomerJpaEntity toJpaEntity(Customer customer);
+
+    // Monta pelo Customer.builder(), que valida nome, e-mail e CPF
+    Customer toDomainEntity(CustomerJpaEntity jpaEntity);
+}
@@ -0,0 +1,72 @@
+package com.fiap.techchallenge.application.usecases.mappers;
+
+import com.fiap.techchallenge.domain.entities.*;
+import com.fiap.techchallenge.domain.readmodels.OrderItemSummary;
+import com.fiap.techchallenge.domain.readmodels.OrderState;
+import com.fiap.techchallenge.domain.readmodels.OrderSummary;
+import com.fiap.techchallenge.external.datasource.entities.OrderItemJpaEntity;
+import com.fiap.techchallenge.external.datasource.entities.OrderJpaEntity;
+import com.fiap.techchallenge.external.datasource.repositories.OrderJpaRepository;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+
+import java.util.List;
+
+// Implementação gerada pelo MapStruct (OrderMappingImpl); use pela fachada OrderMapper.
+// Status são convertidos pelo nome da constante; constante desconhecida lança IllegalArgumentException.
+// Sem "uses": o cliente é mapeado inline, em vez de um Mappers.getMapper por reflexão.
+@Mapper
+interface OrderMapping {
+
+    OrderJpaEntity toJpaEntity(Order order);
+
+    // Pelo Order.builder(): a previsão de pronto fica vazia e o caso de uso preenche com withEstimatedReadyAt
+    Order toDomainEntity(OrderJpaEntity jpaEntity);
+
+    List<Order> toDomainEntities(List<OrderJpaEntity> jpaEntities);
+
+    // A associação com o catálogo é só leitura; o INSERT usa product_id
+    @Mapping(target = "product", ignore = true)
+    OrderItemJpaEntity toJpaOrderItem(OrderItem orderItem);
+
+    @Mapping(target = "product", source = ".", qualifiedByName = "snapshotProduct")
+    OrderItem toDomainOrderItem(OrderItemJpaEntity jpaEntity);
+
+    // Os itens já vêm agrupados do gateway: repassa a lista em vez de copiá-la
+    @Mapping(target = "items", source = "items", qualifiedByName = "sameList")
+    OrderSummary toOrderSummary(OrderJpaRepository.OrderSummaryRow row, List<OrderItemSummary> items);
+
+    OrderState toOrderState(OrderJpaRepository.OrderStateRow row);
+
+    List<OrderState> toOrderStates(List<OrderJpaRepository.OrderStateRow> rows);
+
+    OrderJpaEntity.StatusPaymentJpa toJpaPaymentStatus(StatusPayment status);
+
+    @Named("sameList")
+    default List<OrderItemSummary> sameList(List<OrderItemSummary> items) {
+        return items;
+    }
+
+    // Monta o produto a partir do snapshot gravado no item, sem tocar na associação com o catálogo.
+    // Itens antigos, gravados antes do snapshot existir, ainda caem na associação lazy.
+    @Named("snapshotProduct")
+    default Product toSnapshotProduct(OrderItemJpaEntity jpaEntity) {
+        if (jpaEntity.getProductName() == null) {
+            return ProductMapper.toDomainEntity(jpaEntity.getProduct());
+        }
+
+        Category category = null;
+        if (jpaEntity.getCategoryId() != null) {
+            category = new Category(jpaEntity.getCategoryId(), jpaEntity.getCategoryName());
+        }
+
+        return Product.builder()
+            .id(jpaEntity.getProductId())
+            .name(jpaEntity.getProductName())
+            .price(jpaEntity.getUnitPrice().toBigDecimal())
+            .category(category)
+            .active(true)
+            .build();
+    }
+}
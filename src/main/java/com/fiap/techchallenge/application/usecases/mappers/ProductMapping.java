@@ -0,0 +1,18 @@
+package com.fiap.techchallenge.application.usecases.mappers;
+
+import com.fiap.techchallenge.domain.entities.Product;
+import com.fiap.techchallenge.external.datasource.entities.ProductJpaEntity;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+// Implementação gerada pelo MapStruct (ProductMappingImpl); use pela fachada ProductMapper
+@Mapper
+interface ProductMapping {
+
+    ProductJpaEntity toJpaEntity(Product product);
+
+    Product toDomainEntity(ProductJpaEntity jpaEntity);
+
+    List<Product> toDomainEntities(List<ProductJpaEntity> jpaEntities);
+}
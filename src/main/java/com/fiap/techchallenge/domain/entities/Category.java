@@ -2,11 +2,13 @@ package com.fiap.techchallenge.domain.entities;
 
 import java.util.UUID;
 
-public class Category {
-    private UUID id;
-    private String name;
-
-    public Category() {}
+/**
+ * Imutável: a mesma instância pode ser compartilhada entre requisições
+ * (índice de busca, identity map) sem cópia defensiva.
+ */
+public final class Category {
+    private final UUID id;
+    private final String name;
 
     public Category(UUID id, String name) {
         this.id = id;
@@ -17,16 +19,12 @@ public class Category {
         return id;
     }
 
-    public void setId(UUID id) {
-        this.id = id;
-    }
-
     public String getName() {
         return name;
     }
 
-    public void setName(String name) {
-        this.name = name;
+    public Category withName(String name) {
+        return new Category(this.id, name);
     }
 
     public static Builder builder() {
@@ -0,0 +1,83 @@
+package com.fiap.techchallenge.domain.entities;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Valor monetário em reais guardado como centavos em um <code>long</code>.
+ * <p>
+ * Soma e multiplicação são aritmética de inteiros (sem as alocações do BigDecimal)
+ * e com estouro detectado; a conversão para BigDecimal fica nas bordas: banco,
+ * JSON e catálogo de produtos.
+ * </p>
+ */
+public final class Money implements Comparable<Money> {
+
+    public static final Money ZERO = new Money(0);
+
+    private static final int SCALE = 2;
+
+    private final long cents;
+
+    private Money(long cents) {
+        this.cents = cents;
+    }
+
+    public static Money ofCents(long cents) {
+        return cents == 0 ? ZERO : new Money(cents);
+    }
+
+    // Valores com mais de duas casas (entrada manual no catálogo) são arredondados como no banco (numeric(38,2))
+    public static Money of(BigDecimal amount) {
+        if (amount == null) return null;
+        return ofCents(amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+    }
+
+    public static Money parse(String amount) {
+        return of(new BigDecimal(amount));
+    }
+
+    public Money plus(Money other) {
+        return ofCents(Math.addExact(cents, other.cents));
+    }
+
+    public Money times(int quantity) {
+        return ofCents(Math.multiplyExact(cents, quantity));
+    }
+
+    public long getCents() { return cents; }
+
+    public boolean isPositive() { return cents > 0; }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof Money other && cents == other.cents);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(cents);
+    }
+
+    // Formato decimal simples ("12.50"), o mesmo usado no JSON e no Mercado Pago
+    @Override
+    public String toString() {
+        // Sem Math.abs(cents): estoura em Long.MIN_VALUE; quociente e resto sempre cabem
+        long units = cents / 100;
+        long fraction = Math.abs(cents % 100);
+        StringBuilder text = new StringBuilder(24);
+        if (cents < 0) text.append('-');
+        text.append(Math.abs(units)).append('.');
+        if (fraction < 10) text.append('0');
+        return text.append(fraction).toString();
+    }
+}
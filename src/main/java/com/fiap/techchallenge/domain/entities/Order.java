@@ -1,27 +1,38 @@
 package com.fiap.techchallenge.domain.entities;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
-public class Order {
-    private Long id;
-    private UUID customerId;
-    private Customer customer;
-    private List<OrderItem> items;
-    private BigDecimal totalAmount;
-    private OrderStatus status;
-    private StatusPayment statusPayment;
-    private Long idPayment;
-    private LocalDateTime createdAt;
-    private LocalDateTime updatedAt;
-
-    public Order() {}
+/**
+ * Imutável: as mudanças de estado geram uma cópia com os with*. Os itens ficam
+ * numa lista imutável, compartilhada entre a cópia e o original.
+ */
+public final class Order {
+    private final Long id;
+    private final UUID customerId;
+    private final Customer customer;
+    private final List<OrderItem> items;
+    private final Money totalAmount;
+    private final OrderStatus status;
+    private final StatusPayment statusPayment;
+    private final Long idPayment;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    // Calculado na leitura a partir do histórico de preparo; não é persistido
+    private final LocalDateTime estimatedReadyAt;
 
     public Order(Long id, UUID customerId, Customer customer, List<OrderItem> items,
-                 BigDecimal totalAmount, OrderStatus status, StatusPayment statusPayment,
+                 Money totalAmount, OrderStatus status, StatusPayment statusPayment,
                  Long idPayment, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, customerId, customer, items != null ? List.copyOf(items) : List.of(), totalAmount, status,
+             statusPayment, idPayment, createdAt, updatedAt, null);
+    }
+
+    private Order(Long id, UUID customerId, Customer customer, List<OrderItem> items,
+                  Money totalAmount, OrderStatus status, StatusPayment statusPayment,
+                  Long idPayment, LocalDateTime createdAt, LocalDateTime updatedAt,
+                  LocalDateTime estimatedReadyAt) {
         this.id = id;
         this.customerId = customerId;
         this.customer = customer;
@@ -32,13 +43,16 @@ public class Order {
         this.idPayment = idPayment;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
+        this.estimatedReadyAt = estimatedReadyAt;
     }
 
     // Factory method
     public static Order create(Customer customer, List<OrderItem> items) {
-        BigDecimal total = items.stream()
-                .map(OrderItem::getSubTotal)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        // Soma direto nos centavos: um único Money no fim, em vez de um objeto por item
+        long totalCents = 0;
+        for (OrderItem item : items) {
+            totalCents = Math.addExact(totalCents, item.getSubTotal().getCents());
+        }
 
         LocalDateTime now = LocalDateTime.now();
 
@@ -47,7 +61,7 @@ public class Order {
             customer != null ? customer.getId() : null,
             customer,
             items,
-            total,
+            Money.ofCents(totalCents),
             OrderStatus.RECEIVED,
             StatusPayment.AGUARDANDO_PAGAMENTO,
             null,
@@ -61,22 +75,71 @@ public class Order {
     public UUID getCustomerId() { return customerId; }
     public Customer getCustomer() { return customer; }
     public List<OrderItem> getItems() { return items; }
-    public BigDecimal getTotalAmount() { return totalAmount; }
+    public Money getTotalAmount() { return totalAmount; }
     public OrderStatus getStatus() { return status; }
     public StatusPayment getStatusPayment() { return statusPayment; }
     public Long getIdPayment() { return idPayment; }
     public LocalDateTime getCreatedAt() { return createdAt; }
     public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public LocalDateTime getEstimatedReadyAt() { return estimatedReadyAt; }
+
+    // Cópias: reaproveitam itens e cliente
+    public Order withId(Long id) {
+        return new Order(id, customerId, customer, items, totalAmount, status, statusPayment, idPayment,
+                createdAt, updatedAt, estimatedReadyAt);
+    }
+
+    public Order withStatus(OrderStatus status) {
+        return new Order(id, customerId, customer, items, totalAmount, status, statusPayment, idPayment,
+                createdAt, updatedAt, estimatedReadyAt);
+    }
+
+    public Order withStatusPayment(StatusPayment statusPayment) {
+        return new Order(id, customerId, customer, items, totalAmount, status, statusPayment, idPayment,
+                createdAt, updatedAt, estimatedReadyAt);
+    }
 
-    // Setters
-    public void setId(Long id) { this.id = id; }
-    public void setCustomerId(UUID customerId) { this.customerId = customerId; }
-    public void setCustomer(Customer customer) { this.customer = customer; }
-    public void setItems(List<OrderItem> items) { this.items = items; }
-    public void setTotalAmount(BigDecimal totalAmount) { this.totalAmount = totalAmount; }
-    public void setStatus(OrderStatus status) { this.status = status; }
-    public void setStatusPayment(StatusPayment statusPayment) { this.statusPayment = statusPayment; }
-    public void setIdPayment(Long idPayment) { this.idPayment = idPayment; }
-    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
-    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+    public Order withIdPayment(Long idPayment) {
+        return new Order(id, customerId, customer, items, totalAmount, status, statusPayment, idPayment,
+                createdAt, updatedAt, estimatedReadyAt);
+    }
+
+    public Order withEstimatedReadyAt(LocalDateTime estimatedReadyAt) {
+        return new Order(id, customerId, customer, items, totalAmount, status, statusPayment, idPayment,
+                createdAt, updatedAt, estimatedReadyAt);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // Sem estimatedReadyAt: é calculado na leitura, nunca vem do banco
+    public static class Builder {
+        private Long id;
+        private UUID customerId;
+        private Customer customer;
+        private List<OrderItem> items;
+        private Money totalAmount;
+        private OrderStatus status;
+        private StatusPayment statusPayment;
+        private Long idPayment;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+
+        public Builder id(Long id) { this.id = id; return this; }
+        public Builder customerId(UUID customerId) { this.customerId = customerId; return this; }
+        public Builder customer(Customer customer) { this.customer = customer; return this; }
+        public Builder items(List<OrderItem> items) { this.items = items; return this; }
+        public Builder totalAmount(Money totalAmount) { this.totalAmount = totalAmount; return this; }
+        public Builder status(OrderStatus status) { this.status = status; return this; }
+        public Builder statusPayment(StatusPayment statusPayment) { this.statusPayment = statusPayment; return this; }
+        public Builder idPayment(Long idPayment) { this.idPayment = idPayment; return this; }
+        public Builder createdAt(LocalDateTime createdAt) { this.createdAt = createdAt; return this; }
+        public Builder updatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; return this; }
+
+        public Order build() {
+            return new Order(id, customerId, customer, items, totalAmount, status, statusPayment, idPayment,
+                    createdAt, updatedAt);
+        }
+    }
 }
@@ -1,38 +1,46 @@
 package com.fiap.techchallenge.domain.entities;
 
-import java.math.BigDecimal;
 import java.util.UUID;
 
-public class OrderItem {
-    private UUID id;
-    private UUID productId;
-    private Product product;
-    private Integer quantity;
-    private BigDecimal unitPrice;
-    private BigDecimal subTotal;
-
-    public OrderItem() {}
-
-    public OrderItem(UUID id, UUID productId, Product product, Integer quantity, BigDecimal unitPrice, BigDecimal subTotal) {
+public final class OrderItem {
+    private final UUID id;
+    private final UUID productId;
+    private final Product product;
+    private final String productName;
+    private final UUID categoryId;
+    private final String categoryName;
+    private final Integer quantity;
+    private final Money unitPrice;
+    private final Money subTotal;
+
+    public OrderItem(UUID id, UUID productId, Product product, String productName, UUID categoryId,
+                     String categoryName, Integer quantity, Money unitPrice, Money subTotal) {
         this.id = id;
         this.productId = productId;
         this.product = product;
+        this.productName = productName;
+        this.categoryId = categoryId;
+        this.categoryName = categoryName;
         this.quantity = quantity;
         this.unitPrice = unitPrice;
         this.subTotal = subTotal;
     }
 
-    // Factory method
+    // Factory method - guarda um snapshot do produto para que a leitura do pedido não dependa do catálogo
     public static OrderItem create(Product product, Integer quantity) {
-        BigDecimal subTotal = product.getPrice().multiply(BigDecimal.valueOf(quantity));
+        Money unitPrice = Money.of(product.getPrice());
+        Category category = product.getCategory();
 
         return new OrderItem(
             null,
             product.getId(),
             product,
+            product.getName(),
+            category != null ? category.getId() : null,
+            category != null ? category.getName() : null,
             quantity,
-            product.getPrice(),
-            subTotal
+            unitPrice,
+            unitPrice.times(quantity)
         );
     }
 
@@ -40,15 +48,10 @@ public class OrderItem {
     public UUID getId() { return id; }
     public UUID getProductId() { return productId; }
     public Product getProduct() { return product; }
+    public String getProductName() { return productName; }
+    public UUID getCategoryId() { return categoryId; }
+    public String getCategoryName() { return categoryName; }
     public Integer getQuantity() { return quantity; }
-    public BigDecimal getUnitPrice() { return unitPrice; }
-    public BigDecimal getSubTotal() { return subTotal; }
-
-    // Setters
-    public void setId(UUID id) { this.id = id; }
-    public void setProductId(UUID productId) { this.productId = productId; }
-    public void setProduct(Product product) { this.product = product; }
-    public void setQuantity(Integer quantity) { this.quantity = quantity; }
-    public void setUnitPrice(BigDecimal unitPrice) { this.unitPrice = unitPrice; }
-    public void setSubTotal(BigDecimal subTotal) { this.subTotal = subTotal; }
+    public Money getUnitPrice() { return unitPrice; }
+    public Money getSubTotal() { return subTotal; }
 }
@@ -1,8 +1,25 @@
 package com.fiap.techchallenge.domain.entities;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum OrderStatus {
     RECEIVED,
     IN_PREPARATION,
     READY,
-    FINISHED
+    FINISHED;
+
+    // Máquina de estados: RECEIVED -> IN_PREPARATION -> READY -> FINISHED
+    public Set<OrderStatus> allowedPreviousStatuses() {
+        switch (this) {
+            case IN_PREPARATION: return EnumSet.of(RECEIVED);
+            case READY: return EnumSet.of(IN_PREPARATION);
+            case FINISHED: return EnumSet.of(READY);
+            default: return EnumSet.noneOf(OrderStatus.class);
+        }
+    }
+
+    public boolean canTransitionTo(OrderStatus next) {
+        return next != null && next.allowedPreviousStatuses().contains(this);
+    }
 }
@@ -3,15 +3,14 @@ package com.fiap.techchallenge.domain.entities;
 import java.math.BigDecimal;
 import java.util.UUID;
 
-public class Product {
-    private UUID id;
-    private String name;
-    private String description;
-    private BigDecimal price;
-    private Category category;
-    private boolean active;
-
-    public Product() {}
+// Imutável como Category: os with* devolvem cópias rasas que reaproveitam a categoria
+public final class Product {
+    private final UUID id;
+    private final String name;
+    private final String description;
+    private final BigDecimal price;
+    private final Category category;
+    private final boolean active;
 
     public Product(UUID id, String name, String description, BigDecimal price, Category category, boolean active) {
         this.id = id;
@@ -30,13 +29,13 @@ public class Product {
     public Category getCategory() { return category; }
     public boolean isActive() { return active; }
 
-    // Setters
-    public void setId(UUID id) { this.id = id; }
-    public void setName(String name) { this.name = name; }
-    public void setDescription(String description) { this.description = description; }
-    public void setPrice(BigDecimal price) { this.price = price; }
-    public void setCategory(Category category) { this.category = category; }
-    public void setActive(boolean active) { this.active = active; }
+    // Cópias
+    public Product withId(UUID id) { return new Product(id, name, description, price, category, active); }
+    public Product withName(String name) { return new Product(id, name, description, price, category, active); }
+    public Product withDescription(String description) { return new Product(id, name, description, price, category, active); }
+    public Product withPrice(BigDecimal price) { return new Product(id, name, description, price, category, active); }
+    public Product withCategory(Category category) { return new Product(id, name, description, price, category, active); }
+    public Product withActive(boolean active) { return new Product(id, name, description, price, category, active); }
 
     // Business methods
     public Product update(String name, String description, BigDecimal price, Category category) {
@@ -51,11 +50,11 @@ public class Product {
     }
 
     public Product activate() {
-        return new Product(this.id, this.name, this.description, this.price, this.category, true);
+        return withActive(true);
     }
 
     public Product deactivate() {
-        return new Product(this.id, this.name, this.description, this.price, this.category, false);
+        return withActive(false);
     }
 
     public static Builder builder() {
@@ -5,6 +5,11 @@ public enum StatusPayment {
     APROVADO,
     REJEITADO;
 
+    // O pagamento só sai de AGUARDANDO_PAGAMENTO; APROVADO e REJEITADO são finais
+    public boolean canTransitionTo(StatusPayment next) {
+        return this == AGUARDANDO_PAGAMENTO && next != null && next != AGUARDANDO_PAGAMENTO;
+    }
+
     // Método para converter status do Mercado Pago
     public static StatusPayment fromMercadoPagoStatus(String mpStatus) {
         switch (mpStatus.toLowerCase()) {
@@ -12,9 +17,13 @@ public enum StatusPayment {
                 return APROVADO;
             case "pending":
             case "in_process":
+            case "authorized":   // autorizado, ainda não capturado
+            case "in_mediation": // em disputa: só vale o desfecho
                 return AGUARDANDO_PAGAMENTO;
             case "rejected":
             case "cancelled":
+            case "refunded":
+            case "charged_back":
                 return REJEITADO;
             default:
                 throw new IllegalArgumentException("Status desconhecido do Mercado Pago: " + mpStatus);
@@ -0,0 +1,7 @@
+package com.fiap.techchallenge.domain.exception;
+
+public class IdempotencyKeyInProgressException extends DomainException {
+    public IdempotencyKeyInProgressException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.fiap.techchallenge.domain.exception;
+
+public class IdempotencyKeyMismatchException extends DomainException {
+    public IdempotencyKeyMismatchException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.fiap.techchallenge.domain.exception;
+
+public class OrderStatusConflictException extends DomainException {
+    public OrderStatusConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,27 @@
+package com.fiap.techchallenge.domain.readmodels;
+
+import com.fiap.techchallenge.domain.entities.Money;
+
+import java.util.UUID;
+
+/**
+ * Quantidade vendida e receita de uma categoria em um período; categoryId nulo agrupa itens sem categoria.
+ */
+public class CategorySales {
+    private final UUID categoryId;
+    private final String categoryName;
+    private final long quantity;
+    private final Money revenue;
+
+    public CategorySales(UUID categoryId, String categoryName, long quantity, Money revenue) {
+        this.categoryId = categoryId;
+        this.categoryName = categoryName;
+        this.quantity = quantity;
+        this.revenue = revenue;
+    }
+
+    public UUID getCategoryId() { return categoryId; }
+    public String getCategoryName() { return categoryName; }
+    public long getQuantity() { return quantity; }
+    public Money getRevenue() { return revenue; }
+}
@@ -0,0 +1,27 @@
+package com.fiap.techchallenge.domain.readmodels;
+
+import com.fiap.techchallenge.domain.entities.Money;
+
+import java.time.LocalDate;
+
+/**
+ * Vendas de um dia (pedidos com pagamento aprovado, pela data de criação).
+ */
+public class DailySales {
+    private final LocalDate day;
+    private final int orders;
+    private final long items;
+    private final Money revenue;
+
+    public DailySales(LocalDate day, int orders, long items, Money revenue) {
+        this.day = day;
+        this.orders = orders;
+        this.items = items;
+        this.revenue = revenue;
+    }
+
+    public LocalDate getDay() { return day; }
+    public int getOrders() { return orders; }
+    public long getItems() { return items; }
+    public Money getRevenue() { return revenue; }
+}
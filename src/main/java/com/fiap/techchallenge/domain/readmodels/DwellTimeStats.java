@@ -0,0 +1,27 @@
+package com.fiap.techchallenge.domain.readmodels;
+
+/**
+ * Tempo de permanência em uma etapa do pedido, em segundos.
+ * Os quantis são estimativas em fluxo; null enquanto não há amostras.
+ */
+public class DwellTimeStats {
+    private final long samples;
+    private final Double meanSeconds;
+    private final Double p50Seconds;
+    private final Double p90Seconds;
+    private final Double p99Seconds;
+
+    public DwellTimeStats(long samples, Double meanSeconds, Double p50Seconds, Double p90Seconds, Double p99Seconds) {
+        this.samples = samples;
+        this.meanSeconds = meanSeconds;
+        this.p50Seconds = p50Seconds;
+        this.p90Seconds = p90Seconds;
+        this.p99Seconds = p99Seconds;
+    }
+
+    public long getSamples() { return samples; }
+    public Double getMeanSeconds() { return meanSeconds; }
+    public Double getP50Seconds() { return p50Seconds; }
+    public Double getP90Seconds() { return p90Seconds; }
+    public Double getP99Seconds() { return p99Seconds; }
+}
@@ -0,0 +1,21 @@
+package com.fiap.techchallenge.domain.readmodels;
+
+/**
+ * Situação de uma chave de idempotência: em andamento ou concluída com o pedido criado.
+ */
+public class IdempotencyRecord {
+    private final String key;
+    private final String requestHash;
+    private final Long orderId;
+
+    public IdempotencyRecord(String key, String requestHash, Long orderId) {
+        this.key = key;
+        this.requestHash = requestHash;
+        this.orderId = orderId;
+    }
+
+    public String getKey() { return key; }
+    public String getRequestHash() { return requestHash; }
+    public Long getOrderId() { return orderId; }
+    public boolean isCompleted() { return orderId != null; }
+}
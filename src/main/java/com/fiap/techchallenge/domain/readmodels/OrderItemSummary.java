@@ -0,0 +1,17 @@
+package com.fiap.techchallenge.domain.readmodels;
+
+/**
+ * Item do pedido como a cozinha vê: nome do produto e quantidade.
+ */
+public class OrderItemSummary {
+    private final String productName;
+    private final Integer quantity;
+
+    public OrderItemSummary(String productName, Integer quantity) {
+        this.productName = productName;
+        this.quantity = quantity;
+    }
+
+    public String getProductName() { return productName; }
+    public Integer getQuantity() { return quantity; }
+}
@@ -0,0 +1,27 @@
+package com.fiap.techchallenge.domain.readmodels;
+
+import com.fiap.techchallenge.domain.entities.OrderStatus;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Estatísticas da fila de pedidos para o painel da cozinha: quanto tempo os pedidos
+ * ficam em cada status e quanto levam da criação até ficarem prontos.
+ * Acumuladas pela instância desde <code>since</code>, a partir das transições que ela aplicou.
+ */
+public class OrderQueueStats {
+    private final LocalDateTime since;
+    private final Map<OrderStatus, DwellTimeStats> dwellTimes;
+    private final DwellTimeStats timeToReady;
+
+    public OrderQueueStats(LocalDateTime since, Map<OrderStatus, DwellTimeStats> dwellTimes, DwellTimeStats timeToReady) {
+        this.since = since;
+        this.dwellTimes = dwellTimes;
+        this.timeToReady = timeToReady;
+    }
+
+    public LocalDateTime getSince() { return since; }
+    public Map<OrderStatus, DwellTimeStats> getDwellTimes() { return dwellTimes; }
+    public DwellTimeStats getTimeToReady() { return timeToReady; }
+}
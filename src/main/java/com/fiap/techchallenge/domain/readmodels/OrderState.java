@@ -0,0 +1,24 @@
+package com.fiap.techchallenge.domain.readmodels;
+
+import com.fiap.techchallenge.domain.entities.OrderStatus;
+import com.fiap.techchallenge.domain.entities.StatusPayment;
+
+/**
+ * Estado atual do pedido, sem itens nem cliente.
+ * Usado para explicar por que uma transição condicional não foi aplicada.
+ */
+public class OrderState {
+    private final Long id;
+    private final OrderStatus status;
+    private final StatusPayment statusPayment;
+
+    public OrderState(Long id, OrderStatus status, StatusPayment statusPayment) {
+        this.id = id;
+        this.status = status;
+        this.statusPayment = statusPayment;
+    }
+
+    public Long getId() { return id; }
+    public OrderStatus getStatus() { return status; }
+    public StatusPayment getStatusPayment() { return statusPayment; }
+}
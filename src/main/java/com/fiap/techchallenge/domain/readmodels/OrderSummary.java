@@ -0,0 +1,41 @@
+package com.fiap.techchallenge.domain.readmodels;
+
+import com.fiap.techchallenge.domain.entities.Money;
+import com.fiap.techchallenge.domain.entities.OrderStatus;
+import com.fiap.techchallenge.domain.entities.StatusPayment;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Visão de listagem do pedido para o painel da cozinha e acompanhamento.
+ * Traz só o nome do cliente e os itens resumidos, sem o grafo Customer/Product/Category.
+ */
+public class OrderSummary {
+    private final Long id;
+    private final OrderStatus status;
+    private final StatusPayment statusPayment;
+    private final Money totalAmount;
+    private final String customerName;
+    private final LocalDateTime createdAt;
+    private final List<OrderItemSummary> items;
+
+    public OrderSummary(Long id, OrderStatus status, StatusPayment statusPayment, Money totalAmount,
+                        String customerName, LocalDateTime createdAt, List<OrderItemSummary> items) {
+        this.id = id;
+        this.status = status;
+        this.statusPayment = statusPayment;
+        this.totalAmount = totalAmount;
+        this.customerName = customerName;
+        this.createdAt = createdAt;
+        this.items = items;
+    }
+
+    public Long getId() { return id; }
+    public OrderStatus getStatus() { return status; }
+    public StatusPayment getStatusPayment() { return statusPayment; }
+    public Money getTotalAmount() { return totalAmount; }
+    public String getCustomerName() { return customerName; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public List<OrderItemSummary> getItems() { return items; }
+}
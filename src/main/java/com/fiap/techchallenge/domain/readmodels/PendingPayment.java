@@ -0,0 +1,17 @@
+package com.fiap.techchallenge.domain.readmodels;
+
+/**
+ * Pedido aguardando pagamento e o pagamento correspondente no Mercado Pago.
+ */
+public class PendingPayment {
+    private final Long orderId;
+    private final Long idPayment;
+
+    public PendingPayment(Long orderId, Long idPayment) {
+        this.orderId = orderId;
+        this.idPayment = idPayment;
+    }
+
+    public Long getOrderId() { return orderId; }
+    public Long getIdPayment() { return idPayment; }
+}
@@ -0,0 +1,31 @@
+package com.fiap.techchallenge.domain.readmodels;
+
+import com.fiap.techchallenge.domain.entities.Money;
+
+import java.util.UUID;
+
+/**
+ * Quantidade vendida e receita de um produto em um período.
+ * Nome e categoria vêm do snapshot gravado nos itens do pedido.
+ */
+public class ProductSales {
+    private final UUID productId;
+    private final String productName;
+    private final String categoryName;
+    private final long quantity;
+    private final Money revenue;
+
+    public ProductSales(UUID productId, String productName, String categoryName, long quantity, Money revenue) {
+        this.productId = productId;
+        this.productName = productName;
+        this.categoryName = categoryName;
+        this.quantity = quantity;
+        this.revenue = revenue;
+    }
+
+    public UUID getProductId() { return productId; }
+    public String getProductName() { return productName; }
+    public String getCategoryName() { return categoryName; }
+    public long getQuantity() { return quantity; }
+    public Money getRevenue() { return revenue; }
+}
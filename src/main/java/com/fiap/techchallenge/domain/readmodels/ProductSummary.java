@@ -0,0 +1,30 @@
+package com.fiap.techchallenge.domain.readmodels;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Visão de listagem do cardápio: só o que o totem exibe.
+ * Montada direto pela consulta, sem passar pela entidade {@code Product}.
+ */
+public class ProductSummary {
+    private final UUID id;
+    private final String name;
+    private final BigDecimal price;
+    private final UUID categoryId;
+    private final String categoryName;
+
+    public ProductSummary(UUID id, String name, BigDecimal price, UUID categoryId, String categoryName) {
+        this.id = id;
+        this.name = name;
+        this.price = price;
+        this.categoryId = categoryId;
+        this.categoryName = categoryName;
+    }
+
+    public UUID getId() { return id; }
+    public String getName() { return name; }
+    public BigDecimal getPrice() { return price; }
+    public UUID getCategoryId() { return categoryId; }
+    public String getCategoryName() { return categoryName; }
+}
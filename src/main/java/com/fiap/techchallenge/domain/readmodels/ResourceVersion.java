@@ -0,0 +1,21 @@
+package com.fiap.techchallenge.domain.readmodels;
+
+import java.time.LocalDateTime;
+
+/**
+ * Versão de um recurso para GET condicional: o tag muda sempre que a
+ * representação muda (produto inclui a versão da categoria) e
+ * lastModified é a alteração mais recente entre as linhas envolvidas.
+ */
+public class ResourceVersion {
+    private final String tag;
+    private final LocalDateTime lastModified;
+
+    public ResourceVersion(String tag, LocalDateTime lastModified) {
+        this.tag = tag;
+        this.lastModified = lastModified;
+    }
+
+    public String getTag() { return tag; }
+    public LocalDateTime getLastModified() { return lastModified; }
+}
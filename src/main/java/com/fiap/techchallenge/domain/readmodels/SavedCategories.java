@@ -0,0 +1,21 @@
+package com.fiap.techchallenge.domain.readmodels;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Resultado da criação de categorias por nome: o id de todos os nomes informados
+ * e quantas linhas foram de fato inseridas (as já existentes não contam).
+ */
+public class SavedCategories {
+    private final Map<String, UUID> ids;
+    private final int created;
+
+    public SavedCategories(Map<String, UUID> ids, int created) {
+        this.ids = ids;
+        this.created = created;
+    }
+
+    public Map<String, UUID> getIds() { return ids; }
+    public int getCreated() { return created; }
+}
@@ -1,7 +1,10 @@
 package com.fiap.techchallenge.domain.repositories;
 
 import com.fiap.techchallenge.domain.entities.Category;
+import com.fiap.techchallenge.domain.readmodels.ResourceVersion;
+import com.fiap.techchallenge.domain.readmodels.SavedCategories;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -9,7 +12,12 @@ import java.util.UUID;
 public interface CategoryRepository {
     Category save(Category category);
     Optional<Category> findById(UUID id);
+    Optional<ResourceVersion> findVersionById(UUID id);
+    boolean existsById(UUID id);
     boolean existsByName(String name);
     List<Category> findAll();
     void deleteById(UUID id);
+    // Cria as categorias que ainda não existem (sem diferenciar maiúsculas nem espaços nas pontas)
+    // e devolve o id de todos os nomes informados, pelo nome normalizado (trim + minúsculas)
+    SavedCategories saveAllByName(Collection<String> names);
 }
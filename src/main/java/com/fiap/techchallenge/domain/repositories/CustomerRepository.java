@@ -1,6 +1,7 @@
 package com.fiap.techchallenge.domain.repositories;
 
 import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.readmodels.ResourceVersion;
 
 import java.util.List;
 import java.util.Optional;
@@ -9,6 +10,7 @@ import java.util.UUID;
 public interface CustomerRepository {
     Customer save(Customer customer);
     Optional<Customer> findById(UUID id);
+    Optional<ResourceVersion> findVersionById(UUID id);
     Optional<Customer> findByCpf(String cpf);
     boolean existsByCpf(String cpf);
     List<Customer> findAll();
@@ -0,0 +1,32 @@
+package com.fiap.techchallenge.domain.repositories;
+
+import com.fiap.techchallenge.domain.readmodels.IdempotencyRecord;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface IdempotencyKeyRepository {
+
+    /**
+     * Reserva a chave para esta execução. Também assume uma reserva abandonada
+     * (em andamento desde antes de <code>staleBefore</code>) com o mesmo hash.
+     *
+     * @return true se a reserva é desta execução
+     */
+    boolean tryAcquire(String key, String requestHash, LocalDateTime now, LocalDateTime staleBefore);
+
+    Optional<IdempotencyRecord> findByKey(String key);
+
+    /**
+     * Marca a reserva como concluída com o pedido criado. Participa da transação
+     * corrente, para ser gravada junto com o pedido.
+     *
+     * @return false se a chave já não está em andamento (outra execução concluiu antes)
+     */
+    boolean complete(String key, Long orderId, LocalDateTime now);
+
+    // Libera a chave após falha, para que a próxima tentativa execute de novo
+    void release(String key);
+
+    int deleteOlderThan(LocalDateTime cutoff);
+}
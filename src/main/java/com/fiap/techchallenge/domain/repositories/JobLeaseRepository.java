@@ -0,0 +1,19 @@
+package com.fiap.techchallenge.domain.repositories;
+
+import java.time.Duration;
+
+/**
+ * Exclusão entre instâncias para jobs agendados longos.
+ */
+public interface JobLeaseRepository {
+
+    /**
+     * Adquire ou renova o lease do job por <code>duration</code>. Também assume um
+     * lease vencido de outra instância.
+     *
+     * @return true se o lease é desta instância
+     */
+    boolean tryAcquire(String jobName, Duration duration);
+
+    void release(String jobName);
+}
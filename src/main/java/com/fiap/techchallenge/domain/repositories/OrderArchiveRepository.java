@@ -0,0 +1,22 @@
+package com.fiap.techchallenge.domain.repositories;
+
+import com.fiap.techchallenge.domain.entities.Order;
+import com.fiap.techchallenge.domain.readmodels.OrderState;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface OrderArchiveRepository {
+    // Cria as partições dos meses com pedidos a arquivar, uma vez por execução; false se não há nada a mover
+    boolean preparePartitions(LocalDateTime finishedBefore);
+    // Move um lote de pedidos FINISHED com updated_at anterior ao corte; devolve quantos foram movidos
+    int archiveFinishedOrders(LocalDateTime finishedBefore, int batchSize);
+    Optional<Order> findById(Long id);
+    Optional<Order> findByIdPayment(Long idPayment);
+    List<OrderState> findStatesByIds(Collection<Long> ids);
+    Optional<OrderState> findStateByIdPayment(Long idPayment);
+    boolean existsByProductId(UUID productId);
+}
@@ -2,16 +2,42 @@ package com.fiap.techchallenge.domain.repositories;
 
 import com.fiap.techchallenge.domain.entities.Order;
 import com.fiap.techchallenge.domain.entities.OrderStatus;
+import com.fiap.techchallenge.domain.entities.StatusPayment;
+import com.fiap.techchallenge.domain.readmodels.OrderState;
+import com.fiap.techchallenge.domain.readmodels.OrderSummary;
+import com.fiap.techchallenge.domain.readmodels.PendingPayment;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface OrderRepository {
     Order save(Order order);
+    // Grava o pedido e conclui a Idempotency-Key na mesma transação: ou os dois ficam, ou nenhum
+    Order saveCompletingIdempotencyKey(Order order, String idempotencyKey, LocalDateTime completedAt);
     Optional<Order> findById(Long id);
     List<Order> findByOptionalStatus(OrderStatus status);
     List<Order> findAll();
+    List<OrderSummary> findSummariesByOptionalStatus(OrderStatus status);
     boolean existsByProductId(UUID productId);
     Optional<Order>  findByIdPayment(Long id);
+
+    // Transições condicionais: um único UPDATE; false quando o pedido não está no estado esperado
+    boolean updateStatus(Long id, Set<OrderStatus> expectedStatuses, StatusPayment requiredPayment,
+                         OrderStatus newStatus, LocalDateTime updatedAt);
+    boolean updatePaymentStatus(Long idPayment, StatusPayment expectedPayment, StatusPayment newPayment,
+                                OrderStatus newStatus, LocalDateTime updatedAt);
+    Set<Long> updateStatuses(Collection<Long> ids, Set<OrderStatus> expectedStatuses, StatusPayment requiredPayment,
+                             OrderStatus newStatus, LocalDateTime updatedAt);
+    // Devolve os ids dos pedidos atualizados
+    Set<Long> updatePaymentStatuses(Collection<Long> idPayments, StatusPayment expectedPayment,
+                                    StatusPayment newPayment, OrderStatus newStatus, LocalDateTime updatedAt);
+    // Pendentes sem alteração desde updatedBefore, em ordem de id a partir de afterOrderId (exclusivo)
+    List<PendingPayment> findStalePendingPayments(LocalDateTime updatedBefore, Long afterOrderId, int limit);
+    Optional<OrderState> findStateById(Long id);
+    List<OrderState> findStatesByIds(Collection<Long> ids);
+    Optional<OrderState> findStateByIdPayment(Long idPayment);
 }
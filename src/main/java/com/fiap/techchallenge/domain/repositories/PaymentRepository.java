@@ -1,13 +1,19 @@
 package com.fiap.techchallenge.domain.repositories;
 
+import com.fiap.techchallenge.domain.entities.Money;
+import com.fiap.techchallenge.domain.entities.StatusPayment;
+
 public interface PaymentRepository {
     Long createPaymentOrder(
-        Double amount,
+        Money amount,
         String description,
         String paymentMethodId,
         Integer installments,
         String payerEmail,
         String identificationType,
-        String identificationNumber
+        String identificationNumber,
+        String idempotencyKey
     );
+
+    StatusPayment getPaymentStatus(Long paymentId);
 }
@@ -1,16 +1,28 @@
 package com.fiap.techchallenge.domain.repositories;
 
 import com.fiap.techchallenge.domain.entities.Product;
+import com.fiap.techchallenge.domain.readmodels.ProductSummary;
+import com.fiap.techchallenge.domain.readmodels.ResourceVersion;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface ProductRepository {
     Product save(Product product);
     Optional<Product> findById(UUID id);
+    // Só versão e data de alteração, para responder 304 sem carregar o produto
+    Optional<ResourceVersion> findVersionById(UUID id);
+    boolean existsById(UUID id);
+    boolean existsByCategoryId(UUID categoryId);
     List<Product> findByName(String name);
     List<Product> findByCategoryId(UUID categoryId);
     List<Product> findAll();
+    List<ProductSummary> findActiveSummaries(UUID categoryId);
     void deleteById(UUID id);
+    // Upsert em lote pelo id (importação de catálogo)
+    int upsertAll(List<Product> products);
+    // Nome (sem diferenciar maiúsculas) -> id, para casar linhas importadas sem id
+    Map<String, UUID> findIdsByName();
 }
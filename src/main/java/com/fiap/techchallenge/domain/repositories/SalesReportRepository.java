@@ -0,0 +1,20 @@
+package com.fiap.techchallenge.domain.repositories;
+
+import com.fiap.techchallenge.domain.readmodels.CategorySales;
+import com.fiap.techchallenge.domain.readmodels.DailySales;
+import com.fiap.techchallenge.domain.readmodels.ProductSales;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SalesReportRepository {
+    // Recalcula os dias com pedidos alterados desde a última execução (menos overlap) até now e,
+    // enquanto a carga do histórico não terminou, mais até backfillDays dias dela;
+    // devolve quantos dias foram recalculados, ou -1 se outra instância já está atualizando
+    int refreshChangedDays(LocalDateTime now, Duration overlap, int backfillDays);
+    List<DailySales> findDailySales(LocalDate from, LocalDate to);
+    List<ProductSales> findTopProducts(LocalDate from, LocalDate to, int limit);
+    List<CategorySales> findCategorySales(LocalDate from, LocalDate to);
+}
@@ -0,0 +1,99 @@
+package com.fiap.techchallenge.external.api;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.techchallenge.adapters.controllers.CatalogController;
+import com.fiap.techchallenge.application.usecases.CatalogUseCase.CatalogImportResult;
+import com.fiap.techchallenge.application.usecases.CatalogUseCase.CatalogItemRequest;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+@RestController
+@RequestMapping("/catalog")
+@Tag(name = "Catalog", description = "API para importação do cardápio completo")
+public class CatalogRestController {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final CatalogController catalogController;
+    private final ObjectMapper objectMapper;
+
+    public CatalogRestController(CatalogController catalogController, ObjectMapper objectMapper) {
+        this.catalogController = catalogController;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostMapping(value = "/import", consumes = NDJSON)
+    @Operation(summary = "Importar catálogo (NDJSON)",
+               description = "Um produto por linha: {\"id\"?, \"name\", \"description\"?, \"price\", \"category\", \"active\"?}. " +
+                             "Categorias são criadas pelo nome; produtos sem id são casados pelo nome. " +
+                             "Linhas inválidas são reportadas sem interromper a importação")
+    public ResponseEntity<CatalogImportResult> importCatalog(InputStream body) throws IOException {
+        // Lê o corpo linha a linha: o arquivo nunca fica inteiro em memória
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            CatalogImportResult result = catalogController.importCatalog(new NdjsonIterator(reader));
+            return ResponseEntity.ok(result);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private class NdjsonIterator implements Iterator<CatalogItemRequest> {
+        private final BufferedReader reader;
+        private long lineNumber;
+        private String nextLine;
+
+        private NdjsonIterator(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                while (nextLine == null) {
+                    String line = reader.readLine();
+                    if (line == null) {
+                        return false;
+                    }
+                    lineNumber++;
+                    if (!line.isBlank()) {
+                        nextLine = line;
+                    }
+                }
+                return true;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public CatalogItemRequest next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            String line = nextLine;
+            nextLine = null;
+            try {
+                CatalogItemRequest item = objectMapper.readValue(line, CatalogItemRequest.class);
+                item.setLine(lineNumber);
+                item.setError(null);
+                return item;
+            } catch (JsonProcessingException e) {
+                return CatalogItemRequest.invalid(lineNumber, "invalid JSON: " + e.getOriginalMessage());
+            }
+        }
+    }
+}
@@ -4,9 +4,12 @@ import com.fiap.techchallenge.adapters.controllers.CategoryController;
 import com.fiap.techchallenge.domain.entities.Category;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -17,9 +20,12 @@ import java.util.UUID;
 public class CategoryRestController {
 
     private final CategoryController categoryController;
+    private final CacheControl cacheControl;
 
-    public CategoryRestController(CategoryController categoryController) {
+    public CategoryRestController(CategoryController categoryController,
+                                  @Value("${app.http.cache.categories-max-age-seconds:300}") long maxAgeSeconds) {
         this.categoryController = categoryController;
+        this.cacheControl = ConditionalGet.publicCatalog(maxAgeSeconds);
     }
 
     @PostMapping
@@ -30,11 +36,11 @@ public class CategoryRestController {
     }
 
     @GetMapping("/{id}")
-    @Operation(summary = "Buscar categoria por ID")
-    public ResponseEntity<Category> findById(@PathVariable UUID id) {
-        return categoryController.findById(id)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+    @Operation(summary = "Buscar categoria por ID",
+               description = "Responde com ETag e Last-Modified; com If-None-Match ainda válido devolve 304")
+    public ResponseEntity<Category> findById(@PathVariable UUID id, WebRequest request) {
+        return ConditionalGet.respond(request, categoryController.findVersionById(id), cacheControl,
+                () -> categoryController.findById(id));
     }
 
     @GetMapping
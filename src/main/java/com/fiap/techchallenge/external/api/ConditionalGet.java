@@ -0,0 +1,57 @@
+package com.fiap.techchallenge.external.api;
+
+import com.fiap.techchallenge.domain.readmodels.ResourceVersion;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * GET por id com ETag forte e Last-Modified.
+ * <p>
+ * A versão é consultada antes da entidade: com <code>If-None-Match</code> (ou
+ * <code>If-Modified-Since</code>) ainda válido a resposta é 304 sem carregar nem
+ * serializar nada. Nessa ordem, se a entidade mudar entre as duas consultas o
+ * corpo sai mais novo que o ETag, e a próxima revalidação só traz o corpo de novo.
+ * </p>
+ */
+final class ConditionalGet {
+
+    private ConditionalGet() {
+    }
+
+    static <T> ResponseEntity<T> respond(WebRequest request, Optional<ResourceVersion> version,
+                                         CacheControl cacheControl, Supplier<Optional<T>> loader) {
+        if (version.isEmpty()) {
+            // Inexistente: o caminho normal responde (404 do caso de uso)
+            return loader.get().map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build());
+        }
+
+        String eTag = "\"" + version.get().getTag() + "\"";
+        long lastModified = version.get().getLastModified()
+                .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        if (request.checkNotModified(eTag, lastModified)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(cacheControl).build();
+        }
+        return loader.get()
+                .map(body -> ResponseEntity.ok().eTag(eTag).lastModified(lastModified)
+                        .cacheControl(cacheControl).body(body))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    // Catálogo é público: o CDN pode servir e revalidar com o ETag
+    static CacheControl publicCatalog(long maxAgeSeconds) {
+        return CacheControl.maxAge(maxAgeSeconds, TimeUnit.SECONDS).cachePublic()
+                .staleWhileRevalidate(maxAgeSeconds, TimeUnit.SECONDS);
+    }
+
+    // Dados pessoais: só o cliente guarda, e sempre revalida
+    static CacheControl privateRevalidated() {
+        return CacheControl.noCache().cachePrivate();
+    }
+}
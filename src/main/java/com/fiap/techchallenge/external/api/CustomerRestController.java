@@ -10,9 +10,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -23,6 +25,7 @@ import java.util.UUID;
 public class CustomerRestController {
 
     private final CustomerController customerController;
+    private final CacheControl cacheControl = ConditionalGet.privateRevalidated();
 
     public CustomerRestController(CustomerController customerController) {
         this.customerController = customerController;
@@ -50,12 +53,12 @@ public class CustomerRestController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Cliente encontrado",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = Customer.class))),
+            @ApiResponse(responseCode = "304", description = "Cliente não mudou desde o ETag informado em If-None-Match"),
             @ApiResponse(responseCode = "404", description = "Cliente não encontrado")
     })
-    public ResponseEntity<Customer> findCustomerById(@PathVariable UUID id) {
-        return customerController.findCustomerById(id)
-                .map(customer -> ResponseEntity.ok(customer))
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<Customer> findCustomerById(@PathVariable UUID id, WebRequest request) {
+        return ConditionalGet.respond(request, customerController.findCustomerVersionById(id), cacheControl,
+                () -> customerController.findCustomerById(id));
     }
 
     @GetMapping("/cpf/{cpf}")
@@ -2,9 +2,12 @@ package com.fiap.techchallenge.external.api;
 
 import com.fiap.techchallenge.adapters.controllers.OrderController;
 import com.fiap.techchallenge.application.usecases.OrderUseCase.OrderItemRequest;
+import com.fiap.techchallenge.application.usecases.OrderUseCase.OrderStatusUpdateResult;
 import com.fiap.techchallenge.domain.entities.Order;
 import com.fiap.techchallenge.domain.entities.OrderStatus;
 import com.fiap.techchallenge.domain.entities.StatusPayment;
+import com.fiap.techchallenge.domain.readmodels.OrderQueueStats;
+import com.fiap.techchallenge.domain.readmodels.OrderSummary;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.HttpStatus;
@@ -26,9 +29,11 @@ public class OrderRestController {
     }
 
     @PostMapping
-    @Operation(summary = "Criar novo pedido")
-    public ResponseEntity<Order> createOrder(@RequestBody OrderRequestDTO orderRequest) {
-        Order order = orderController.createOrder(orderRequest.getCustomerId(), orderRequest.getItems());
+    @Operation(summary = "Criar novo pedido",
+               description = "Com o header Idempotency-Key, retentativas com a mesma chave devolvem o pedido já criado")
+    public ResponseEntity<Order> createOrder(@RequestBody OrderRequestDTO orderRequest,
+                                             @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        Order order = orderController.createOrder(orderRequest.getCustomerId(), orderRequest.getItems(), idempotencyKey);
         return ResponseEntity.status(HttpStatus.CREATED).body(order);
     }
 
@@ -47,6 +52,21 @@ public class OrderRestController {
         return ResponseEntity.ok(orders);
     }
 
+    @GetMapping("/summary")
+    @Operation(summary = "Listar pedidos resumidos para o painel",
+               description = "Sem status: pedidos em aberto (READY, IN_PREPARATION, RECEIVED). Com status: apenas os daquele status")
+    public ResponseEntity<List<OrderSummary>> findOrderSummaries(@RequestParam(required = false) OrderStatus status) {
+        List<OrderSummary> orders = orderController.findOrderSummaries(status);
+        return ResponseEntity.ok(orders);
+    }
+
+    @GetMapping("/stats")
+    @Operation(summary = "Tempos da fila de pedidos",
+               description = "Permanência por status (média, p50, p90, p99 em segundos) e tempo até ficar pronto, desde a subida da instância")
+    public ResponseEntity<OrderQueueStats> getOrderStats() {
+        return ResponseEntity.ok(orderController.getOrderStats());
+    }
+
     @PutMapping("/{id}/status")
     @Operation(summary = "Atualizar status do pedido",
                description = "Status possíveis: RECEIVED, IN_PREPARATION, READY, FINISHED")
@@ -55,6 +75,16 @@ public class OrderRestController {
         return ResponseEntity.ok(order);
     }
 
+    @PutMapping("/status")
+    @Operation(summary = "Atualizar status de vários pedidos",
+               description = "Aplica a mesma transição a até 500 pedidos e devolve o resultado de cada um: " +
+                             "UPDATED, NOT_FOUND, NOT_PAID ou INVALID_TRANSITION")
+    public ResponseEntity<List<OrderStatusUpdateResult>> updateOrdersStatus(@RequestBody BulkOrderStatusUpdateDTO statusUpdate) {
+        List<OrderStatusUpdateResult> results = orderController.updateOrdersStatus(
+                statusUpdate.getOrderIds(), statusUpdate.getStatus());
+        return ResponseEntity.ok(results);
+    }
+
     @PutMapping("/{id}/status/preparation")
     @Operation(summary = "Atualizar pedido para preparo")
     public ResponseEntity<Order> updateOrderStatus(@PathVariable Long id) {
@@ -88,6 +118,16 @@ public class OrderRestController {
         public void setStatus(OrderStatus status) { this.status = status; }
     }
 
+    public static class BulkOrderStatusUpdateDTO {
+        private List<Long> orderIds;
+        private OrderStatus status;
+
+        public List<Long> getOrderIds() { return orderIds; }
+        public void setOrderIds(List<Long> orderIds) { this.orderIds = orderIds; }
+        public OrderStatus getStatus() { return status; }
+        public void setStatus(OrderStatus status) { this.status = status; }
+    }
+
     public static class PaymentStatusUpdateDTO {
         private StatusPayment statusPayment;
 
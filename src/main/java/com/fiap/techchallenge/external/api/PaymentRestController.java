@@ -1,6 +1,7 @@
 package com.fiap.techchallenge.external.api;
 
 import com.fiap.techchallenge.adapters.controllers.PaymentController;
+import com.fiap.techchallenge.domain.entities.Money;
 import com.fiap.techchallenge.external.api.dto.PaymentOrderRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -41,7 +42,7 @@ public class PaymentRestController {
             }
 
             Long result = paymentController.createPaymentOrder(
-                    request.getAmount(),
+                    Money.of(request.getAmount()),
                     request.getDescription(),
                     request.getPaymentMethodId(),
                     request.getInstallments(),
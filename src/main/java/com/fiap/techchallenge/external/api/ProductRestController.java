@@ -2,11 +2,15 @@ package com.fiap.techchallenge.external.api;
 
 import com.fiap.techchallenge.adapters.controllers.ProductController;
 import com.fiap.techchallenge.domain.entities.Product;
+import com.fiap.techchallenge.domain.readmodels.ProductSummary;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -18,9 +22,12 @@ import java.util.UUID;
 public class ProductRestController {
 
     private final ProductController productController;
+    private final CacheControl cacheControl;
 
-    public ProductRestController(ProductController productController) {
+    public ProductRestController(ProductController productController,
+                                 @Value("${app.http.cache.products-max-age-seconds:60}") long maxAgeSeconds) {
         this.productController = productController;
+        this.cacheControl = ConditionalGet.publicCatalog(maxAgeSeconds);
     }
 
     @PostMapping
@@ -36,11 +43,11 @@ public class ProductRestController {
     }
 
     @GetMapping("/{id}")
-    @Operation(summary = "Buscar produto por ID")
-    public ResponseEntity<Product> findProductById(@PathVariable UUID id) {
-        return productController.findProductById(id)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+    @Operation(summary = "Buscar produto por ID",
+               description = "Responde com ETag e Last-Modified; com If-None-Match ainda válido devolve 304")
+    public ResponseEntity<Product> findProductById(@PathVariable UUID id, WebRequest request) {
+        return ConditionalGet.respond(request, productController.findProductVersionById(id), cacheControl,
+                () -> productController.findProductById(id));
     }
 
     @GetMapping
@@ -50,6 +57,14 @@ public class ProductRestController {
         return ResponseEntity.ok(products);
     }
 
+    @GetMapping("/summary")
+    @Operation(summary = "Listar cardápio resumido",
+               description = "Produtos ativos com id, nome, preço e categoria; filtra por categoria se informada")
+    public ResponseEntity<List<ProductSummary>> findProductSummaries(@RequestParam(required = false) UUID categoryId) {
+        List<ProductSummary> products = productController.findProductSummaries(categoryId);
+        return ResponseEntity.ok(products);
+    }
+
     @GetMapping("/search")
     @Operation(summary = "Buscar produtos por nome")
     public ResponseEntity<List<Product>> findProductsByName(@RequestParam String name) {
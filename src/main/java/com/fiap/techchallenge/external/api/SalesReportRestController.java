@@ -0,0 +1,52 @@
+package com.fiap.techchallenge.external.api;
+
+import com.fiap.techchallenge.adapters.controllers.SalesReportController;
+import com.fiap.techchallenge.domain.readmodels.CategorySales;
+import com.fiap.techchallenge.domain.readmodels.DailySales;
+import com.fiap.techchallenge.domain.readmodels.ProductSales;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/reports/sales")
+@Tag(name = "Sales reports", description = "Relatórios de vendas (pedidos com pagamento aprovado, por data de criação)")
+public class SalesReportRestController {
+
+    private final SalesReportController salesReportController;
+
+    public SalesReportRestController(SalesReportController salesReportController) {
+        this.salesReportController = salesReportController;
+    }
+
+    @GetMapping("/daily")
+    @Operation(summary = "Receita diária",
+               description = "Pedidos, itens e receita por dia no período (até 366 dias); dias sem venda não aparecem")
+    public ResponseEntity<List<DailySales>> getDailySales(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(salesReportController.getDailySales(from, to));
+    }
+
+    @GetMapping("/products")
+    @Operation(summary = "Produtos mais vendidos", description = "Ordenados por quantidade vendida no período")
+    public ResponseEntity<List<ProductSales>> getTopProducts(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(salesReportController.getTopProducts(from, to, limit));
+    }
+
+    @GetMapping("/categories")
+    @Operation(summary = "Vendas por categoria", description = "Ordenadas por receita no período")
+    public ResponseEntity<List<CategorySales>> getCategorySales(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(salesReportController.getCategorySales(from, to));
+    }
+}
@@ -3,12 +3,14 @@ package com.fiap.techchallenge.external.api.dto;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.*;
 
+import java.math.BigDecimal;
+
 public class PaymentOrderRequest {
 
     @NotNull
     @DecimalMin("0.01")
     @Schema(example = "1.00", description = "Valor da ordem de pagamento")
-    private Double amount;
+    private BigDecimal amount;
 
     @NotBlank
     @Schema(example = "Test payment", description = "Descrição do pagamento")
@@ -38,8 +40,8 @@ public class PaymentOrderRequest {
     public PaymentOrderRequest() {}
 
     // Getters and Setters
-    public Double getAmount() { return amount; }
-    public void setAmount(Double amount) { this.amount = amount; }
+    public BigDecimal getAmount() { return amount; }
+    public void setAmount(BigDecimal amount) { this.amount = amount; }
 
     public String getDescription() { return description; }
     public void setDescription(String description) { this.description = description; }
@@ -1,8 +1,11 @@
 package com.fiap.techchallenge.external.api.exception;
 
 import com.fiap.techchallenge.domain.exception.DomainException;
+import com.fiap.techchallenge.domain.exception.IdempotencyKeyInProgressException;
+import com.fiap.techchallenge.domain.exception.IdempotencyKeyMismatchException;
 import com.fiap.techchallenge.domain.exception.InvalidCpfException;
 import com.fiap.techchallenge.domain.exception.InvalidEmailException;
+import com.fiap.techchallenge.domain.exception.OrderStatusConflictException;
 import com.fiap.techchallenge.domain.exception.ProductLinkedToOrderException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -36,6 +39,21 @@ public class GlobalExceptionHandler {
         return buildResponse(ex.getMessage(), HttpStatus.CONFLICT);
     }
 
+    @ExceptionHandler(OrderStatusConflictException.class)
+    public ResponseEntity<Object> handleOrderStatusConflictException(OrderStatusConflictException ex) {
+        return buildResponse(ex.getMessage(), HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(IdempotencyKeyInProgressException.class)
+    public ResponseEntity<Object> handleIdempotencyKeyInProgressException(IdempotencyKeyInProgressException ex) {
+        return buildResponse(ex.getMessage(), HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(IdempotencyKeyMismatchException.class)
+    public ResponseEntity<Object> handleIdempotencyKeyMismatchException(IdempotencyKeyMismatchException ex) {
+        return buildResponse(ex.getMessage(), HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
     private ResponseEntity<Object> buildResponse(String message, HttpStatus status) {
         Map<String, Object> body = new HashMap<>();
         body.put("timestamp", LocalDateTime.now());
@@ -0,0 +1,38 @@
+package com.fiap.techchallenge.external.api.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fiap.techchallenge.domain.entities.Money;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+/**
+ * Money no JSON como número decimal com duas casas (<code>"totalAmount": 12.50</code>),
+ * o mesmo formato que o BigDecimal gerava antes.
+ */
+@JsonComponent
+public class MoneyJsonComponent {
+
+    public static class Serializer extends JsonSerializer<Money> {
+        @Override
+        public void serialize(Money value, JsonGenerator generator, SerializerProvider serializers) throws IOException {
+            generator.writeNumber(value.toString());
+        }
+    }
+
+    public static class Deserializer extends JsonDeserializer<Money> {
+        @Override
+        public Money deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            if (parser.currentToken() == JsonToken.VALUE_STRING) {
+                return Money.parse(parser.getText().trim());
+            }
+            return Money.of(parser.getDecimalValue());
+        }
+    }
+}
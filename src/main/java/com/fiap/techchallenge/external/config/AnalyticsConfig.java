@@ -0,0 +1,46 @@
+package com.fiap.techchallenge.external.config;
+
+import com.fiap.techchallenge.infrastructure.analytics.OrderQueueAnalytics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Estatísticas da fila de pedidos em memória, alimentadas pelas transições de status
+ * que esta instância aplica. Em várias réplicas, cada uma reporta a própria amostra.
+ * <p>
+ * Pedidos acompanhados sem transição há <code>ORDER_QUEUE_TRACKED_TTL_MINUTES</code>
+ * (padrão 240) são descartados a cada <code>ORDER_QUEUE_EVICT_MS</code> (padrão 10 minutos).
+ * </p>
+ */
+@Configuration
+public class AnalyticsConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnalyticsConfig.class);
+
+    private final OrderQueueAnalytics orderQueueAnalytics;
+
+    public AnalyticsConfig(@Value("${app.analytics.order-queue.tracked-ttl-minutes:240}") long trackedTtlMinutes) {
+        this.orderQueueAnalytics = new OrderQueueAnalytics(Duration.ofMinutes(trackedTtlMinutes));
+    }
+
+    @Bean
+    public OrderQueueAnalytics orderQueueAnalytics() {
+        return orderQueueAnalytics;
+    }
+
+    @Scheduled(fixedDelayString = "${app.analytics.order-queue.evict-ms:600000}",
+            initialDelayString = "${app.analytics.order-queue.evict-ms:600000}")
+    public void evictStaleOrders() {
+        int evicted = orderQueueAnalytics.evictStaleOrders(LocalDateTime.now());
+        if (evicted > 0) {
+            logger.info("Order queue analytics evicted stale orders: evicted={}", evicted);
+        }
+    }
+}
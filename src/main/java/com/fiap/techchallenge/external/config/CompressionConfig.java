@@ -0,0 +1,33 @@
+package com.fiap.techchallenge.external.config;
+
+import com.fiap.techchallenge.infrastructure.compression.DeflaterPool;
+import com.fiap.techchallenge.infrastructure.compression.GzipResponseFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Compressão das respostas para os totens na rede Wi-Fi da loja.
+ * <p>
+ * Fica por fora de todos os filtros, então também comprime as respostas de
+ * erro e as do rate limit. Desligável com <code>HTTP_COMPRESSION_ENABLED=false</code>,
+ * lido na partida (não no build AOT): o filtro só deixa de ser registrado.
+ * </p>
+ */
+@Configuration
+public class CompressionConfig {
+
+    @Bean
+    public FilterRegistrationBean<GzipResponseFilter> gzipResponseFilter(
+            @Value("${app.http.compression.level:5}") int level,
+            @Value("${app.http.compression.min-response-size:1024}") int minResponseSize,
+            @Value("${app.http.compression.deflater-pool-size:32}") int deflaterPoolSize,
+            @Value("${app.http.compression.enabled:true}") boolean enabled) {
+        FilterRegistrationBean<GzipResponseFilter> registration = new FilterRegistrationBean<>(
+                new GzipResponseFilter(new DeflaterPool(deflaterPoolSize, level), minResponseSize));
+        registration.setOrder(-300);
+        registration.setEnabled(enabled);
+        return registration;
+    }
+}
@@ -0,0 +1,73 @@
+package com.fiap.techchallenge.external.config;
+
+import com.fiap.techchallenge.infrastructure.datasource.ReadReplicaRoutingDataSource;
+import com.fiap.techchallenge.infrastructure.datasource.ReadYourWritesFilter;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Réplica de leitura do PostgreSQL.
+ * <p>
+ * Ativa só quando <code>DB_REPLICA_URL</code> está definido; sem ele a aplicação
+ * segue com o datasource único do Spring Boot. Os gateways marcam as consultas
+ * com <code>@Transactional(readOnly = true)</code>, que vão para o pool
+ * <code>replica</code>; escritas usam o pool <code>primary</code>.
+ * Cada pool publica as próprias métricas (<code>hikaricp.connections.*{pool=...}</code>).
+ * </p>
+ */
+@Configuration
+@ConditionalOnExpression("!'${app.datasource.replica.url:}'.isEmpty()")
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                              @Value("${app.datasource.replica.url}") String url,
+                                              @Value("${app.datasource.replica.username:}") String username,
+                                              @Value("${app.datasource.replica.password:}") String password) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setJdbcUrl(url);
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        dataSource.setUsername(username.isEmpty() ? properties.determineUsername() : username);
+        dataSource.setPassword(password.isEmpty() ? properties.determinePassword() : password);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource) {
+        return new LazyConnectionDataSourceProxy(
+                new ReadReplicaRoutingDataSource(primaryDataSource, replicaDataSource));
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+            @Value("${app.datasource.replica.sticky-window-ms:5000}") long stickyWindowMillis) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(stickyWindowMillis));
+        registration.setOrder(10);
+        return registration;
+    }
+}
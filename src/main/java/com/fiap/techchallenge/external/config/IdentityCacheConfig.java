@@ -0,0 +1,29 @@
+package com.fiap.techchallenge.external.config;
+
+import com.fiap.techchallenge.infrastructure.cache.RequestIdentityCacheFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Identity map por requisição nos gateways de produto, categoria e cliente.
+ * Desligável com <code>REPOSITORY_IDENTITY_CACHE_ENABLED=false</code> (lido na partida,
+ * também com AOT): sem o filtro não há escopo e os gateways leem sempre do banco.
+ */
+@Configuration
+public class IdentityCacheConfig {
+
+    @Bean
+    public FilterRegistrationBean<RequestIdentityCacheFilter> requestIdentityCacheFilter(
+            MeterRegistry meterRegistry,
+            @Value("${app.repository.identity-cache.enabled:true}") boolean enabled) {
+        FilterRegistrationBean<RequestIdentityCacheFilter> registration =
+                new FilterRegistrationBean<>(new RequestIdentityCacheFilter(meterRegistry));
+        // Junto do ReadYourWritesFilter (10): só requisições que passaram pela segurança
+        registration.setOrder(11);
+        registration.setEnabled(enabled);
+        return registration;
+    }
+}
@@ -0,0 +1,102 @@
+package com.fiap.techchallenge.external.config;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Modifier;
+import java.util.List;
+
+/**
+ * Metadados de alcançabilidade para o executável nativo (<code>mvn -Pnative native:compile</code>).
+ * <p>
+ * O Spring AOT já cobre beans, controllers e repositórios; aqui fica o que só é
+ * acessado por reflexão ou como recurso em runtime: entidades JPA (Hibernate),
+ * tipos serializados pelo Jackson, o encoder do Logstash instanciado pelo
+ * <code>logback-spring.xml</code> e os arquivos de configuração do AWS SDK.
+ * Os pacotes são varridos no build, então classes novas entram sem editar esta lista.
+ * </p>
+ */
+@Configuration
+@ImportRuntimeHints(NativeImageConfig.ApplicationRuntimeHints.class)
+public class NativeImageConfig {
+
+    static final String JPA_ENTITIES_PACKAGE = "com.fiap.techchallenge.external.datasource.entities";
+
+    // Todos os tipos do pacote vão para o JSON (requisição, resposta ou corpo do Mercado Pago)
+    static final List<String> JSON_PACKAGES = List.of(
+            "com.fiap.techchallenge.external.api.dto",
+            "com.fiap.techchallenge.domain.entities",
+            "com.fiap.techchallenge.domain.readmodels");
+
+    // Só os DTOs públicos aninhados (OrderRestController.OrderRequestDTO, OrderUseCase.OrderItemRequest...)
+    static final List<String> NESTED_JSON_PACKAGES = List.of(
+            "com.fiap.techchallenge.external.api",
+            "com.fiap.techchallenge.application.usecases");
+
+    static final List<String> LOGBACK_TYPES = List.of(
+            "net.logstash.logback.encoder.LogstashEncoder",
+            "net.logstash.logback.fieldnames.LogstashFieldNames",
+            "net.logstash.logback.stacktrace.ShortenedThrowableConverter",
+            "ch.qos.logback.classic.boolex.OnMarkerEvaluator");
+
+    static class ApplicationRuntimeHints implements RuntimeHintsRegistrar {
+
+        private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            for (Class<?> entity : scan(JPA_ENTITIES_PACKAGE, classLoader)) {
+                hints.reflection().registerType(entity, MemberCategory.DECLARED_FIELDS,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS);
+            }
+            for (String jsonPackage : JSON_PACKAGES) {
+                bindingRegistrar.registerReflectionHints(hints.reflection(),
+                        scan(jsonPackage, classLoader).toArray(Class<?>[]::new));
+            }
+            for (String jsonPackage : NESTED_JSON_PACKAGES) {
+                bindingRegistrar.registerReflectionHints(hints.reflection(), scan(jsonPackage, classLoader).stream()
+                        .filter(type -> type.isMemberClass() && Modifier.isPublic(type.getModifiers()))
+                        .toArray(Class<?>[]::new));
+            }
+
+            // Logback monta o encoder por reflexão a partir do XML (construtor + setters)
+            for (String type : LOGBACK_TYPES) {
+                hints.reflection().registerType(TypeReference.of(type), MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+            hints.resources().registerPattern("logback-spring.xml");
+
+            // Endpoints, defaults e interceptors do AWS SDK (Cognito) são lidos do classpath
+            hints.resources()
+                    .registerPattern("software/amazon/awssdk/**/*.json")
+                    .registerPattern("software/amazon/awssdk/**/execution.interceptors")
+                    .registerPattern("software/amazon/awssdk/**/mime.types");
+        }
+
+        private static List<Class<?>> scan(String basePackage, ClassLoader classLoader) {
+            ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+                @Override
+                protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                    // Classes internas estáticas, enums e records entram; interfaces não
+                    return beanDefinition.getMetadata().isIndependent() && !beanDefinition.getMetadata().isInterface();
+                }
+            };
+            scanner.addIncludeFilter((metadataReader, metadataReaderFactory) -> true);
+            scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+            return scanner.findCandidateComponents(basePackage).stream()
+                    .map(BeanDefinition::getBeanClassName)
+                    .<Class<?>>map(className -> ClassUtils.resolveClassName(className, classLoader))
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.fiap.techchallenge.external.config;
+
+import com.fiap.techchallenge.application.usecases.OrderArchiveUseCase;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+
+/**
+ * Job de arquivamento de pedidos finalizados.
+ * <p>
+ * Pedidos FINISHED há mais de <code>ORDER_ARCHIVE_RETENTION_DAYS</code> dias (padrão 7)
+ * saem de orders para orders_archive, particionada por mês. Desligue com
+ * <code>ORDER_ARCHIVE_ENABLED=false</code> (verificado a cada execução, também com AOT).
+ * </p>
+ */
+@Configuration
+public class OrderArchiveConfig {
+
+    private final ObjectProvider<OrderArchiveUseCase> orderArchiveUseCase;
+
+    @Value("${app.orders.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.orders.archive.retention-days:7}")
+    private int retentionDays;
+
+    @Value("${app.orders.archive.batch-size:1000}")
+    private int batchSize;
+
+    public OrderArchiveConfig(ObjectProvider<OrderArchiveUseCase> orderArchiveUseCase) {
+        this.orderArchiveUseCase = orderArchiveUseCase;
+    }
+
+    @Scheduled(cron = "${app.orders.archive.cron:0 30 3 * * *}")
+    public void archiveFinishedOrders() {
+        ScheduledJobs.run("order-archive", enabled, () ->
+                orderArchiveUseCase.getObject().archiveFinishedOrders(Duration.ofDays(retentionDays), batchSize));
+    }
+}
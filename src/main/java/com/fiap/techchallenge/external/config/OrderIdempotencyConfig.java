@@ -0,0 +1,36 @@
+package com.fiap.techchallenge.external.config;
+
+import com.fiap.techchallenge.application.usecases.OrderUseCase;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+
+/**
+ * Limpeza das chaves de idempotência do POST /orders.
+ * <p>
+ * Uma chave vale por <code>ORDER_IDEMPOTENCY_RETENTION_HOURS</code> horas (padrão 24);
+ * depois disso a mesma chave cria um pedido novo.
+ * </p>
+ */
+@Configuration
+public class OrderIdempotencyConfig {
+
+    // Resolvido só na execução: o job não puxa caso de uso e repositórios para o boot (perfil fast-start)
+    private final ObjectProvider<OrderUseCase> orderUseCase;
+
+    @Value("${app.orders.idempotency.retention-hours:24}")
+    private int retentionHours;
+
+    public OrderIdempotencyConfig(ObjectProvider<OrderUseCase> orderUseCase) {
+        this.orderUseCase = orderUseCase;
+    }
+
+    @Scheduled(cron = "${app.orders.idempotency.purge-cron:0 15 * * * *}")
+    public void purgeIdempotencyKeys() {
+        ScheduledJobs.run("idempotency-key-purge", true, () ->
+                orderUseCase.getObject().purgeIdempotencyKeys(Duration.ofHours(retentionHours)));
+    }
+}
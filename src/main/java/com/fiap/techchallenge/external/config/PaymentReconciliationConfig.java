@@ -0,0 +1,44 @@
+package com.fiap.techchallenge.external.config;
+
+import com.fiap.techchallenge.application.usecases.PaymentReconciliationUseCase;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+
+/**
+ * Job de reconciliação de pagamentos.
+ * <p>
+ * A cada <code>PAYMENT_RECONCILIATION_INTERVAL_MS</code> (padrão 1 minuto) consulta no
+ * Mercado Pago os pedidos aguardando pagamento há mais de
+ * <code>PAYMENT_RECONCILIATION_STALE_AFTER_MINUTES</code> (padrão 2). Desligue com
+ * <code>PAYMENT_RECONCILIATION_ENABLED=false</code> (verificado a cada execução, também com AOT).
+ * </p>
+ */
+@Configuration
+public class PaymentReconciliationConfig {
+
+    private final ObjectProvider<PaymentReconciliationUseCase> paymentReconciliationUseCase;
+
+    @Value("${app.payments.reconciliation.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.payments.reconciliation.stale-after-minutes:2}")
+    private int staleAfterMinutes;
+
+    @Value("${app.payments.reconciliation.batch-size:100}")
+    private int batchSize;
+
+    public PaymentReconciliationConfig(ObjectProvider<PaymentReconciliationUseCase> paymentReconciliationUseCase) {
+        this.paymentReconciliationUseCase = paymentReconciliationUseCase;
+    }
+
+    @Scheduled(fixedDelayString = "${app.payments.reconciliation.interval-ms:60000}",
+            initialDelayString = "${app.payments.reconciliation.interval-ms:60000}")
+    public void reconcilePendingPayments() {
+        ScheduledJobs.run("payment-reconciliation", enabled, () -> paymentReconciliationUseCase.getObject()
+                .reconcilePendingPayments(Duration.ofMinutes(staleAfterMinutes), batchSize));
+    }
+}
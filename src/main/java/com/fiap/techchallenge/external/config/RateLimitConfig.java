@@ -0,0 +1,76 @@
+package com.fiap.techchallenge.external.config;
+
+import com.fiap.techchallenge.infrastructure.datasource.HikariPoolPressure;
+import com.fiap.techchallenge.infrastructure.ratelimit.AdaptiveConcurrencyLimiter;
+import com.fiap.techchallenge.infrastructure.ratelimit.RateLimitFilter;
+import com.fiap.techchallenge.infrastructure.ratelimit.TokenBucketRateLimiter;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Rate limit e load shedding na borda HTTP.
+ * <p>
+ * Roda antes da segurança e do roteamento de datasource: requisição rejeitada
+ * aqui não valida JWT nem encosta no pool. Desligável com
+ * <code>HTTP_RATE_LIMIT_ENABLED=false</code>, lido na partida (também com AOT).
+ * </p>
+ */
+@Configuration
+public class RateLimitConfig {
+
+    @Value("${app.http.rate-limit.stripes:65536}")
+    private int stripes;
+
+    @Bean
+    public AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter(
+            ObjectProvider<HikariDataSource> pools,
+            MeterRegistry meterRegistry,
+            @Value("${app.http.concurrency.initial-limit:20}") int initialLimit,
+            @Value("${app.http.concurrency.min-limit:5}") int minLimit,
+            @Value("${app.http.concurrency.max-limit:200}") int maxLimit,
+            @Value("${app.http.concurrency.latency-target-ms:500}") long latencyTargetMillis) {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit,
+                latencyTargetMillis, new HikariPoolPressure(pools.orderedStream().collect(Collectors.toList())));
+        Gauge.builder("http.server.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .register(meterRegistry);
+        Gauge.builder("http.server.concurrency.in_flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .register(meterRegistry);
+        return limiter;
+    }
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(
+            AdaptiveConcurrencyLimiter concurrencyLimiter,
+            MeterRegistry meterRegistry,
+            @Value("${app.http.rate-limit.client.rate-per-second:20}") double clientRate,
+            @Value("${app.http.rate-limit.client.burst:40}") int clientBurst,
+            @Value("${app.http.rate-limit.order-creation.rate-per-second:1}") double orderRate,
+            @Value("${app.http.rate-limit.order-creation.burst:5}") int orderBurst,
+            @Value("${app.http.rate-limit.webhook.rate-per-second:200}") double webhookRate,
+            @Value("${app.http.rate-limit.webhook.burst:400}") int webhookBurst,
+            @Value("${app.http.rate-limit.trusted-proxies:127.0.0.1/32,::1/128,10.0.0.0/8,172.16.0.0/12,192.168.0.0/16}")
+            List<String> trustedProxies,
+            @Value("${app.http.rate-limit.enabled:true}") boolean enabled) {
+        RateLimitFilter filter = new RateLimitFilter(
+                new TokenBucketRateLimiter(clientRate, clientBurst, stripes),
+                new TokenBucketRateLimiter(orderRate, orderBurst, stripes),
+                new TokenBucketRateLimiter(webhookRate, webhookBurst, 1),
+                concurrencyLimiter,
+                trustedProxies,
+                meterRegistry);
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        // Antes da cadeia do Spring Security (-100) e do ReadYourWritesFilter
+        registration.setOrder(-200);
+        registration.setEnabled(enabled);
+        return registration;
+    }
+}
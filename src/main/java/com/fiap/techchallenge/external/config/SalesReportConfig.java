@@ -0,0 +1,36 @@
+package com.fiap.techchallenge.external.config;
+
+import com.fiap.techchallenge.application.usecases.SalesReportUseCase;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Refresh dos relatórios de vendas.
+ * <p>
+ * A cada <code>SALES_REPORT_REFRESH_MS</code> (padrão 1 minuto) recalcula os dias com pedidos
+ * alterados; o histórico entra em blocos de <code>SALES_REPORT_BACKFILL_DAYS</code>
+ * dias por execução (padrão 31), até alcançar o dia corrente. Desligue com
+ * <code>SALES_REPORT_REFRESH_ENABLED=false</code> (os relatórios param de ser atualizados),
+ * verificado a cada execução, também com AOT.
+ * </p>
+ */
+@Configuration
+public class SalesReportConfig {
+
+    private final ObjectProvider<SalesReportUseCase> salesReportUseCase;
+
+    @Value("${app.reports.sales.refresh-enabled:true}")
+    private boolean enabled;
+
+    public SalesReportConfig(ObjectProvider<SalesReportUseCase> salesReportUseCase) {
+        this.salesReportUseCase = salesReportUseCase;
+    }
+
+    @Scheduled(fixedDelayString = "${app.reports.sales.refresh-ms:60000}",
+            initialDelayString = "${app.reports.sales.refresh-ms:60000}")
+    public void refreshSalesReports() {
+        ScheduledJobs.run("sales-report-refresh", enabled, () -> salesReportUseCase.getObject().refreshSalesReports());
+    }
+}
@@ -0,0 +1,32 @@
+package com.fiap.techchallenge.external.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Execução comum dos jobs agendados que delegam a um caso de uso.
+ * <p>
+ * O liga/desliga é lido a cada execução (vale também com AOT). A falha não escapa
+ * para o scheduler e o job roda de novo no próximo disparo; o caso de uso registra
+ * o detalhe com stack trace, aqui fica só uma linha por falha, inclusive as que
+ * acontecem antes dele (criação do bean, por exemplo).
+ * </p>
+ */
+final class ScheduledJobs {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScheduledJobs.class);
+
+    private ScheduledJobs() {
+    }
+
+    static void run(String name, boolean enabled, Runnable job) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            job.run();
+        } catch (Exception e) {
+            logger.warn("Scheduled job failed, retrying on next trigger: job={}, error={}", name, e.getMessage());
+        }
+    }
+}
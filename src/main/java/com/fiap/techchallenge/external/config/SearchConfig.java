@@ -0,0 +1,53 @@
+package com.fiap.techchallenge.external.config;
+
+import com.fiap.techchallenge.domain.repositories.ProductRepository;
+import com.fiap.techchallenge.infrastructure.search.ProductSearchIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Índice de busca de produtos em memória.
+ * <p>
+ * Cada instância atualiza o próprio índice nas escritas que recebe; o refresh
+ * periódico traz as alterações feitas por outras réplicas
+ * (<code>SEARCH_INDEX_REFRESH_MS</code>, padrão 5 minutos).
+ * </p>
+ */
+@Configuration
+@EnableScheduling
+public class SearchConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchConfig.class);
+
+    private final ProductSearchIndex productSearchIndex = new ProductSearchIndex();
+    private final ObjectProvider<ProductRepository> productRepository;
+
+    public SearchConfig(ObjectProvider<ProductRepository> productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    @Bean
+    public ProductSearchIndex productSearchIndex() {
+        return productSearchIndex;
+    }
+
+    @Scheduled(fixedDelayString = "${SEARCH_INDEX_REFRESH_MS:300000}",
+            initialDelayString = "${SEARCH_INDEX_REFRESH_MS:300000}")
+    public void refreshProductSearchIndex() {
+        // Enquanto ninguém buscou, não vale a pena carregar o catálogo
+        if (!productSearchIndex.isLoaded()) {
+            return;
+        }
+        try {
+            productSearchIndex.rebuild(productRepository.getObject()::findAll);
+            logger.info("Product search index refreshed: products={}", productSearchIndex.size());
+        } catch (Exception e) {
+            logger.error("Failed to refresh product search index", e);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.fiap.techchallenge.external.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationInitializer;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline.TimelineEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.StartupStep;
+
+import javax.sql.DataSource;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Inicialização rápida (perfil <code>fast-start</code>).
+ * <p>
+ * Com <code>spring.main.lazy-initialization</code> ligado, Swagger, Cognito,
+ * controllers e casos de uso só são criados na primeira requisição que os usa.
+ * O caminho crítico continua no boot: pool de conexões, Flyway e Hibernate —
+ * o pod só fica pronto com o banco validado. Beans com <code>@Scheduled</code>
+ * já são mantidos ansiosos pelo próprio Spring Boot.
+ * </p>
+ */
+@Configuration
+public class StartupConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupConfig.class);
+
+    @Value("${app.startup.report-slowest-beans:10}")
+    private int slowestBeans;
+
+    @Bean
+    public static LazyInitializationExcludeFilter criticalBeansLazyInitializationExcludeFilter() {
+        return LazyInitializationExcludeFilter.forBeanTypes(DataSource.class, FlywayMigrationInitializer.class,
+                EntityManagerFactory.class);
+    }
+
+    /**
+     * Resumo da linha do tempo no log de cada pod: os beans mais lentos para criar.
+     * O detalhe completo fica no endpoint <code>/startup</code> do Actuator.
+     */
+    @EventListener
+    public void logStartupTimeline(ApplicationReadyEvent event) {
+        if (slowestBeans <= 0
+                || !(event.getApplicationContext().getApplicationStartup() instanceof BufferingApplicationStartup startup)) {
+            return;
+        }
+        List<TimelineEvent> slowest = startup.getBufferedTimeline().getEvents().stream()
+                .filter(timelineEvent -> "spring.beans.instantiate".equals(timelineEvent.getStartupStep().getName()))
+                .sorted(Comparator.comparing(TimelineEvent::getDuration).reversed())
+                .limit(slowestBeans)
+                .toList();
+
+        logger.info("Application ready in {} ms", event.getTimeTaken().toMillis());
+        for (TimelineEvent timelineEvent : slowest) {
+            logger.info("Startup bean: name={}, duration_ms={}",
+                    beanName(timelineEvent.getStartupStep()), timelineEvent.getDuration().toMillis());
+        }
+    }
+
+    private static String beanName(StartupStep step) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if ("beanName".equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return step.getName();
+    }
+}
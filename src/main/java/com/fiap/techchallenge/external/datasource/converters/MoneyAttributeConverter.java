@@ -0,0 +1,22 @@
+package com.fiap.techchallenge.external.datasource.converters;
+
+import com.fiap.techchallenge.domain.entities.Money;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.math.BigDecimal;
+
+// Aplicado a todo atributo Money: as colunas continuam numeric(38,2)
+@Converter(autoApply = true)
+public class MoneyAttributeConverter implements AttributeConverter<Money, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Money money) {
+        return money != null ? money.toBigDecimal() : null;
+    }
+
+    @Override
+    public Money convertToEntityAttribute(BigDecimal amount) {
+        return Money.of(amount);
+    }
+}
@@ -1,10 +1,10 @@
 package com.fiap.techchallenge.external.datasource.entities;
 
+import com.fiap.techchallenge.domain.entities.Money;
 import jakarta.persistence.*;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
-import java.math.BigDecimal;
 import java.util.UUID;
 
 @Entity
@@ -17,28 +17,46 @@ public class OrderItemJpaEntity {
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
+    // Só leitura: a coluna é preenchida pelo @JoinColumn do pedido; usada nas consultas de resumo
+    @Column(name = "order_id", insertable = false, updatable = false)
+    private Long orderId;
+
     @Column(name = "product_id", nullable = false)
     private UUID productId;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "product_id", insertable = false, updatable = false)
     private ProductJpaEntity product;
 
+    // Snapshot do produto no momento do pedido (evita join com o catálogo na leitura)
+    @Column(name = "product_name")
+    private String productName;
+
+    @Column(name = "category_id")
+    private UUID categoryId;
+
+    @Column(name = "category_name")
+    private String categoryName;
+
     @Column(nullable = false)
     private Integer quantity;
 
     @Column(name = "unit_price", nullable = false)
-    private BigDecimal unitPrice;
+    private Money unitPrice;
 
     @Column(name = "sub_total", nullable = false)
-    private BigDecimal subTotal;
+    private Money subTotal;
 
     public OrderItemJpaEntity() {}
 
-    public OrderItemJpaEntity(UUID id, UUID productId, ProductJpaEntity product, Integer quantity, BigDecimal unitPrice, BigDecimal subTotal) {
+    public OrderItemJpaEntity(UUID id, UUID productId, ProductJpaEntity product, String productName, UUID categoryId,
+                              String categoryName, Integer quantity, Money unitPrice, Money subTotal) {
         this.id = id;
         this.productId = productId;
         this.product = product;
+        this.productName = productName;
+        this.categoryId = categoryId;
+        this.categoryName = categoryName;
         this.quantity = quantity;
         this.unitPrice = unitPrice;
         this.subTotal = subTotal;
@@ -47,14 +65,21 @@ public class OrderItemJpaEntity {
     // Getters and Setters
     public UUID getId() { return id; }
     public void setId(UUID id) { this.id = id; }
+    public Long getOrderId() { return orderId; }
     public UUID getProductId() { return productId; }
     public void setProductId(UUID productId) { this.productId = productId; }
     public ProductJpaEntity getProduct() { return product; }
     public void setProduct(ProductJpaEntity product) { this.product = product; }
+    public String getProductName() { return productName; }
+    public void setProductName(String productName) { this.productName = productName; }
+    public UUID getCategoryId() { return categoryId; }
+    public void setCategoryId(UUID categoryId) { this.categoryId = categoryId; }
+    public String getCategoryName() { return categoryName; }
+    public void setCategoryName(String categoryName) { this.categoryName = categoryName; }
     public Integer getQuantity() { return quantity; }
     public void setQuantity(Integer quantity) { this.quantity = quantity; }
-    public BigDecimal getUnitPrice() { return unitPrice; }
-    public void setUnitPrice(BigDecimal unitPrice) { this.unitPrice = unitPrice; }
-    public BigDecimal getSubTotal() { return subTotal; }
-    public void setSubTotal(BigDecimal subTotal) { this.subTotal = subTotal; }
+    public Money getUnitPrice() { return unitPrice; }
+    public void setUnitPrice(Money unitPrice) { this.unitPrice = unitPrice; }
+    public Money getSubTotal() { return subTotal; }
+    public void setSubTotal(Money subTotal) { this.subTotal = subTotal; }
 }
@@ -1,7 +1,8 @@
 package com.fiap.techchallenge.external.datasource.entities;
 
+import com.fiap.techchallenge.domain.entities.Money;
 import jakarta.persistence.*;
-import java.math.BigDecimal;
+
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -10,8 +11,10 @@ import java.util.UUID;
 @Table(name = "orders")
 public class OrderJpaEntity {
 
+    // Sequência com alocação em blocos: IDENTITY obriga um INSERT por pedido e desliga o batch do Hibernate
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "customer_id")
@@ -21,12 +24,13 @@ public class OrderJpaEntity {
     @JoinColumn(name = "customer_id", insertable = false, updatable = false)
     private CustomerJpaEntity customer;
 
+    // nullable = false faz o order_id ir no próprio INSERT do item, sem UPDATE posterior
     @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
-    @JoinColumn(name = "order_id")
+    @JoinColumn(name = "order_id", nullable = false)
     private List<OrderItemJpaEntity> items;
 
     @Column(name = "total_amount", nullable = false)
-    private BigDecimal totalAmount;
+    private Money totalAmount;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
@@ -65,8 +69,8 @@ public class OrderJpaEntity {
     public void setCustomer(CustomerJpaEntity customer) { this.customer = customer; }
     public List<OrderItemJpaEntity> getItems() { return items; }
     public void setItems(List<OrderItemJpaEntity> items) { this.items = items; }
-    public BigDecimal getTotalAmount() { return totalAmount; }
-    public void setTotalAmount(BigDecimal totalAmount) { this.totalAmount = totalAmount; }
+    public Money getTotalAmount() { return totalAmount; }
+    public void setTotalAmount(Money totalAmount) { this.totalAmount = totalAmount; }
     public OrderStatusJpa getStatus() { return status; }
     public void setStatus(OrderStatusJpa status) { this.status = status; }
     public StatusPaymentJpa getStatusPayment() { return statusPayment; }
@@ -1,13 +1,19 @@
 package com.fiap.techchallenge.external.datasource.mercadopago;
 
+import com.fiap.techchallenge.domain.entities.Money;
+
 public interface MercadoPagoClient {
     Long createPaymentOrder(
-        Double amount,
+        Money amount,
         String description,
         String paymentMethodId,
         Integer installments,
         String payerEmail,
         String identificationType,
-        String identificationNumber
+        String identificationNumber,
+        String idempotencyKey
     );
+
+    // Status do pagamento como o Mercado Pago devolve ("approved", "pending", "rejected"...)
+    String getPaymentStatus(Long paymentId);
 }
@@ -3,37 +3,52 @@ package com.fiap.techchallenge.external.datasource.mercadopago;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.techchallenge.domain.entities.Money;
 import com.fiap.techchallenge.domain.exception.DomainException;
 import com.fiap.techchallenge.infrastructure.logging.LogCategory;
 import com.fiap.techchallenge.infrastructure.logging.StructuredLogger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
-import java.util.Locale;
+import java.time.Duration;
 import java.util.UUID;
 
 @Component
 public class MercadoPagoClientImpl implements MercadoPagoClient {
 
     private static final Logger logger = LoggerFactory.getLogger(MercadoPagoClientImpl.class);
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate restTemplate;
+    private final String baseUrl;
 
     @Value("${mercado-pago.access-token}")
     private String accessToken;
 
+    public MercadoPagoClientImpl(RestTemplateBuilder restTemplateBuilder,
+                                 @Value("${mercado-pago.connect-timeout-ms:2000}") long connectTimeoutMs,
+                                 @Value("${mercado-pago.read-timeout-ms:5000}") long readTimeoutMs,
+                                 @Value("${mercado-pago.base-url:https://api.mercadopago.com}") String baseUrl) {
+        this.restTemplate = restTemplateBuilder
+                .setConnectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .setReadTimeout(Duration.ofMillis(readTimeoutMs))
+                .build();
+        this.baseUrl = baseUrl;
+    }
+
     @Override
     public Long createPaymentOrder(
-        Double amount,
+        Money amount,
         String description,
         String paymentMethodId,
         Integer installments,
         String payerEmail,
         String identificationType,
-        String identificationNumber
+        String identificationNumber,
+        String idempotencyKey
     ) {
         long startTime = System.currentTimeMillis();
 
@@ -46,21 +61,23 @@ public class MercadoPagoClientImpl implements MercadoPagoClient {
             logger.info("MercadoPago payment creation started: amount={}, paymentMethod={}", 
                        amount, paymentMethodId);
             
-            String url = "https://api.mercadopago.com/v1/payments";
+            String url = baseUrl + "/v1/payments";
             String notificationUrl = "https://example.com/notify";
 
             // Configura os headers
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
             headers.setBearerAuth(accessToken);
-            String idempotencyKey = UUID.randomUUID().toString();
-            headers.set("X-Idempotency-Key", idempotencyKey);
+            // Chave do cliente quando houver: a retentativa devolve o mesmo pagamento
+            String paymentIdempotencyKey = idempotencyKey != null ? idempotencyKey : UUID.randomUUID().toString();
+            headers.set("X-Idempotency-Key", paymentIdempotencyKey);
             
-            StructuredLogger.put("idempotencyKey", idempotencyKey);
+            StructuredLogger.put("idempotencyKey", paymentIdempotencyKey);
 
             // Monta o corpo da requisição (JSON)
             StringBuilder requestBody = new StringBuilder("{");
-            requestBody.append(String.format(Locale.US, "\"transaction_amount\":%.2f,", amount));
+            // Decimal exato a partir dos centavos, sem passar por double
+            requestBody.append("\"transaction_amount\":").append(amount).append(',');
             requestBody.append(String.format("\"description\":\"%s\",", description));
             requestBody.append(String.format("\"payment_method_id\":\"%s\",", paymentMethodId));
             requestBody.append(String.format("\"installments\":%d", installments));
@@ -107,6 +124,44 @@ public class MercadoPagoClientImpl implements MercadoPagoClient {
         }
     }
 
+    @Override
+    public String getPaymentStatus(Long paymentId) {
+        long startTime = System.currentTimeMillis();
+
+        try {
+            StructuredLogger.setCategory(LogCategory.INTEGRATION);
+            StructuredLogger.setOperation("GetMercadoPagoPaymentStatus");
+            StructuredLogger.setPaymentId(paymentId.toString());
+
+            HttpHeaders headers = new HttpHeaders();
+            headers.setBearerAuth(accessToken);
+
+            String response = restTemplate.exchange(baseUrl + "/v1/payments/{id}", HttpMethod.GET,
+                    new HttpEntity<>(headers), String.class, paymentId).getBody();
+            String status = new ObjectMapper().readTree(response).path("status").asText(null);
+            if (status == null) {
+                throw new DomainException("Payment status missing in MercadoPago response");
+            }
+
+            long duration = System.currentTimeMillis() - startTime;
+            StructuredLogger.setDuration(duration);
+            logger.debug("MercadoPago payment status fetched: paymentId={}, status={}, duration={}ms",
+                        paymentId, status, duration);
+
+            return status;
+
+        } catch (Exception e) {
+            long duration = System.currentTimeMillis() - startTime;
+            StructuredLogger.setDuration(duration);
+            StructuredLogger.setError("MERCADOPAGO_STATUS_FAILED", e.getMessage());
+            logger.warn("Failed to fetch MercadoPago payment status: paymentId={}, duration={}ms, error={}",
+                       paymentId, duration, e.getMessage());
+            throw new DomainException("Error in getPaymentStatus: " + e.getMessage());
+        } finally {
+            StructuredLogger.clear();
+        }
+    }
+
     private static Long getPaymentId(String response) {
         try {
             ObjectMapper mapper = new ObjectMapper();
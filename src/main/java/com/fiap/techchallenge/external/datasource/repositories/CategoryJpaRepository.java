@@ -2,11 +2,18 @@ package com.fiap.techchallenge.external.datasource.repositories;
 
 import com.fiap.techchallenge.external.datasource.entities.CategoryJpaEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface CategoryJpaRepository extends JpaRepository<CategoryJpaEntity, UUID> {
     boolean existsByName(String name);
+
+    @Query(value = "SELECT CAST(version AS text) AS \"tag\", updated_at AS \"lastModified\" " +
+                   "FROM categories WHERE id = :id", nativeQuery = true)
+    Optional<ResourceVersionRow> findVersionById(@Param("id") UUID id);
 }
@@ -2,6 +2,8 @@ package com.fiap.techchallenge.external.datasource.repositories;
 
 import com.fiap.techchallenge.external.datasource.entities.CustomerJpaEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -11,4 +13,8 @@ import java.util.UUID;
 public interface CustomerJpaRepository extends JpaRepository<CustomerJpaEntity, UUID> {
     Optional<CustomerJpaEntity> findByCpf(String cpf);
     boolean existsByCpf(String cpf);
+
+    @Query(value = "SELECT CAST(version AS text) AS \"tag\", updated_at AS \"lastModified\" " +
+                   "FROM customers WHERE id = :id", nativeQuery = true)
+    Optional<ResourceVersionRow> findVersionById(@Param("id") UUID id);
 }
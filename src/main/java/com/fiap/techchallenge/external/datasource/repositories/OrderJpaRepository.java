@@ -1,12 +1,19 @@
 package com.fiap.techchallenge.external.datasource.repositories;
 
+import com.fiap.techchallenge.domain.entities.Money;
 import com.fiap.techchallenge.external.datasource.entities.OrderJpaEntity;
 import com.fiap.techchallenge.external.datasource.entities.OrderJpaEntity.OrderStatusJpa;
+import com.fiap.techchallenge.external.datasource.entities.OrderJpaEntity.StatusPaymentJpa;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -14,6 +21,16 @@ import java.util.UUID;
 @Repository
 public interface OrderJpaRepository extends JpaRepository<OrderJpaEntity, Long> {
 
+    // Os itens carregam o snapshot do produto, então o pedido inteiro vem em uma única consulta
+    @Override
+    @EntityGraph(attributePaths = "items")
+    Optional<OrderJpaEntity> findById(Long id);
+
+    @Override
+    @EntityGraph(attributePaths = "items")
+    List<OrderJpaEntity> findAll();
+
+    @EntityGraph(attributePaths = "items")
     @Query("SELECT o FROM OrderJpaEntity o " +
        "WHERE o.status <> 'FINISHED' " +
        "ORDER BY " +
@@ -25,8 +42,122 @@ public interface OrderJpaRepository extends JpaRepository<OrderJpaEntity, Long>
        "o.createdAt ASC")
     List<OrderJpaEntity> findByOptionalStatus(@Param("status") OrderStatusJpa status);
 
+    @EntityGraph(attributePaths = "items")
     Optional<OrderJpaEntity> findByIdPayment(@Param("idPayment") Long idPayment);
 
-    @Query("SELECT CASE WHEN COUNT(o) > 0 THEN true ELSE false END FROM OrderJpaEntity o JOIN o.items i WHERE i.productId = :productId")
+    // Projeções de listagem: só as colunas do painel, sem carregar entidades no contexto de persistência
+    interface OrderSummaryRow {
+        Long getId();
+        OrderStatusJpa getStatus();
+        StatusPaymentJpa getStatusPayment();
+        Money getTotalAmount();
+        String getCustomerName();
+        LocalDateTime getCreatedAt();
+    }
+
+    interface OrderItemSummaryRow {
+        Long getOrderId();
+        String getProductName();
+        Integer getQuantity();
+    }
+
+    @Query("SELECT o.id AS id, o.status AS status, o.statusPayment AS statusPayment, " +
+       "o.totalAmount AS totalAmount, c.name AS customerName, o.createdAt AS createdAt " +
+       "FROM OrderJpaEntity o LEFT JOIN o.customer c " +
+       "WHERE (:status IS NULL AND o.status <> 'FINISHED') OR o.status = :status " +
+       "ORDER BY " +
+       "CASE o.status " +
+       "WHEN 'READY' THEN 1 " +
+       "WHEN 'IN_PREPARATION' THEN 2 " +
+       "WHEN 'RECEIVED' THEN 3 " +
+       "ELSE 4 END, " +
+       "o.createdAt ASC")
+    List<OrderSummaryRow> findSummariesByOptionalStatus(@Param("status") OrderStatusJpa status);
+
+    @Query("SELECT i.orderId AS orderId, i.productName AS productName, i.quantity AS quantity " +
+       "FROM OrderItemJpaEntity i WHERE i.orderId IN :orderIds")
+    List<OrderItemSummaryRow> findItemSummariesByOrderIds(@Param("orderIds") Collection<Long> orderIds);
+
+    interface OrderStateRow {
+        Long getId();
+        OrderStatusJpa getStatus();
+        StatusPaymentJpa getStatusPayment();
+    }
+
+    // Transição de status em um único statement: só aplica se o pedido ainda está num dos estados esperados
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OrderJpaEntity o SET o.status = :newStatus, o.updatedAt = :updatedAt " +
+       "WHERE o.id = :id AND o.status IN :expectedStatuses " +
+       "AND (:requiredPayment IS NULL OR o.statusPayment = :requiredPayment)")
+    int updateStatusIfIn(@Param("id") Long id,
+                         @Param("expectedStatuses") Collection<OrderStatusJpa> expectedStatuses,
+                         @Param("requiredPayment") StatusPaymentJpa requiredPayment,
+                         @Param("newStatus") OrderStatusJpa newStatus,
+                         @Param("updatedAt") LocalDateTime updatedAt);
+
+    // newStatus nulo mantém o status atual do pedido
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OrderJpaEntity o SET o.statusPayment = :newPayment, " +
+       "o.status = COALESCE(:newStatus, o.status), o.updatedAt = :updatedAt " +
+       "WHERE o.idPayment = :idPayment AND o.statusPayment = :expectedPayment")
+    int updatePaymentStatusIf(@Param("idPayment") Long idPayment,
+                              @Param("expectedPayment") StatusPaymentJpa expectedPayment,
+                              @Param("newPayment") StatusPaymentJpa newPayment,
+                              @Param("newStatus") OrderStatusJpa newStatus,
+                              @Param("updatedAt") LocalDateTime updatedAt);
+
+    // Versão em lote: um único UPDATE para todos os pedidos elegíveis, devolvendo os ids alterados
+    @Transactional
+    @Query(value = "UPDATE orders SET status = :newStatus, updated_at = :updatedAt " +
+       "WHERE id IN (:ids) AND status IN (:expectedStatuses) " +
+       "AND (CAST(:requiredPayment AS varchar) IS NULL OR status_payment = CAST(:requiredPayment AS varchar)) " +
+       "RETURNING id", nativeQuery = true)
+    List<Long> updateStatusesIfIn(@Param("ids") Collection<Long> ids,
+                                  @Param("expectedStatuses") Collection<String> expectedStatuses,
+                                  @Param("requiredPayment") String requiredPayment,
+                                  @Param("newStatus") String newStatus,
+                                  @Param("updatedAt") LocalDateTime updatedAt);
+
+    // Reconciliação: um único UPDATE para os pagamentos com o mesmo resultado no Mercado Pago
+    @Transactional
+    @Query(value = "UPDATE orders SET status_payment = :newPayment, " +
+       "status = COALESCE(CAST(:newStatus AS varchar), status), updated_at = :updatedAt " +
+       "WHERE id_payment IN (:idPayments) AND status_payment = :expectedPayment " +
+       "RETURNING id", nativeQuery = true)
+    List<Long> updatePaymentStatusesIf(@Param("idPayments") Collection<Long> idPayments,
+                                       @Param("expectedPayment") String expectedPayment,
+                                       @Param("newPayment") String newPayment,
+                                       @Param("newStatus") String newStatus,
+                                       @Param("updatedAt") LocalDateTime updatedAt);
+
+    interface PendingPaymentRow {
+        Long getOrderId();
+        Long getIdPayment();
+    }
+
+    // Atendida só pelo índice parcial idx_orders_pending_payment
+    @Query(value = "SELECT id AS \"orderId\", id_payment AS \"idPayment\" FROM orders " +
+       "WHERE status_payment = 'AGUARDANDO_PAGAMENTO' AND id_payment IS NOT NULL " +
+       "AND updated_at < :updatedBefore AND id > :afterId ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<PendingPaymentRow> findStalePendingPayments(@Param("updatedBefore") LocalDateTime updatedBefore,
+                                                     @Param("afterId") long afterId,
+                                                     @Param("limit") int limit);
+
+    @Query("SELECT o.id AS id, o.status AS status, o.statusPayment AS statusPayment " +
+       "FROM OrderJpaEntity o WHERE o.id IN :ids")
+    List<OrderStateRow> findStatesByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT o.id AS id, o.status AS status, o.statusPayment AS statusPayment " +
+       "FROM OrderJpaEntity o WHERE o.id = :id")
+    Optional<OrderStateRow> findStateById(@Param("id") Long id);
+
+    @Query("SELECT o.id AS id, o.status AS status, o.statusPayment AS statusPayment " +
+       "FROM OrderJpaEntity o WHERE o.idPayment = :idPayment")
+    Optional<OrderStateRow> findStateByIdPayment(@Param("idPayment") Long idPayment);
+
+    // Semi-join pelo índice de order_items.product_id: para no primeiro item, independente do histórico
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM order_items WHERE product_id = :productId)", nativeQuery = true)
     boolean existsByItemsProductId(@Param("productId") UUID productId);
 }
@@ -1,6 +1,7 @@
 
 package com.fiap.techchallenge.external.datasource.repositories;
 
+import com.fiap.techchallenge.domain.readmodels.ProductSummary;
 import com.fiap.techchallenge.external.datasource.entities.ProductJpaEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -8,12 +9,37 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface ProductJpaRepository extends JpaRepository<ProductJpaEntity, UUID> {
-    List<ProductJpaEntity> findByNameContainingIgnoreCase(String name);
 
     @Query("SELECT p FROM ProductJpaEntity p WHERE p.category.id = :categoryId")
     List<ProductJpaEntity> findByCategoryId(@Param("categoryId") UUID categoryId);
+
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM products WHERE category_id = :categoryId)", nativeQuery = true)
+    boolean existsByCategoryId(@Param("categoryId") UUID categoryId);
+
+    interface ProductIdNameRow {
+        UUID getId();
+        String getName();
+    }
+
+    @Query("SELECT p.id AS id, p.name AS name FROM ProductJpaEntity p")
+    List<ProductIdNameRow> findAllIdsAndNames();
+
+    // Projeção do cardápio: monta o resumo direto na consulta, sem entidade nem mapper
+    @Query("SELECT new com.fiap.techchallenge.domain.readmodels.ProductSummary(p.id, p.name, p.price, c.id, c.name) " +
+           "FROM ProductJpaEntity p LEFT JOIN p.category c " +
+           "WHERE p.active = true AND (:categoryId IS NULL OR c.id = :categoryId) " +
+           "ORDER BY c.name, p.name")
+    List<ProductSummary> findActiveSummaries(@Param("categoryId") UUID categoryId);
+
+    // O JSON do produto traz a categoria: renomear a categoria também muda o tag
+    @Query(value = "SELECT p.version || COALESCE('.' || c.version, '') AS \"tag\", " +
+                   "GREATEST(p.updated_at, c.updated_at) AS \"lastModified\" " +
+                   "FROM products p LEFT JOIN categories c ON c.id = p.category_id WHERE p.id = :id",
+           nativeQuery = true)
+    Optional<ResourceVersionRow> findVersionById(@Param("id") UUID id);
 }
@@ -0,0 +1,9 @@
+package com.fiap.techchallenge.external.datasource.repositories;
+
+import java.time.LocalDateTime;
+
+// Projeção das consultas findVersionById (colunas version/updated_at mantidas por trigger)
+public interface ResourceVersionRow {
+    String getTag();
+    LocalDateTime getLastModified();
+}
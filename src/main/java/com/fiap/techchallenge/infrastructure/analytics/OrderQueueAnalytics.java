@@ -0,0 +1,253 @@
+package com.fiap.techchallenge.infrastructure.analytics;
+
+import com.fiap.techchallenge.domain.entities.Order;
+import com.fiap.techchallenge.domain.entities.OrderStatus;
+import com.fiap.techchallenge.domain.readmodels.DwellTimeStats;
+import com.fiap.techchallenge.domain.readmodels.OrderQueueStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Tempo de permanência dos pedidos em cada status, mantido a cada transição.
+ * <p>
+ * Cada evento atualiza contagem, média e três estimadores P² (p50, p90, p99) da etapa
+ * que o pedido deixou, em tempo e memória constantes; consultas de estatística e de
+ * previsão de pronto só leem esses valores, sem agregar a tabela de pedidos.
+ * Os números são desta instância e acumulados desde a subida.
+ * </p>
+ * <p>
+ * Pedidos acompanhados sem transição há mais de <code>trackedOrderTtl</code> saem do
+ * mapa: finalizados em outra réplica ou com pagamento que nunca veio não ficam para sempre.
+ * </p>
+ */
+public class OrderQueueAnalytics {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderQueueAnalytics.class);
+
+    // Teto de segurança entre duas expirações; cheio, novos pedidos não são acompanhados
+    static final int MAX_TRACKED_ORDERS = 100_000;
+    static final Duration DEFAULT_TRACKED_ORDER_TTL = Duration.ofHours(4);
+
+    private final LocalDateTime since = LocalDateTime.now();
+    private final Duration trackedOrderTtl;
+    private final AtomicBoolean full = new AtomicBoolean();
+    private final Map<OrderStatus, StageStatistics> dwellTimes = new EnumMap<>(OrderStatus.class);
+    private final StageStatistics timeToReady = new StageStatistics();
+    private final ConcurrentMap<Long, TrackedOrder> trackedOrders = new ConcurrentHashMap<>();
+
+    public OrderQueueAnalytics() {
+        this(DEFAULT_TRACKED_ORDER_TTL);
+    }
+
+    public OrderQueueAnalytics(Duration trackedOrderTtl) {
+        this.trackedOrderTtl = trackedOrderTtl;
+        // FINISHED é terminal: não há permanência a medir
+        for (OrderStatus status : OrderStatus.values()) {
+            if (status != OrderStatus.FINISHED) {
+                dwellTimes.put(status, new StageStatistics());
+            }
+        }
+    }
+
+    public void orderReceived(Order order) {
+        if (order.getId() == null || !hasRoom()) {
+            return;
+        }
+        trackedOrders.put(order.getId(), new TrackedOrder(order.getStatus(), order.getUpdatedAt(), order.getCreatedAt()));
+    }
+
+    // Pagamento rejeitado: o pedido não sai de RECEIVED e não há mais o que medir
+    public void orderDiscarded(Long orderId) {
+        trackedOrders.remove(orderId);
+    }
+
+    /**
+     * Registra a transição de um pedido para <code>newStatus</code> em <code>at</code>.
+     * <code>createdAt</code> é opcional: permite medir pedidos criados antes da subida
+     * desta instância ou por outra réplica.
+     */
+    public void statusChanged(Long orderId, OrderStatus newStatus, LocalDateTime createdAt, LocalDateTime at) {
+        boolean room = newStatus != OrderStatus.FINISHED && createdAt != null
+                && (trackedOrders.containsKey(orderId) || hasRoom());
+        // Leitura e troca atômicas: duas transições simultâneas do mesmo pedido não medem a mesma etapa
+        TrackedOrder[] previous = new TrackedOrder[1];
+        trackedOrders.compute(orderId, (id, tracked) -> {
+            previous[0] = tracked;
+            if (newStatus == OrderStatus.FINISHED || (tracked == null && !room)) {
+                return null;
+            }
+            return new TrackedOrder(newStatus, at, createdAt != null ? createdAt : tracked.createdAt);
+        });
+
+        TrackedOrder tracked = previous[0];
+        LocalDateTime orderCreatedAt = createdAt;
+        if (tracked != null) {
+            if (tracked.status != newStatus) {
+                record(dwellTimes.get(tracked.status), tracked.enteredAt, at);
+            }
+            if (orderCreatedAt == null) {
+                orderCreatedAt = tracked.createdAt;
+            }
+        } else if (newStatus == OrderStatus.IN_PREPARATION && createdAt != null) {
+            // Pedido não acompanhado: recebido desde a criação
+            record(dwellTimes.get(OrderStatus.RECEIVED), createdAt, at);
+        }
+
+        if (newStatus == OrderStatus.READY && orderCreatedAt != null) {
+            record(timeToReady, orderCreatedAt, at);
+        }
+    }
+
+    /**
+     * Remove os pedidos sem transição desde <code>now - trackedOrderTtl</code>.
+     * Uma transição posterior ainda é medida pela data de criação, como pedido não acompanhado.
+     */
+    public int evictStaleOrders(LocalDateTime now) {
+        LocalDateTime threshold = now.minus(trackedOrderTtl);
+        int evicted = 0;
+        for (Map.Entry<Long, TrackedOrder> entry : trackedOrders.entrySet()) {
+            if (entry.getValue().lastSeen().isBefore(threshold)
+                    && trackedOrders.remove(entry.getKey(), entry.getValue())) {
+                evicted++;
+            }
+        }
+        if (trackedOrders.size() < MAX_TRACKED_ORDERS) {
+            full.set(false);
+        }
+        return evicted;
+    }
+
+    /**
+     * Previsão de quando o pedido fica pronto, pela mediana de cada etapa que falta.
+     * Em preparo além da mediana, usa o p90; além dele, o próprio momento da consulta.
+     * Null para pedidos finalizados ou enquanto não há amostras das etapas.
+     */
+    public LocalDateTime estimateReadyAt(OrderStatus status, LocalDateTime createdAt, LocalDateTime statusSince,
+                                         LocalDateTime now) {
+        if (status == null) {
+            return null;
+        }
+        switch (status) {
+            case READY:
+                return statusSince;
+            case IN_PREPARATION: {
+                if (statusSince == null) return null;
+                StageStatistics preparation = dwellTimes.get(OrderStatus.IN_PREPARATION);
+                double median = preparation.median();
+                if (Double.isNaN(median)) return null;
+                LocalDateTime estimate = plusSeconds(statusSince, median);
+                if (estimate.isBefore(now)) {
+                    estimate = plusSeconds(statusSince, preparation.p90());
+                }
+                return estimate.isBefore(now) ? now : estimate;
+            }
+            case RECEIVED: {
+                if (createdAt == null) return null;
+                double waiting = dwellTimes.get(OrderStatus.RECEIVED).median();
+                double preparing = dwellTimes.get(OrderStatus.IN_PREPARATION).median();
+                if (Double.isNaN(waiting) || Double.isNaN(preparing)) return null;
+                LocalDateTime estimate = plusSeconds(createdAt, waiting + preparing);
+                return estimate.isBefore(now) ? now : estimate;
+            }
+            default:
+                return null;
+        }
+    }
+
+    public Order withEstimatedReadyAt(Order order, LocalDateTime now) {
+        return order.withEstimatedReadyAt(
+                estimateReadyAt(order.getStatus(), order.getCreatedAt(), order.getUpdatedAt(), now));
+    }
+
+    public OrderQueueStats snapshot() {
+        Map<OrderStatus, DwellTimeStats> stats = new EnumMap<>(OrderStatus.class);
+        for (Map.Entry<OrderStatus, StageStatistics> entry : dwellTimes.entrySet()) {
+            stats.put(entry.getKey(), entry.getValue().toDwellTimeStats());
+        }
+        return new OrderQueueStats(since, stats, timeToReady.toDwellTimeStats());
+    }
+
+    int trackedOrders() {
+        return trackedOrders.size();
+    }
+
+    private boolean hasRoom() {
+        if (trackedOrders.size() < MAX_TRACKED_ORDERS) {
+            return true;
+        }
+        evictStaleOrders(LocalDateTime.now());
+        if (trackedOrders.size() < MAX_TRACKED_ORDERS) {
+            return true;
+        }
+        if (full.compareAndSet(false, true)) {
+            logger.warn("Order queue analytics full, new orders not tracked until entries expire: trackedOrders={}, ttl={}",
+                    trackedOrders.size(), trackedOrderTtl);
+        }
+        return false;
+    }
+
+    private static void record(StageStatistics statistics, LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null) {
+            return;
+        }
+        double seconds = Duration.between(from, to).toMillis() / 1000.0;
+        if (seconds >= 0) {
+            statistics.add(seconds);
+        }
+    }
+
+    private static LocalDateTime plusSeconds(LocalDateTime time, double seconds) {
+        return time.plusNanos((long) (seconds * 1_000_000_000L));
+    }
+
+    private record TrackedOrder(OrderStatus status, LocalDateTime enteredAt, LocalDateTime createdAt) {
+        LocalDateTime lastSeen() {
+            if (enteredAt != null) return enteredAt;
+            return createdAt != null ? createdAt : LocalDateTime.MIN;
+        }
+    }
+
+    private static final class StageStatistics {
+        private final P2QuantileEstimator p50 = new P2QuantileEstimator(0.5);
+        private final P2QuantileEstimator p90 = new P2QuantileEstimator(0.9);
+        private final P2QuantileEstimator p99 = new P2QuantileEstimator(0.99);
+        private long samples;
+        private double sum;
+
+        synchronized void add(double seconds) {
+            samples++;
+            sum += seconds;
+            p50.add(seconds);
+            p90.add(seconds);
+            p99.add(seconds);
+        }
+
+        synchronized double median() {
+            return p50.getValue();
+        }
+
+        synchronized double p90() {
+            return p90.getValue();
+        }
+
+        synchronized DwellTimeStats toDwellTimeStats() {
+            if (samples == 0) {
+                return new DwellTimeStats(0, null, null, null, null);
+            }
+            return new DwellTimeStats(samples, round(sum / samples), round(p50.getValue()),
+                    round(p90.getValue()), round(p99.getValue()));
+        }
+
+        private static Double round(double seconds) {
+            return Math.round(seconds * 10) / 10.0;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.fiap.techchallenge.infrastructure.analytics;
+
+import java.util.Arrays;
+
+/**
+ * Estimador de um quantil em fluxo pelo algoritmo P² (Jain &amp; Chlamtac, 1985).
+ * <p>
+ * Guarda só cinco marcadores (mínimo, p/2, p, (1+p)/2 e máximo) e os ajusta a cada
+ * observação por interpolação parabólica: memória e custo constantes, sem guardar
+ * as amostras. Até a quinta observação o quantil é exato.
+ * Não é thread-safe; quem usa sincroniza.
+ * </p>
+ */
+public class P2QuantileEstimator {
+
+    private static final int MARKERS = 5;
+
+    private final double quantile;
+    private final double[] heights = new double[MARKERS];
+    private final double[] positions = new double[MARKERS];
+    private final double[] desiredPositions = new double[MARKERS];
+    private final double[] increments;
+    private long count;
+
+    public P2QuantileEstimator(double quantile) {
+        if (quantile <= 0 || quantile >= 1) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1: " + quantile);
+        }
+        this.quantile = quantile;
+        this.increments = new double[] {0, quantile / 2, quantile, (1 + quantile) / 2, 1};
+    }
+
+    public void add(double value) {
+        if (count < MARKERS) {
+            heights[(int) count++] = value;
+            if (count == MARKERS) {
+                Arrays.sort(heights);
+                for (int i = 0; i < MARKERS; i++) {
+                    positions[i] = i + 1;
+                }
+                desiredPositions[0] = 1;
+                desiredPositions[1] = 1 + 2 * quantile;
+                desiredPositions[2] = 1 + 4 * quantile;
+                desiredPositions[3] = 3 + 2 * quantile;
+                desiredPositions[4] = 5;
+            }
+            return;
+        }
+        count++;
+
+        // Célula onde o valor cai; os extremos acompanham mínimo e máximo
+        int cell;
+        if (value < heights[0]) {
+            heights[0] = value;
+            cell = 0;
+        } else if (value >= heights[4]) {
+            heights[4] = value;
+            cell = 3;
+        } else {
+            cell = 0;
+            while (value >= heights[cell + 1]) {
+                cell++;
+            }
+        }
+
+        for (int i = cell + 1; i < MARKERS; i++) {
+            positions[i]++;
+        }
+        for (int i = 0; i < MARKERS; i++) {
+            desiredPositions[i] += increments[i];
+        }
+
+        // Marcadores internos fora da posição desejada andam uma casa
+        for (int i = 1; i < MARKERS - 1; i++) {
+            double drift = desiredPositions[i] - positions[i];
+            if ((drift >= 1 && positions[i + 1] - positions[i] > 1)
+                    || (drift <= -1 && positions[i - 1] - positions[i] < -1)) {
+                int step = drift > 0 ? 1 : -1;
+                double candidate = parabolic(i, step);
+                heights[i] = heights[i - 1] < candidate && candidate < heights[i + 1] ? candidate : linear(i, step);
+                positions[i] += step;
+            }
+        }
+    }
+
+    public double getValue() {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        if (count < MARKERS) {
+            double[] sorted = Arrays.copyOf(heights, (int) count);
+            Arrays.sort(sorted);
+            int rank = (int) Math.ceil(quantile * count) - 1;
+            return sorted[Math.max(0, rank)];
+        }
+        return heights[2];
+    }
+
+    public long getCount() { return count; }
+
+    private double parabolic(int i, int step) {
+        return heights[i] + step / (positions[i + 1] - positions[i - 1])
+                * ((positions[i] - positions[i - 1] + step) * (heights[i + 1] - heights[i]) / (positions[i + 1] - positions[i])
+                + (positions[i + 1] - positions[i] - step) * (heights[i] - heights[i - 1]) / (positions[i] - positions[i - 1]));
+    }
+
+    private double linear(int i, int step) {
+        return heights[i] + step * (heights[i + step] - heights[i]) / (positions[i + step] - positions[i]);
+    }
+}
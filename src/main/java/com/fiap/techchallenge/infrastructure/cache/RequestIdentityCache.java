@@ -0,0 +1,138 @@
+package com.fiap.techchallenge.infrastructure.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Identity map da requisição HTTP corrente: cada entidade é lida do banco no
+ * máximo uma vez por requisição.
+ * <p>
+ * Os gateways consultam o mapa em <code>findById</code>/<code>existsById</code>
+ * e o atualizam nas escritas; o resultado vazio também fica guardado. Fora de
+ * uma requisição (jobs agendados, testes) não há escopo e toda leitura vai ao
+ * banco. Gravação desfeita por rollback sai do mapa.
+ * </p>
+ */
+public final class RequestIdentityCache {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private RequestIdentityCache() {
+    }
+
+    public static void begin() {
+        CURRENT.set(new Scope());
+    }
+
+    /**
+     * Fecha o escopo da requisição.
+     *
+     * @return leituras por tipo de entidade (nome simples da classe), vazio sem escopo
+     */
+    public static Map<String, LookupStats> end() {
+        Scope scope = CURRENT.get();
+        CURRENT.remove();
+        return scope != null ? scope.stats : Collections.emptyMap();
+    }
+
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> Optional<T> findById(Class<T> type, Object id, Supplier<Optional<T>> loader) {
+        Scope scope = CURRENT.get();
+        if (scope == null || id == null) {
+            return loader.get();
+        }
+        Key key = new Key(type, id);
+        Optional<T> cached = (Optional<T>) scope.entries.get(key);
+        if (cached != null) {
+            scope.stats(type).hits++;
+            return cached;
+        }
+        scope.stats(type).misses++;
+        Optional<T> loaded = loader.get();
+        scope.entries.put(key, loaded);
+        return loaded;
+    }
+
+    /**
+     * Responde pela entrada já carregada; sem ela, consulta o banco sem guardar nada
+     * (um EXISTS não traz a entidade).
+     */
+    public static boolean existsById(Class<?> type, Object id, BooleanSupplier loader) {
+        Scope scope = CURRENT.get();
+        if (scope == null || id == null) {
+            return loader.getAsBoolean();
+        }
+        Optional<?> cached = scope.entries.get(new Key(type, id));
+        if (cached != null) {
+            scope.stats(type).hits++;
+            return cached.isPresent();
+        }
+        scope.stats(type).misses++;
+        return loader.getAsBoolean();
+    }
+
+    public static <T> void put(Class<T> type, Object id, T entity) {
+        Scope scope = CURRENT.get();
+        if (scope == null || id == null) {
+            return;
+        }
+        Key key = new Key(type, id);
+        scope.entries.put(key, Optional.ofNullable(entity));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        scope.entries.remove(key);
+                    }
+                }
+            });
+        }
+    }
+
+    public static void evict(Class<?> type, Object id) {
+        Scope scope = CURRENT.get();
+        if (scope != null && id != null) {
+            scope.entries.remove(new Key(type, id));
+        }
+    }
+
+    public static void evictAll(Class<?> type) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.entries.keySet().removeIf(key -> key.type == type);
+        }
+    }
+
+    /** Leituras atendidas pelo mapa (hits) e pelo banco (misses) em uma requisição. */
+    public static final class LookupStats {
+        private long hits;
+        private long misses;
+
+        public long getHits() { return hits; }
+        public long getMisses() { return misses; }
+    }
+
+    private record Key(Class<?> type, Object id) {
+    }
+
+    private static final class Scope {
+        private final Map<Key, Optional<?>> entries = new HashMap<>();
+        private final Map<String, LookupStats> stats = new HashMap<>();
+
+        private LookupStats stats(Class<?> type) {
+            return stats.computeIfAbsent(type.getSimpleName(), name -> new LookupStats());
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.fiap.techchallenge.infrastructure.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Abre o {@link RequestIdentityCache} de cada requisição e, no fim, publica
+ * as leituras em <code>repository.identity_cache.lookups</code>
+ * (tags <code>entity</code> e <code>result</code> = hit/miss). Os hits são
+ * as consultas ao banco economizadas.
+ */
+public class RequestIdentityCacheFilter implements Filter {
+
+    static final String LOOKUPS_METRIC = "repository.identity_cache.lookups";
+
+    private final MeterRegistry meterRegistry;
+
+    public RequestIdentityCacheFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+
+        RequestIdentityCache.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            record(RequestIdentityCache.end());
+        }
+    }
+
+    private void record(Map<String, RequestIdentityCache.LookupStats> stats) {
+        stats.forEach((entity, lookups) -> {
+            if (lookups.getHits() > 0) {
+                meterRegistry.counter(LOOKUPS_METRIC, "entity", entity, "result", "hit")
+                        .increment(lookups.getHits());
+            }
+            if (lookups.getMisses() > 0) {
+                meterRegistry.counter(LOOKUPS_METRIC, "entity", entity, "result", "miss")
+                        .increment(lookups.getMisses());
+            }
+        });
+    }
+}
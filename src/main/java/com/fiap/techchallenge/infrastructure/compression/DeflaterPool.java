@@ -0,0 +1,48 @@
+package com.fiap.techchallenge.infrastructure.compression;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.Deflater;
+
+/**
+ * Pool de {@link Deflater} reaproveitados entre respostas.
+ * <p>
+ * Cada Deflater aloca ~256 KB de memória nativa (zlib) e só a libera no
+ * <code>end()</code>; criar um por resposta, como faz o <code>GZIPOutputStream</code>,
+ * pressiona a memória fora do heap justamente no pico. O pool é limitado: sem
+ * Deflater livre cria-se um avulso, que é encerrado em vez de devolvido.
+ * </p>
+ */
+public class DeflaterPool {
+
+    private final BlockingQueue<Deflater> idle;
+    private final int level;
+
+    public DeflaterPool(int size, int level) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Deflater pool size must be greater than zero");
+        }
+        if (level < Deflater.BEST_SPEED || level > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("Invalid compression level: " + level);
+        }
+        this.idle = new ArrayBlockingQueue<>(size);
+        this.level = level;
+    }
+
+    public Deflater borrow() {
+        Deflater deflater = idle.poll();
+        // nowrap: cabeçalho e trailer gzip são escritos pelo GzipResponseStream
+        return deflater != null ? deflater : new Deflater(level, true);
+    }
+
+    public void release(Deflater deflater) {
+        deflater.reset();
+        if (!idle.offer(deflater)) {
+            deflater.end();
+        }
+    }
+
+    public int getIdle() {
+        return idle.size();
+    }
+}
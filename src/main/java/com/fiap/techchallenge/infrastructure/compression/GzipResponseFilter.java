@@ -0,0 +1,201 @@
+package com.fiap.techchallenge.infrastructure.compression;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+
+/**
+ * Compressão gzip das respostas JSON (cardápio, lista de pedidos).
+ * <p>
+ * Substitui o <code>server.compression</code> do Tomcat para poder reaproveitar
+ * os Deflaters ({@link DeflaterPool}) e só comprimir a partir de
+ * <code>minResponseSize</code> bytes: abaixo disso o gzip custa CPU e ainda
+ * aumenta o payload. Funciona igual em HTTP/1.1 e HTTP/2.
+ * </p>
+ */
+public class GzipResponseFilter implements Filter {
+
+    private final DeflaterPool deflaterPool;
+    private final int minResponseSize;
+
+    public GzipResponseFilter(DeflaterPool deflaterPool, int minResponseSize) {
+        this.deflaterPool = deflaterPool;
+        this.minResponseSize = minResponseSize;
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+
+        if ("HEAD".equals(httpRequest.getMethod())) {
+            chain.doFilter(request, response);
+            return;
+        }
+        httpResponse.addHeader("Vary", "Accept-Encoding");
+        if (!acceptsGzip(httpRequest.getHeader("Accept-Encoding"))) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        GzipResponse gzipResponse = new GzipResponse(httpResponse);
+        try {
+            chain.doFilter(request, gzipResponse);
+            gzipResponse.finish();
+        } finally {
+            gzipResponse.releaseDeflater();
+        }
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    static boolean isCompressible(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        String type = contentType.toLowerCase();
+        return type.startsWith("application/json") || type.contains("+json")
+                || type.startsWith("text/") || type.startsWith("application/xml")
+                || type.startsWith("application/javascript");
+    }
+
+    /**
+     * O tamanho final só é conhecido depois da compressão: o Content-Length da
+     * aplicação é descartado e o {@link GzipResponseStream} define o dele.
+     */
+    private final class GzipResponse extends HttpServletResponseWrapper {
+
+        private GzipResponseStream stream;
+        private PrintWriter writer;
+
+        private GzipResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (writer != null) {
+                throw new IllegalStateException("getWriter() has already been called");
+            }
+            return stream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                if (stream != null) {
+                    throw new IllegalStateException("getOutputStream() has already been called");
+                }
+                writer = new PrintWriter(new OutputStreamWriter(stream(), getCharacterEncoding()));
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            } else if (stream != null) {
+                stream.flush();
+            }
+        }
+
+        @Override
+        public void setContentLength(int len) {
+        }
+
+        @Override
+        public void setContentLengthLong(long len) {
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+            if (!"Content-Length".equalsIgnoreCase(name)) {
+                super.setHeader(name, value);
+            }
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+            if (!"Content-Length".equalsIgnoreCase(name)) {
+                super.addHeader(name, value);
+            }
+        }
+
+        @Override
+        public void setIntHeader(String name, int value) {
+            if (!"Content-Length".equalsIgnoreCase(name)) {
+                super.setIntHeader(name, value);
+            }
+        }
+
+        @Override
+        public void addIntHeader(String name, int value) {
+            if (!"Content-Length".equalsIgnoreCase(name)) {
+                super.addIntHeader(name, value);
+            }
+        }
+
+        @Override
+        public void resetBuffer() {
+            if (stream != null) {
+                stream.resetBuffer();
+            }
+            super.resetBuffer();
+        }
+
+        @Override
+        public void reset() {
+            if (stream != null) {
+                stream.resetBuffer();
+            }
+            super.reset();
+        }
+
+        private GzipResponseStream stream() throws IOException {
+            if (stream == null) {
+                stream = new GzipResponseStream(super.getOutputStream(),
+                        (HttpServletResponse) getResponse(), deflaterPool, minResponseSize);
+            }
+            return stream;
+        }
+
+        private void finish() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            if (stream != null) {
+                stream.finish();
+            }
+        }
+
+        private void releaseDeflater() {
+            if (stream != null) {
+                stream.releaseDeflater();
+            }
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.fiap.techchallenge.infrastructure.compression;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Corpo da resposta com gzip decidido no primeiro <code>minSize</code> bytes.
+ * <p>
+ * Até lá tudo fica num buffer: se a resposta termina antes (ou o conteúdo não é
+ * texto/JSON), sai sem compressão e com <code>Content-Length</code>; se passa do
+ * limite, o cabeçalho gzip é escrito e o restante vai direto para o Deflater do
+ * pool, sem acumular a resposta inteira em memória.
+ * </p>
+ */
+public class GzipResponseStream extends ServletOutputStream {
+
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0};
+    private static final int OUTPUT_CHUNK = 8192;
+
+    private enum Mode { UNDECIDED, PLAIN, GZIP }
+
+    private final ServletOutputStream target;
+    private final HttpServletResponse response;
+    private final DeflaterPool deflaterPool;
+    private final byte[] pending;
+    private int pendingCount;
+    private Mode mode = Mode.UNDECIDED;
+
+    private Deflater deflater;
+    private byte[] output;
+    private final CRC32 crc = new CRC32();
+    private long uncompressedBytes;
+
+    public GzipResponseStream(ServletOutputStream target, HttpServletResponse response,
+                              DeflaterPool deflaterPool, int minSize) {
+        this.target = target;
+        this.response = response;
+        this.deflaterPool = deflaterPool;
+        this.pending = new byte[minSize];
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        switch (mode) {
+            case PLAIN -> target.write(b, off, len);
+            case GZIP -> deflate(b, off, len);
+            default -> {
+                if (pendingCount + len <= pending.length) {
+                    System.arraycopy(b, off, pending, pendingCount, len);
+                    pendingCount += len;
+                    return;
+                }
+                if (response.getHeader("Content-Encoding") == null
+                        && GzipResponseFilter.isCompressible(response.getContentType())) {
+                    startGzip();
+                    deflate(pending, 0, pendingCount);
+                    deflate(b, off, len);
+                } else {
+                    mode = Mode.PLAIN;
+                    target.write(pending, 0, pendingCount);
+                    target.write(b, off, len);
+                }
+            }
+        }
+    }
+
+    /**
+     * Só repassa o flush depois da decisão: o flush do Spring ao fim de cada
+     * conversão não pode forçar o envio sem compressão de uma resposta pequena.
+     */
+    @Override
+    public void flush() throws IOException {
+        if (mode == Mode.PLAIN) {
+            target.flush();
+        }
+    }
+
+    /**
+     * Encerra a resposta: corpo pendente sai sem compressão; no modo gzip, finaliza
+     * o stream (trailer com CRC e tamanho) e devolve o Deflater ao pool.
+     */
+    public void finish() throws IOException {
+        if (mode == Mode.UNDECIDED) {
+            mode = Mode.PLAIN;
+            if (!response.isCommitted()) {
+                response.setContentLength(pendingCount);
+            }
+            target.write(pending, 0, pendingCount);
+        } else if (mode == Mode.GZIP && deflater != null) {
+            deflater.finish();
+            while (!deflater.finished()) {
+                int written = deflater.deflate(output, 0, output.length);
+                target.write(output, 0, written);
+            }
+            writeTrailer();
+            releaseDeflater();
+        }
+    }
+
+    /**
+     * Devolve o Deflater mesmo se a requisição falhou no meio da resposta.
+     */
+    public void releaseDeflater() {
+        if (deflater != null) {
+            deflaterPool.release(deflater);
+            deflater = null;
+        }
+    }
+
+    /**
+     * Descarta o corpo ainda não enviado (ex.: página de erro depois de um write parcial).
+     */
+    public void resetBuffer() {
+        if (mode == Mode.GZIP) {
+            throw new IllegalStateException("Response body has already been compressed");
+        }
+        pendingCount = 0;
+    }
+
+    public boolean isCompressed() {
+        return mode == Mode.GZIP;
+    }
+
+    private void startGzip() throws IOException {
+        mode = Mode.GZIP;
+        response.setHeader("Content-Encoding", "gzip");
+        // Os bytes comprimidos são outra representação: ETag forte vira fraca (If-None-Match compara fraco)
+        String eTag = response.getHeader("ETag");
+        if (eTag != null && !eTag.startsWith("W/")) {
+            response.setHeader("ETag", "W/" + eTag);
+        }
+        deflater = deflaterPool.borrow();
+        output = new byte[OUTPUT_CHUNK];
+        target.write(GZIP_HEADER);
+    }
+
+    private void deflate(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return;
+        }
+        crc.update(b, off, len);
+        uncompressedBytes += len;
+        deflater.setInput(b, off, len);
+        while (!deflater.needsInput()) {
+            int written = deflater.deflate(output, 0, output.length);
+            if (written > 0) {
+                target.write(output, 0, written);
+            }
+        }
+    }
+
+    private void writeTrailer() throws IOException {
+        byte[] trailer = new byte[8];
+        writeIntLittleEndian(trailer, 0, (int) crc.getValue());
+        writeIntLittleEndian(trailer, 4, (int) uncompressedBytes);
+        target.write(trailer);
+    }
+
+    private static void writeIntLittleEndian(byte[] buffer, int offset, int value) {
+        buffer[offset] = (byte) value;
+        buffer[offset + 1] = (byte) (value >>> 8);
+        buffer[offset + 2] = (byte) (value >>> 16);
+        buffer[offset + 3] = (byte) (value >>> 24);
+    }
+
+    @Override
+    public boolean isReady() {
+        return target.isReady();
+    }
+
+    @Override
+    public void setWriteListener(WriteListener writeListener) {
+        target.setWriteListener(writeListener);
+    }
+}
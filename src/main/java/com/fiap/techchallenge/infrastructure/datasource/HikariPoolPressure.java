@@ -0,0 +1,32 @@
+package com.fiap.techchallenge.infrastructure.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Sinal de pressão nos pools: há threads esperando conexão em algum deles.
+ * É o primeiro sintoma antes do esgotamento (connection-timeout).
+ */
+public class HikariPoolPressure implements BooleanSupplier {
+
+    private final List<HikariDataSource> pools;
+
+    public HikariPoolPressure(List<HikariDataSource> pools) {
+        this.pools = pools;
+    }
+
+    @Override
+    public boolean getAsBoolean() {
+        for (HikariDataSource pool : pools) {
+            HikariPoolMXBean bean = pool.getHikariPoolMXBean();
+            // null até o pool abrir a primeira conexão
+            if (bean != null && bean.getThreadsAwaitingConnection() > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,46 @@
+package com.fiap.techchallenge.infrastructure.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Escolhe o pool pela transação corrente: <code>@Transactional(readOnly = true)</code>
+ * vai para a réplica, o resto para o primário.
+ * <p>
+ * Precisa ficar atrás de um {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}:
+ * a conexão só é pedida no primeiro statement, quando a flag de read-only da
+ * transação já está definida.
+ * </p>
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    public ReadReplicaRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return currentRoute();
+    }
+
+    static Route currentRoute() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return ReadYourWritesContext.isPinnedToPrimary() ? Route.PRIMARY : Route.REPLICA;
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            // Transação de escrita: o restante da requisição lê do primário
+            ReadYourWritesContext.markWrite();
+        }
+        return Route.PRIMARY;
+    }
+}
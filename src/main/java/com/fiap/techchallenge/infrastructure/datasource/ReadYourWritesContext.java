@@ -0,0 +1,56 @@
+package com.fiap.techchallenge.infrastructure.datasource;
+
+/**
+ * Estado de read-your-writes da requisição HTTP corrente.
+ * <p>
+ * Depois que a requisição abre uma transação de escrita, as leituras
+ * seguintes dela também vão para o primário — a réplica pode ainda não ter
+ * recebido o que acabou de ser gravado. Fora de uma requisição (jobs
+ * agendados) não há contexto e nada fica fixado.
+ * </p>
+ */
+public final class ReadYourWritesContext {
+
+    private static final ThreadLocal<State> CURRENT = new ThreadLocal<>();
+
+    private ReadYourWritesContext() {
+    }
+
+    /**
+     * Abre o contexto da requisição.
+     *
+     * @param pinnedToPrimary true quando o cliente escreveu há pouco (janela do cookie)
+     */
+    public static void begin(boolean pinnedToPrimary) {
+        State state = new State();
+        state.pinned = pinnedToPrimary;
+        CURRENT.set(state);
+    }
+
+    public static void markWrite() {
+        State state = CURRENT.get();
+        if (state != null) {
+            state.wrote = true;
+            state.pinned = true;
+        }
+    }
+
+    public static boolean isPinnedToPrimary() {
+        State state = CURRENT.get();
+        return state != null && state.pinned;
+    }
+
+    public static boolean hasWritten() {
+        State state = CURRENT.get();
+        return state != null && state.wrote;
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    private static final class State {
+        private boolean pinned;
+        private boolean wrote;
+    }
+}
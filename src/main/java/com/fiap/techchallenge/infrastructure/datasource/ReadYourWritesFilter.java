@@ -0,0 +1,115 @@
+package com.fiap.techchallenge.infrastructure.datasource;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Abre o {@link ReadYourWritesContext} de cada requisição.
+ * <p>
+ * Quando a requisição escreve, a resposta leva um cookie curto que mantém as
+ * leituras do mesmo cliente no primário durante a janela configurada — cobre o
+ * GET do pedido logo depois do POST enquanto a réplica ainda está atrasada.
+ * </p>
+ */
+public class ReadYourWritesFilter implements Filter {
+
+    static final String COOKIE_NAME = "primary-until";
+
+    private final long stickyWindowMillis;
+
+    public ReadYourWritesFilter(long stickyWindowMillis) {
+        this.stickyWindowMillis = stickyWindowMillis;
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+
+        ReadYourWritesContext.begin(pinnedUntil(httpRequest) > System.currentTimeMillis());
+        try {
+            chain.doFilter(request, new StickyResponse(httpResponse));
+        } finally {
+            ReadYourWritesContext.clear();
+        }
+    }
+
+    private long pinnedUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * O cookie precisa sair antes do commit da resposta, então é anexado no
+     * primeiro acesso ao corpo/status final em vez de no fim do filtro.
+     */
+    private final class StickyResponse extends HttpServletResponseWrapper {
+
+        private boolean cookieAdded;
+
+        private StickyResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        private void addCookieIfWritten() {
+            if (cookieAdded || !ReadYourWritesContext.hasWritten()) {
+                return;
+            }
+            cookieAdded = true;
+            Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(System.currentTimeMillis() + stickyWindowMillis));
+            cookie.setMaxAge((int) Math.max(1, (stickyWindowMillis + 999) / 1000));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            addCookie(cookie);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            addCookieIfWritten();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            addCookieIfWritten();
+            return super.getWriter();
+        }
+
+        @Override
+        public void setStatus(int sc) {
+            addCookieIfWritten();
+            super.setStatus(sc);
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addCookieIfWritten();
+            super.flushBuffer();
+        }
+    }
+}
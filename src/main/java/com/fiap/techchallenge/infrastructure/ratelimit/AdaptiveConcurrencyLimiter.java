@@ -0,0 +1,116 @@
+package com.fiap.techchallenge.infrastructure.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Limite de requisições simultâneas ajustado por AIMD.
+ * <p>
+ * Cada resposta rápida soma <code>1/limite</code> (cresce ~1 por "janela" cheia);
+ * uma resposta acima da latência alvo, ou com threads esperando conexão no pool,
+ * multiplica o limite por {@value #BACKOFF_RATIO}. Assim o limite acompanha o que
+ * o banco aguenta e a fila se forma aqui, com 503 imediato, e não no Hikari.
+ * </p>
+ * <p>
+ * Rotas cuja latência não mede a capacidade local (chamada ao Mercado Pago, espera
+ * pela chave de idempotência, importação em lote) liberam por
+ * {@link #releaseUnmeasured()}: só a pressão no pool reduz o limite, e elas não o
+ * aumentam.
+ * </p>
+ * <p>
+ * Prioridades usam frações do limite: {@link Priority#CRITICAL} (webhook,
+ * status de pedido) pode ocupá-lo inteiro, {@link Priority#LOW} (catálogo) só
+ * uma parte — e é a primeira a ser cortada quando o pool está sob pressão.
+ * </p>
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    public enum Priority {
+        CRITICAL(1.0),
+        NORMAL(0.8),
+        LOW(0.5);
+
+        private final double share;
+
+        Priority(double share) {
+            this.share = share;
+        }
+    }
+
+    static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyTargetNanos;
+    private final BooleanSupplier poolUnderPressure;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    // double guardado como bits para atualizar por CAS
+    private final AtomicLong limitBits;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, long latencyTargetMillis,
+                                      BooleanSupplier poolUnderPressure) {
+        if (minLimit <= 0 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Invalid concurrency limits: min=" + minLimit + ", max=" + maxLimit);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyTargetNanos = TimeUnit.MILLISECONDS.toNanos(latencyTargetMillis);
+        this.poolUnderPressure = poolUnderPressure;
+        this.limitBits = new AtomicLong(Double.doubleToLongBits(
+                Math.max(minLimit, Math.min(maxLimit, initialLimit))));
+    }
+
+    /**
+     * @return true se a requisição pode seguir; nesse caso {@link #release} é obrigatório
+     */
+    public boolean tryAcquire(Priority priority) {
+        if (priority == Priority.LOW && poolUnderPressure.getAsBoolean()) {
+            return false;
+        }
+        int allowed = Math.max(1, (int) (getLimit() * priority.share));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(long latencyNanos) {
+        inFlight.decrementAndGet();
+        adjust(latencyNanos > latencyTargetNanos || poolUnderPressure.getAsBoolean());
+    }
+
+    public void releaseUnmeasured() {
+        inFlight.decrementAndGet();
+        if (poolUnderPressure.getAsBoolean()) {
+            adjust(true);
+        }
+    }
+
+    private void adjust(boolean overloaded) {
+        while (true) {
+            long bits = limitBits.get();
+            double limit = Double.longBitsToDouble(bits);
+            double next = overloaded
+                    ? Math.max(minLimit, limit * BACKOFF_RATIO)
+                    : Math.min(maxLimit, limit + 1.0 / limit);
+            if (next == limit || limitBits.compareAndSet(bits, Double.doubleToLongBits(next))) {
+                return;
+            }
+        }
+    }
+
+    public double getLimit() {
+        return Double.longBitsToDouble(limitBits.get());
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
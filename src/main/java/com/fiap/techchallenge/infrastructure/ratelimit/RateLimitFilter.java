@@ -0,0 +1,205 @@
+package com.fiap.techchallenge.infrastructure.ratelimit;
+
+import com.fiap.techchallenge.infrastructure.ratelimit.AdaptiveConcurrencyLimiter.Priority;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Proteção na borda HTTP, antes de qualquer caso de uso:
+ * <ol>
+ *   <li>rate limit por IP do cliente e, no webhook, por endpoint — 429 com
+ *       <code>Retry-After</code>;</li>
+ *   <li>limite adaptativo de concorrência com prioridade — 503 com <code>Retry-After</code>
+ *       antes que o pool de conexões sature.</li>
+ * </ol>
+ * Health check e métricas ficam de fora para o Kubernetes e o Prometheus
+ * continuarem enxergando a aplicação sob carga.
+ * <p>
+ * O filtro roda antes da autenticação, então a chave não pode vir de header que o
+ * cliente escolhe: é o primeiro endereço não confiável percorrendo
+ * <code>X-Forwarded-For</code> da direita para a esquerda, a partir do
+ * <code>remoteAddr</code>. Só os proxies listados em <code>trustedProxies</code>
+ * podem informar o IP de quem veio antes deles.
+ * </p>
+ */
+public class RateLimitFilter implements Filter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    private static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+    private static final long OVERLOAD_RETRY_AFTER_SECONDS = 1;
+
+    private final TokenBucketRateLimiter clientLimiter;
+    private final TokenBucketRateLimiter orderCreationLimiter;
+    private final TokenBucketRateLimiter webhookLimiter;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final List<IpAddressMatcher> trustedProxies;
+    private final MeterRegistry meterRegistry;
+
+    public RateLimitFilter(TokenBucketRateLimiter clientLimiter,
+                           TokenBucketRateLimiter orderCreationLimiter,
+                           TokenBucketRateLimiter webhookLimiter,
+                           AdaptiveConcurrencyLimiter concurrencyLimiter,
+                           List<String> trustedProxies,
+                           MeterRegistry meterRegistry) {
+        this.clientLimiter = clientLimiter;
+        this.orderCreationLimiter = orderCreationLimiter;
+        this.webhookLimiter = webhookLimiter;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.trustedProxies = trustedProxies.stream().map(String::trim).filter(proxy -> !proxy.isEmpty())
+                .map(IpAddressMatcher::new).toList();
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+
+        String method = httpRequest.getMethod();
+        String path = httpRequest.getRequestURI().substring(httpRequest.getContextPath().length());
+        if (isExempt(path)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        Priority priority = classify(method, path);
+        long waitNanos = rateLimit(method, path, httpRequest);
+        if (waitNanos > 0) {
+            reject(httpResponse, 429, "Too many requests", retryAfterSeconds(waitNanos), "rate_limit", priority);
+            return;
+        }
+
+        if (!concurrencyLimiter.tryAcquire(priority)) {
+            reject(httpResponse, 503, "Service overloaded, try again later", OVERLOAD_RETRY_AFTER_SECONDS,
+                    "overload", priority);
+            return;
+        }
+        boolean measured = measuresLatency(method, path);
+        long startTime = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (measured) {
+                concurrencyLimiter.release(System.nanoTime() - startTime);
+            } else {
+                concurrencyLimiter.releaseUnmeasured();
+            }
+        }
+    }
+
+    static boolean isExempt(String path) {
+        return path.startsWith("/health") || path.startsWith("/prometheus") || path.startsWith("/metrics")
+                || path.startsWith("/actuator");
+    }
+
+    /**
+     * Webhook e mudanças de status de pedido mantêm a cozinha e o pagamento andando;
+     * navegação no catálogo é a primeira a ceder.
+     */
+    static Priority classify(String method, String path) {
+        if (path.startsWith("/webhook")) {
+            return Priority.CRITICAL;
+        }
+        if (path.startsWith("/orders") && path.contains("status")) {
+            return Priority.CRITICAL;
+        }
+        if ("GET".equals(method) && (path.startsWith("/products") || path.startsWith("/categories"))) {
+            return Priority.LOW;
+        }
+        return Priority.NORMAL;
+    }
+
+    /**
+     * Criação de pedido (Mercado Pago e lease de idempotência), pagamento e importação
+     * do catálogo são lentas por natureza: a latência delas não entra no ajuste do limite.
+     */
+    static boolean measuresLatency(String method, String path) {
+        if (path.startsWith("/catalog") || path.startsWith("/payment")) {
+            return false;
+        }
+        return !("POST".equals(method) && path.equals("/orders"));
+    }
+
+    private long rateLimit(String method, String path, HttpServletRequest request) {
+        // O Mercado Pago chama de vários IPs: o webhook tem um bucket único por endpoint
+        if (path.startsWith("/webhook")) {
+            return webhookLimiter.tryAcquire(path);
+        }
+        String client = clientKey(request);
+        if ("POST".equals(method) && path.equals("/orders")) {
+            long wait = orderCreationLimiter.tryAcquire(client);
+            if (wait > 0) {
+                return wait;
+            }
+        }
+        return clientLimiter.tryAcquire(client);
+    }
+
+    String clientKey(HttpServletRequest request) {
+        String client = request.getRemoteAddr();
+        String forwardedFor = request.getHeader(FORWARDED_FOR_HEADER);
+        if (forwardedFor != null && isTrustedProxy(client)) {
+            // Cada proxy acrescenta à direita quem falou com ele; à esquerda do primeiro não confiável tudo é forjável
+            String[] hops = forwardedFor.split(",");
+            for (int i = hops.length - 1; i >= 0; i--) {
+                String hop = hops[i].trim();
+                if (hop.isEmpty()) {
+                    continue;
+                }
+                client = hop;
+                if (!isTrustedProxy(hop)) {
+                    break;
+                }
+            }
+        }
+        return "ip:" + client;
+    }
+
+    private boolean isTrustedProxy(String address) {
+        for (IpAddressMatcher proxy : trustedProxies) {
+            try {
+                if (proxy.matches(address)) {
+                    return true;
+                }
+            } catch (IllegalArgumentException e) {
+                // Hop que não é IP (ex.: "unknown"): nunca é proxy confiável
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private static long retryAfterSeconds(long waitNanos) {
+        return Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    private void reject(HttpServletResponse response, int status, String message, long retryAfterSeconds,
+                        String reason, Priority priority) throws IOException {
+        meterRegistry.counter("http.server.requests.rejected",
+                "reason", reason, "priority", priority.name()).increment();
+        logger.debug("HTTP request rejected: reason={}, priority={}, status={}", reason, priority, status);
+
+        response.setStatus(status);
+        response.setHeader("Retry-After", Long.toString(retryAfterSeconds));
+        response.setContentType("application/json");
+        response.getWriter().write(String.format(
+                "{\"timestamp\":\"%s\",\"status\":%d,\"error\":\"%s\"}", LocalDateTime.now(), status, message));
+    }
+}
@@ -0,0 +1,72 @@
+package com.fiap.techchallenge.infrastructure.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket por chave (cliente, IP ou endpoint), sem locks.
+ * <p>
+ * Implementado como GCRA: cada bucket guarda só o "instante teórico de chegada"
+ * (TAT) num {@link AtomicLongArray} e é atualizado por CAS — equivalente a um
+ * bucket de <code>burst</code> tokens reabastecido a <code>ratePerSecond</code>.
+ * As chaves são espalhadas num número fixo de stripes, então a memória não cresce
+ * com a quantidade de IPs; duas chaves no mesmo stripe dividem o bucket, o que com
+ * 64k stripes é raro e só deixa o limite mais conservador.
+ * </p>
+ */
+public class TokenBucketRateLimiter {
+
+    private final AtomicLongArray theoreticalArrival;
+    private final int stripeMask;
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final LongSupplier clock;
+
+    public TokenBucketRateLimiter(double ratePerSecond, int burst, int stripes) {
+        this(ratePerSecond, burst, stripes, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(double ratePerSecond, int burst, int stripes, LongSupplier clock) {
+        if (ratePerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("Rate and burst must be greater than zero");
+        }
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.theoreticalArrival = new AtomicLongArray(size);
+        this.stripeMask = size - 1;
+        this.emissionIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * (burst - 1);
+        this.clock = clock;
+        long now = clock.getAsLong();
+        for (int i = 0; i < size; i++) {
+            theoreticalArrival.set(i, now);
+        }
+    }
+
+    /**
+     * Consome um token da chave.
+     *
+     * @return 0 se liberado; senão, quantos nanossegundos esperar até haver token
+     */
+    public long tryAcquire(String key) {
+        int stripe = spread(key.hashCode()) & stripeMask;
+        while (true) {
+            long now = clock.getAsLong();
+            long tat = theoreticalArrival.get(stripe);
+            long start = tat - now > 0 ? tat : now;
+            long newTat = start + emissionIntervalNanos;
+            long wait = newTat - now - burstToleranceNanos - emissionIntervalNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(stripe, tat, newTat)) {
+                return 0;
+            }
+        }
+    }
+
+    private static int spread(int hash) {
+        // Mesma mistura do HashMap: chaves parecidas (IPs vizinhos) caem em stripes diferentes
+        return hash ^ (hash >>> 16);
+    }
+}
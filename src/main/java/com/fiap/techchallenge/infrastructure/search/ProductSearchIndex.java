@@ -0,0 +1,400 @@
+package com.fiap.techchallenge.infrastructure.search;
+
+import com.fiap.techchallenge.domain.entities.Product;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Índice invertido em memória sobre nome e descrição dos produtos.
+ * <p>
+ * Os termos são normalizados (minúsculas, sem acentos) e guardados num
+ * {@link TreeMap}, então a busca por prefixo é um {@code subMap} — atende o
+ * type-ahead do totem sem ir ao PostgreSQL. Cada termo da consulta é tratado
+ * como prefixo e todos precisam casar (AND).
+ * </p>
+ * <p>
+ * Ranking: termo exato no nome &gt; prefixo no nome &gt; termo exato na
+ * descrição &gt; prefixo na descrição, com bônus quando o nome começa pela
+ * consulta inteira. Empates são desfeitos pelo nome.
+ * </p>
+ * <p>
+ * Escritas feitas dentro de uma transação ({@link #put}, {@link #remove},
+ * {@link #invalidate}) só chegam ao índice depois do commit: um rollback não
+ * deixa no índice produto que não foi gravado nem esconde um que não foi apagado.
+ * </p>
+ */
+public class ProductSearchIndex {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final int NAME_EXACT = 8;
+    private static final int NAME_PREFIX = 4;
+    private static final int DESCRIPTION_EXACT = 2;
+    private static final int DESCRIPTION_PREFIX = 1;
+    private static final int NAME_STARTS_WITH_QUERY = 16;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // Só uma carga do banco por vez; não bloqueia buscas nem escritas no índice
+    private final Lock loadLock = new ReentrantLock();
+    private Terms terms = new Terms();
+    // Escritas recebidas durante uma carga, reaplicadas sobre ela antes da troca (vazio = removido)
+    private Map<UUID, Optional<Product>> pendingChanges;
+    private volatile boolean loaded;
+    private volatile boolean stale;
+
+    /**
+     * Carregado e sem invalidação pendente.
+     */
+    public boolean isLoaded() {
+        return loaded && !stale;
+    }
+
+    /**
+     * Carrega o índice na primeira consulta. Só um thread executa o loader;
+     * os demais esperam e reaproveitam o resultado. Depois de {@link #invalidate()}
+     * as buscas seguem no conteúdo anterior enquanto um único thread recarrega.
+     */
+    public void loadIfNecessary(Supplier<? extends Collection<Product>> loader) {
+        if (isLoaded()) {
+            return;
+        }
+        if (loaded) {
+            if (loadLock.tryLock()) {
+                try {
+                    if (stale) {
+                        load(loader);
+                    }
+                } finally {
+                    loadLock.unlock();
+                }
+            }
+            return;
+        }
+        loadLock.lock();
+        try {
+            if (!isLoaded()) {
+                load(loader);
+            }
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * Reconstrói o índice inteiro (usado pelo refresh periódico, que pega
+     * alterações feitas por outras instâncias). O banco é lido fora do lock e
+     * as escritas recebidas nesse meio tempo são reaplicadas antes da troca.
+     */
+    public void rebuild(Supplier<? extends Collection<Product>> loader) {
+        loadLock.lock();
+        try {
+            load(loader);
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * Marca o conteúdo como desatualizado; a próxima consulta recarrega do banco.
+     */
+    public void invalidate() {
+        afterCommit(() -> stale = true);
+    }
+
+    /**
+     * Inclui ou atualiza um produto. Enquanto o índice não foi carregado não
+     * há o que atualizar — a carga preguiçosa já lerá a versão do banco.
+     */
+    public void put(Product product) {
+        if (product == null || product.getId() == null) {
+            return;
+        }
+        afterCommit(() -> apply(product));
+    }
+
+    public void remove(UUID productId) {
+        afterCommit(() -> applyRemoval(productId));
+    }
+
+    private void apply(Product product) {
+        lock.writeLock().lock();
+        try {
+            if (pendingChanges != null) {
+                pendingChanges.put(product.getId(), Optional.of(product));
+            }
+            if (loaded) {
+                terms.unindex(product.getId());
+                terms.index(product);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void applyRemoval(UUID productId) {
+        lock.writeLock().lock();
+        try {
+            if (pendingChanges != null) {
+                pendingChanges.put(productId, Optional.empty());
+            }
+            if (loaded) {
+                terms.unindex(productId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Product> search(String query) {
+        return search(query, Integer.MAX_VALUE);
+    }
+
+    public List<Product> search(String query, int limit) {
+        List<String> queryTerms = tokenize(query);
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+        String normalizedQuery = String.join(" ", queryTerms);
+
+        lock.readLock().lock();
+        try {
+            Map<UUID, Integer> scores = null;
+            for (String term : queryTerms) {
+                Map<UUID, Integer> termScores = scoreTerm(term);
+                scores = scores == null ? termScores : intersect(scores, termScores);
+                if (scores.isEmpty()) {
+                    return Collections.emptyList();
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(scores.size());
+            for (Map.Entry<UUID, Integer> entry : scores.entrySet()) {
+                IndexedProduct indexed = terms.products.get(entry.getKey());
+                int score = entry.getValue();
+                if (indexed.normalizedName.startsWith(normalizedQuery)) {
+                    score += NAME_STARTS_WITH_QUERY;
+                }
+                hits.add(new Hit(indexed, score));
+            }
+            hits.sort(Comparator.comparingInt(Hit::score).reversed()
+                    .thenComparing(hit -> hit.product().normalizedName));
+
+            List<Product> result = new ArrayList<>(Math.min(limit, hits.size()));
+            for (Hit hit : hits) {
+                if (result.size() == limit) {
+                    break;
+                }
+                result.add(hit.product().product);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return terms.products.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Minúsculas, sem acentos ("Pão de Açúcar" → "pao de acucar").
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase();
+    }
+
+    static List<String> tokenize(String text) {
+        String normalized = normalize(text).trim();
+        if (normalized.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Set<String> terms = new LinkedHashSet<>();
+        for (String term : SEPARATORS.split(normalized)) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return new ArrayList<>(terms);
+    }
+
+    private Map<UUID, Integer> scoreTerm(String term) {
+        Map<UUID, Integer> scores = new HashMap<>();
+        collect(scores, terms.descriptionTerms, term, DESCRIPTION_EXACT, DESCRIPTION_PREFIX);
+        collect(scores, terms.nameTerms, term, NAME_EXACT, NAME_PREFIX);
+        return scores;
+    }
+
+    private static void collect(Map<UUID, Integer> scores, TreeMap<String, Set<UUID>> terms,
+                                String prefix, int exactScore, int prefixScore) {
+        SortedMap<String, Set<UUID>> matches = terms.subMap(prefix, prefix + Character.MAX_VALUE);
+        for (Map.Entry<String, Set<UUID>> entry : matches.entrySet()) {
+            int score = entry.getKey().length() == prefix.length() ? exactScore : prefixScore;
+            for (UUID id : entry.getValue()) {
+                scores.merge(id, score, Math::max);
+            }
+        }
+    }
+
+    private static Map<UUID, Integer> intersect(Map<UUID, Integer> left, Map<UUID, Integer> right) {
+        Map<UUID, Integer> result = new HashMap<>();
+        for (Map.Entry<UUID, Integer> entry : left.entrySet()) {
+            Integer other = right.get(entry.getKey());
+            if (other != null) {
+                result.put(entry.getKey(), entry.getValue() + other);
+            }
+        }
+        return result;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // Chamado com loadLock
+    private void load(Supplier<? extends Collection<Product>> loader) {
+        lock.writeLock().lock();
+        try {
+            pendingChanges = new LinkedHashMap<>();
+            // Uma invalidação durante a leitura vale para a próxima consulta
+            stale = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Terms fresh = new Terms();
+        try {
+            Collection<Product> allProducts = loader.get();
+            if (allProducts != null) {
+                for (Product product : allProducts) {
+                    if (product != null && product.getId() != null) {
+                        fresh.index(product);
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingChanges = null;
+                stale = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (Map.Entry<UUID, Optional<Product>> change : pendingChanges.entrySet()) {
+                fresh.unindex(change.getKey());
+                change.getValue().ifPresent(fresh::index);
+            }
+            terms = fresh;
+            pendingChanges = null;
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void addPostings(TreeMap<String, Set<UUID>> terms, Set<String> tokens, UUID id) {
+        for (String token : tokens) {
+            terms.computeIfAbsent(token, key -> new HashSet<>()).add(id);
+        }
+    }
+
+    private static void removePostings(TreeMap<String, Set<UUID>> terms, Set<String> tokens, UUID id) {
+        for (String token : tokens) {
+            Set<UUID> ids = terms.get(token);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    terms.remove(token);
+                }
+            }
+        }
+    }
+
+    private static final class Terms {
+        private final Map<UUID, IndexedProduct> products = new HashMap<>();
+        private final TreeMap<String, Set<UUID>> nameTerms = new TreeMap<>();
+        private final TreeMap<String, Set<UUID>> descriptionTerms = new TreeMap<>();
+
+        private void index(Product product) {
+            List<String> nameTokens = tokenize(product.getName());
+            Set<String> names = new HashSet<>(nameTokens);
+            Set<String> descriptions = new HashSet<>(tokenize(product.getDescription()));
+            products.put(product.getId(),
+                    new IndexedProduct(product, String.join(" ", nameTokens), names, descriptions));
+            addPostings(nameTerms, names, product.getId());
+            addPostings(descriptionTerms, descriptions, product.getId());
+        }
+
+        private void unindex(UUID productId) {
+            IndexedProduct previous = products.remove(productId);
+            if (previous != null) {
+                removePostings(nameTerms, previous.nameTerms, productId);
+                removePostings(descriptionTerms, previous.descriptionTerms, productId);
+            }
+        }
+    }
+
+    private static final class IndexedProduct {
+        private final Product product;
+        private final String normalizedName;
+        private final Set<String> nameTerms;
+        private final Set<String> descriptionTerms;
+
+        private IndexedProduct(Product product, String normalizedName,
+                               Set<String> nameTerms, Set<String> descriptionTerms) {
+            this.product = product;
+            this.normalizedName = normalizedName;
+            this.nameTerms = nameTerms;
+            this.descriptionTerms = descriptionTerms;
+        }
+    }
+
+    private record Hit(IndexedProduct product, int score) {
+    }
+}
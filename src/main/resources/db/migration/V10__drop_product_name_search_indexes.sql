@@ -0,0 +1,4 @@
+-- A busca por nome saiu do banco (índice em memória, ProductSearchIndex): nenhuma consulta
+-- filtra mais por upper(name), e os índices da V3 só custavam em cada escrita de produto.
+DROP INDEX IF EXISTS idx_products_name_trgm;
+DROP INDEX IF EXISTS idx_products_name_upper;
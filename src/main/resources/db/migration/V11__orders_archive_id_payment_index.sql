@@ -0,0 +1,2 @@
+-- Webhook de pagamento de pedido já arquivado: busca por id_payment sem varrer as partições inteiras
+CREATE INDEX IF NOT EXISTS idx_orders_archive_id_payment ON orders_archive (id_payment);
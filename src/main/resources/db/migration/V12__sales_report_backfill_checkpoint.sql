@@ -0,0 +1,6 @@
+-- Carga do histórico dos relatórios em blocos de dias: próximo dia a recalcular (nulo = concluída).
+-- Estados gravados antes desta coluna já tinham feito a carga completa.
+ALTER TABLE report_refresh_state ADD COLUMN backfill_next_day date;
+
+-- Ponto de partida da carga: MIN(created_at) pelo índice de cada partição, sem varrer o arquivo
+CREATE INDEX IF NOT EXISTS idx_orders_archive_created_at ON orders_archive (created_at);
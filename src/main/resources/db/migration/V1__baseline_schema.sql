@@ -0,0 +1,54 @@
+-- Esquema inicial, equivalente ao que o Hibernate gerava com ddl-auto=update.
+-- Bancos já existentes recebem este script como baseline (spring.flyway.baseline-on-migrate).
+
+CREATE TABLE categories (
+    id   uuid         NOT NULL,
+    name varchar(255) NOT NULL UNIQUE,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE customers (
+    id    uuid         NOT NULL,
+    cpf   varchar(255) NOT NULL UNIQUE,
+    email varchar(255) NOT NULL,
+    name  varchar(255) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE products (
+    id          uuid          NOT NULL,
+    name        varchar(255)  NOT NULL,
+    description varchar(255),
+    price       numeric(38,2) NOT NULL,
+    category_id uuid,
+    active      boolean       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_products_category FOREIGN KEY (category_id) REFERENCES categories
+);
+
+CREATE TABLE orders (
+    id             bigint GENERATED BY DEFAULT AS IDENTITY,
+    customer_id    uuid,
+    total_amount   numeric(38,2) NOT NULL,
+    status         varchar(255)  NOT NULL
+        CHECK (status IN ('RECEIVED', 'IN_PREPARATION', 'READY', 'FINISHED')),
+    status_payment varchar(255)  NOT NULL
+        CHECK (status_payment IN ('AGUARDANDO_PAGAMENTO', 'APROVADO', 'REJEITADO')),
+    id_payment     bigint,
+    created_at     timestamp(6)  NOT NULL,
+    updated_at     timestamp(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_orders_customer FOREIGN KEY (customer_id) REFERENCES customers
+);
+
+CREATE TABLE order_items (
+    id         uuid          NOT NULL,
+    order_id   bigint,
+    product_id uuid          NOT NULL,
+    quantity   integer       NOT NULL,
+    unit_price numeric(38,2) NOT NULL,
+    sub_total  numeric(38,2) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_order_items_order FOREIGN KEY (order_id) REFERENCES orders,
+    CONSTRAINT fk_order_items_product FOREIGN KEY (product_id) REFERENCES products
+);
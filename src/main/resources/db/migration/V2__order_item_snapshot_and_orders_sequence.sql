@@ -0,0 +1,21 @@
+-- Snapshot do produto nos itens do pedido (leitura do pedido sem join com o catálogo).
+-- IF NOT EXISTS: bancos criados por ddl-auto=update podem já ter as colunas.
+ALTER TABLE order_items ADD COLUMN IF NOT EXISTS product_name  varchar(255);
+ALTER TABLE order_items ADD COLUMN IF NOT EXISTS category_id   uuid;
+ALTER TABLE order_items ADD COLUMN IF NOT EXISTS category_name varchar(255);
+
+UPDATE order_items i
+   SET product_name  = p.name,
+       category_id   = c.id,
+       category_name = c.name
+  FROM products p
+  LEFT JOIN categories c ON c.id = p.category_id
+ WHERE p.id = i.product_id
+   AND i.product_name IS NULL;
+
+-- IDs de pedidos passam a vir de uma sequência com alocação em blocos de 50 (batch de INSERT)
+CREATE SEQUENCE IF NOT EXISTS orders_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE orders_seq INCREMENT BY 50;
+SELECT setval('orders_seq', (SELECT MAX(id) FROM orders)) WHERE EXISTS (SELECT 1 FROM orders);
+
+ALTER TABLE orders ALTER COLUMN id DROP IDENTITY IF EXISTS;
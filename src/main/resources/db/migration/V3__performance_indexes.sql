@@ -0,0 +1,36 @@
+-- Índices para cada caminho de consulta dos repositórios.
+-- customers.cpf (findByCpf/existsByCpf) e categories.name (existsByName) já são cobertos pelas constraints UNIQUE.
+-- Fora de transação (V3__performance_indexes.sql.conf): em bancos que entram com baseline na V1 as tabelas já
+-- têm dados, e CONCURRENTLY constrói o índice sem bloquear as escritas. Se um build falhar, o índice fica
+-- INVALID e o IF NOT EXISTS não o refaz: remova-o (DROP INDEX CONCURRENTLY) antes de repetir a migração.
+
+-- Fila da cozinha (OrderJpaRepository.findByOptionalStatus): só pedidos não finalizados, ordenados por criação
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_orders_active_status_created_at
+    ON orders (status, created_at)
+    WHERE status <> 'FINISHED';
+
+-- Webhook de pagamento (findByIdPayment)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_orders_id_payment ON orders (id_payment);
+
+-- Carga dos itens de um pedido
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_order_items_order_id ON order_items (order_id);
+
+-- Exclusão de produto (existsByItemsProductId)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_order_items_product_id ON order_items (product_id);
+
+-- Produtos por categoria (findByCategoryId)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_category_id ON products (category_id);
+
+-- Busca por nome (findByNameContainingIgnoreCase gera "upper(name) like upper(?)").
+-- Com pg_trgm o índice GIN atende o LIKE '%x%'; sem a extensão, cai para um btree em upper(name).
+-- CONCURRENTLY não roda dentro do DO; products é o catálogo, pequeno, e o bloqueio é curto.
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_available_extensions WHERE name = 'pg_trgm') THEN
+        CREATE EXTENSION IF NOT EXISTS pg_trgm;
+        CREATE INDEX IF NOT EXISTS idx_products_name_trgm ON products USING gin (upper(name) gin_trgm_ops);
+    ELSE
+        CREATE INDEX IF NOT EXISTS idx_products_name_upper ON products (upper(name) text_pattern_ops);
+    END IF;
+END
+$$;
@@ -0,0 +1,56 @@
+-- Arquivo de pedidos finalizados, particionado por mês de criação.
+-- A tabela orders fica só com pedidos em andamento e os finalizados recentes;
+-- o job de arquivamento move o restante para cá.
+
+CREATE TABLE orders_archive (
+    id             bigint        NOT NULL,
+    customer_id    uuid,
+    total_amount   numeric(38,2) NOT NULL,
+    status         varchar(255)  NOT NULL,
+    status_payment varchar(255)  NOT NULL,
+    id_payment     bigint,
+    created_at     timestamp(6)  NOT NULL,
+    updated_at     timestamp(6)  NOT NULL,
+    archived_at    timestamp(6)  NOT NULL DEFAULT now(),
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE order_items_archive (
+    id               uuid          NOT NULL,
+    order_id         bigint        NOT NULL,
+    order_created_at timestamp(6)  NOT NULL,
+    product_id       uuid          NOT NULL,
+    product_name     varchar(255),
+    category_id      uuid,
+    category_name    varchar(255),
+    quantity         integer       NOT NULL,
+    unit_price       numeric(38,2) NOT NULL,
+    sub_total        numeric(38,2) NOT NULL,
+    PRIMARY KEY (id, order_created_at)
+) PARTITION BY RANGE (order_created_at);
+
+-- Rede de segurança: linhas de um mês sem partição própria
+CREATE TABLE orders_archive_default PARTITION OF orders_archive DEFAULT;
+CREATE TABLE order_items_archive_default PARTITION OF order_items_archive DEFAULT;
+
+-- Índices particionados (criados em cada partição)
+CREATE INDEX idx_orders_archive_id ON orders_archive (id);
+CREATE INDEX idx_order_items_archive_order_id ON order_items_archive (order_id);
+CREATE INDEX idx_order_items_archive_product_id ON order_items_archive (product_id);
+
+-- Cria as partições mensais de pedido e itens, se ainda não existirem
+CREATE OR REPLACE FUNCTION ensure_order_archive_partition(p_month date) RETURNS void AS $$
+DECLARE
+    v_from   date := date_trunc('month', p_month)::date;
+    v_to     date := (date_trunc('month', p_month) + interval '1 month')::date;
+    v_suffix text := to_char(v_from, '"y"YYYY"m"MM');
+BEGIN
+    EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF orders_archive FOR VALUES FROM (%L) TO (%L)',
+                   'orders_archive_' || v_suffix, v_from, v_to);
+    EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF order_items_archive FOR VALUES FROM (%L) TO (%L)',
+                   'order_items_archive_' || v_suffix, v_from, v_to);
+END;
+$$ LANGUAGE plpgsql;
+
+-- O job procura finalizados antigos sem varrer os pedidos em andamento
+CREATE INDEX idx_orders_finished_updated_at ON orders (updated_at) WHERE status = 'FINISHED';
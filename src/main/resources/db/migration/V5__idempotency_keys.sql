@@ -0,0 +1,13 @@
+-- Chaves de idempotência do POST /orders (header Idempotency-Key).
+-- IN_PROGRESS enquanto o pedido é criado; COMPLETED guarda o pedido para os replays.
+CREATE TABLE idempotency_keys (
+    idempotency_key varchar(255) PRIMARY KEY,
+    request_hash    varchar(64)  NOT NULL,
+    status          varchar(20)  NOT NULL,
+    order_id        bigint,
+    created_at      timestamp(6) NOT NULL,
+    updated_at      timestamp(6) NOT NULL
+);
+
+-- Limpeza periódica das chaves vencidas
+CREATE INDEX idx_idempotency_keys_updated_at ON idempotency_keys (updated_at);
@@ -0,0 +1,44 @@
+-- Relatórios de vendas pré-agregados por dia (data de criação do pedido), produto e categoria.
+-- Só pedidos com pagamento APROVADO contam como venda. O job de refresh recalcula
+-- os dias com pedidos alterados desde a última execução, lendo orders e orders_archive;
+-- os endpoints de relatório leem só estas tabelas.
+
+CREATE TABLE sales_daily (
+    day          date          NOT NULL,
+    orders_count integer       NOT NULL,
+    items_count  bigint        NOT NULL,
+    revenue      numeric(38,2) NOT NULL,
+    refreshed_at timestamp(6)  NOT NULL,
+    PRIMARY KEY (day)
+);
+
+CREATE TABLE product_sales_daily (
+    day           date          NOT NULL,
+    product_id    uuid          NOT NULL,
+    product_name  varchar(255),
+    category_id   uuid,
+    category_name varchar(255),
+    quantity      bigint        NOT NULL,
+    revenue       numeric(38,2) NOT NULL,
+    PRIMARY KEY (day, product_id)
+);
+
+-- category_id nulo (item sem categoria) vira uma linha própria: sem chave primária, o dia é a chave de acesso
+CREATE TABLE category_sales_daily (
+    day           date          NOT NULL,
+    category_id   uuid,
+    category_name varchar(255),
+    quantity      bigint        NOT NULL,
+    revenue       numeric(38,2) NOT NULL
+);
+CREATE INDEX idx_category_sales_daily_day ON category_sales_daily (day);
+
+-- Até onde (updated_at dos pedidos) cada relatório já foi recalculado
+CREATE TABLE report_refresh_state (
+    report_name     varchar(64)  PRIMARY KEY,
+    refreshed_until timestamp(6) NOT NULL
+);
+
+-- Dias alterados desde a última execução. orders guarda só pedidos em andamento e os
+-- finalizados recentes (o restante vai para orders_archive), então o índice fica pequeno
+CREATE INDEX IF NOT EXISTS idx_orders_updated_at ON orders (updated_at);
@@ -0,0 +1,6 @@
+-- Reconciliação de pagamentos: pedidos aguardando pagamento, percorridos por id.
+-- Parcial (só os pendentes com pagamento criado) e com id_payment/updated_at no índice,
+-- a busca dos pendentes antigos não toca a tabela. CONCURRENTLY e fora de transação, como a V3.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_orders_pending_payment
+    ON orders (id) INCLUDE (id_payment, updated_at)
+    WHERE status_payment = 'AGUARDANDO_PAGAMENTO' AND id_payment IS NOT NULL;
@@ -0,0 +1,33 @@
+-- Versão e data de alteração de produtos, categorias e clientes, usadas como ETag e
+-- Last-Modified nos GET por id. Quem mantém é o trigger, não a aplicação: vale para
+-- o save do JPA, o upsert em lote da importação do catálogo e SQL manual.
+-- UPDATE que não muda nada (upsert com os mesmos dados) não altera a versão.
+
+ALTER TABLE categories
+    ADD COLUMN version    bigint       NOT NULL DEFAULT 0,
+    ADD COLUMN updated_at timestamp(6) NOT NULL DEFAULT LOCALTIMESTAMP;
+
+ALTER TABLE products
+    ADD COLUMN version    bigint       NOT NULL DEFAULT 0,
+    ADD COLUMN updated_at timestamp(6) NOT NULL DEFAULT LOCALTIMESTAMP;
+
+ALTER TABLE customers
+    ADD COLUMN version    bigint       NOT NULL DEFAULT 0,
+    ADD COLUMN updated_at timestamp(6) NOT NULL DEFAULT LOCALTIMESTAMP;
+
+CREATE OR REPLACE FUNCTION bump_row_version() RETURNS trigger AS $$
+BEGIN
+    NEW.version := OLD.version + 1;
+    NEW.updated_at := LOCALTIMESTAMP;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_categories_version BEFORE UPDATE ON categories
+    FOR EACH ROW WHEN (OLD.* IS DISTINCT FROM NEW.*) EXECUTE FUNCTION bump_row_version();
+
+CREATE TRIGGER trg_products_version BEFORE UPDATE ON products
+    FOR EACH ROW WHEN (OLD.* IS DISTINCT FROM NEW.*) EXECUTE FUNCTION bump_row_version();
+
+CREATE TRIGGER trg_customers_version BEFORE UPDATE ON customers
+    FOR EACH ROW WHEN (OLD.* IS DISTINCT FROM NEW.*) EXECUTE FUNCTION bump_row_version();
@@ -0,0 +1,7 @@
+-- Lease de jobs agendados que não cabem numa transação (chamadas externas no meio):
+-- só o dono do lease executa; quem não renovar até expires_at perde a vez para outra instância.
+CREATE TABLE job_leases (
+    job_name   varchar(100) PRIMARY KEY,
+    owner      varchar(64)  NOT NULL,
+    expires_at timestamp(6) NOT NULL
+);
@@ -0,0 +1,129 @@
+package com.fiap.techchallenge.application.usecases;
+
+import com.fiap.techchallenge.application.usecases.CatalogUseCase.CatalogImportResult;
+import com.fiap.techchallenge.application.usecases.CatalogUseCase.CatalogItemRequest;
+import com.fiap.techchallenge.domain.entities.Category;
+import com.fiap.techchallenge.domain.entities.Product;
+import com.fiap.techchallenge.domain.readmodels.SavedCategories;
+import com.fiap.techchallenge.domain.repositories.CategoryRepository;
+import com.fiap.techchallenge.domain.repositories.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class CatalogUseCaseTest {
+
+    private ProductRepository productRepository;
+    private CategoryRepository categoryRepository;
+    private CatalogUseCaseImpl catalogUseCase;
+    private final List<List<Product>> upserts = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        productRepository = mock(ProductRepository.class);
+        categoryRepository = mock(CategoryRepository.class);
+        when(productRepository.upsertAll(anyList())).thenAnswer(invocation -> {
+            List<Product> products = invocation.getArgument(0);
+            upserts.add(products);
+            return products.size();
+        });
+        when(categoryRepository.saveAllByName(anyCollection())).thenAnswer(invocation -> {
+            Map<String, UUID> ids = new HashMap<>();
+            for (String name : invocation.<Collection<String>>getArgument(0)) {
+                ids.put(name.trim().toLowerCase(), UUID.randomUUID());
+            }
+            return new SavedCategories(ids, ids.size());
+        });
+        catalogUseCase = new CatalogUseCaseImpl(productRepository, categoryRepository);
+    }
+
+    @Test
+    @DisplayName("Deve reportar por linha o que o banco rejeitaria em vez de derrubar o lote")
+    public void shouldRejectRowsThatViolateColumnLimits() {
+        UUID id = UUID.randomUUID();
+        CatalogImportResult result = catalogUseCase.importCatalog(List.of(
+                item(1, id, "X-Burger", "Lanche"),
+                item(2, id, "X-Salada", "Lanche"),
+                item(3, null, "Batata Frita", "Acompanhamento"),
+                item(4, null, " batata frita", "Acompanhamento"),
+                withDescription(item(5, null, "X-Bacon", "Lanche"), "a".repeat(256)),
+                item(6, null, "Coca-Cola", "Bebida")).iterator());
+
+        assertEquals(6, result.getReceived());
+        assertEquals(3, result.getUpserted());
+        assertEquals(3, result.getFailed());
+        assertEquals(List.of(2L, 4L, 5L), result.getErrors().stream()
+                .map(CatalogUseCase.CatalogImportError::getLine).sorted().toList());
+        assertEquals("duplicate product, same id or name as line 1", result.getErrors().get(0).getMessage());
+        assertEquals(1, upserts.size());
+        assertEquals(3, upserts.get(0).size());
+    }
+
+    @Test
+    @DisplayName("Deve reportar as linhas de um lote que falhou no banco e seguir com os próximos")
+    public void shouldReportFailedChunkAndContinue() {
+        when(productRepository.upsertAll(anyList()))
+                .thenThrow(new IllegalStateException("batch failed", new RuntimeException("deadlock detected")))
+                .thenAnswer(invocation -> invocation.<List<Product>>getArgument(0).size());
+        List<CatalogItemRequest> items = new ArrayList<>();
+        for (int line = 1; line <= 1_500; line++) {
+            items.add(item(line, null, "Produto " + line, "Lanche"));
+        }
+
+        CatalogImportResult result = catalogUseCase.importCatalog(items.iterator());
+
+        assertEquals(1_500, result.getReceived());
+        assertEquals(500, result.getUpserted());
+        assertEquals(1_000, result.getFailed());
+        assertEquals("not imported, database error: deadlock detected", result.getErrors().get(0).getMessage());
+        verify(productRepository, times(2)).upsertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Deve casar categorias sem diferenciar maiúsculas nem espaços nas pontas")
+    public void shouldMatchCategoriesByNormalizedName() {
+        Category lanches = new Category(UUID.randomUUID(), "Lanches");
+        when(categoryRepository.findAll()).thenReturn(List.of(lanches));
+
+        CatalogImportResult result = catalogUseCase.importCatalog(List.of(
+                item(1, null, "X-Burger", " Lanches"),
+                item(2, null, "X-Salada", "lanches"),
+                item(3, null, "Suco", "Bebidas "),
+                item(4, null, "Refrigerante", "BEBIDAS")).iterator());
+
+        assertEquals(4, result.getUpserted());
+        assertEquals(1, result.getCategoriesCreated());
+        verify(categoryRepository).saveAllByName(argThat(names -> List.copyOf(names).equals(List.of("Bebidas"))));
+        List<Product> products = upserts.get(0);
+        assertEquals(lanches.getId(), products.get(0).getCategory().getId());
+        assertEquals(lanches.getId(), products.get(1).getCategory().getId());
+        assertEquals(products.get(2).getCategory().getId(), products.get(3).getCategory().getId());
+    }
+
+    private static CatalogItemRequest item(long line, UUID id, String name, String category) {
+        CatalogItemRequest item = new CatalogItemRequest();
+        item.setLine(line);
+        item.setId(id);
+        item.setName(name);
+        item.setPrice(new BigDecimal("10.00"));
+        item.setCategory(category);
+        return item;
+    }
+
+    private static CatalogItemRequest withDescription(CatalogItemRequest item, String description) {
+        item.setDescription(description);
+        return item;
+    }
+}
@@ -0,0 +1,161 @@
+package com.fiap.techchallenge.application.usecases;
+
+import com.fiap.techchallenge.application.usecases.OrderUseCase.OrderItemRequest;
+import com.fiap.techchallenge.domain.entities.Category;
+import com.fiap.techchallenge.domain.entities.Order;
+import com.fiap.techchallenge.domain.entities.Product;
+import com.fiap.techchallenge.domain.exception.IdempotencyKeyMismatchException;
+import com.fiap.techchallenge.domain.readmodels.IdempotencyRecord;
+import com.fiap.techchallenge.domain.repositories.CustomerRepository;
+import com.fiap.techchallenge.domain.repositories.IdempotencyKeyRepository;
+import com.fiap.techchallenge.domain.repositories.OrderRepository;
+import com.fiap.techchallenge.domain.repositories.PaymentRepository;
+import com.fiap.techchallenge.domain.repositories.ProductRepository;
+import com.fiap.techchallenge.infrastructure.analytics.OrderQueueAnalytics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class OrderUseCaseIdempotencyTest {
+
+    private final Product xBurger = new Product(UUID.randomUUID(), "X-Burger", null, BigDecimal.TEN,
+            new Category(UUID.randomUUID(), "Lanche"), true);
+
+    private OrderRepository orderRepository;
+    private PaymentRepository paymentRepository;
+    private OrderUseCaseImpl orderUseCase;
+    private final Map<Long, Order> savedOrders = new ConcurrentHashMap<>();
+    private final InMemoryIdempotencyKeyRepository idempotencyKeyRepository = new InMemoryIdempotencyKeyRepository();
+
+    @BeforeEach
+    public void setUp() {
+        orderRepository = mock(OrderRepository.class);
+        paymentRepository = mock(PaymentRepository.class);
+        ProductRepository productRepository = mock(ProductRepository.class);
+        when(productRepository.findById(xBurger.getId())).thenReturn(Optional.of(xBurger));
+
+        AtomicLong sequence = new AtomicLong();
+        when(orderRepository.save(any())).thenAnswer(invocation -> {
+            Order order = invocation.<Order>getArgument(0).withId(sequence.incrementAndGet());
+            savedOrders.put(order.getId(), order);
+            return order;
+        });
+        // Pedido e conclusão da chave na mesma "transação"
+        when(orderRepository.saveCompletingIdempotencyKey(any(), anyString(), any())).thenAnswer(invocation -> {
+            Order order = orderRepository.save(invocation.getArgument(0));
+            assertTrue(idempotencyKeyRepository.complete(invocation.getArgument(1), order.getId(),
+                    invocation.getArgument(2)));
+            return order;
+        });
+        when(orderRepository.findById(anyLong()))
+                .thenAnswer(invocation -> Optional.ofNullable(savedOrders.get(invocation.<Long>getArgument(0))));
+
+        // Pagamento lento, como o Mercado Pago no pico: é quando o totem repete o POST
+        when(paymentRepository.createPaymentOrder(any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> {
+                    Thread.sleep(200);
+                    return 99L;
+                });
+
+        orderUseCase = new OrderUseCaseImpl(orderRepository, mock(CustomerRepository.class), productRepository,
+                paymentRepository, idempotencyKeyRepository, new OrderQueueAnalytics());
+    }
+
+    @Test
+    @DisplayName("Deve executar uma única vez requisições concorrentes com a mesma chave")
+    public void shouldCoalesceConcurrentDuplicates() throws Exception {
+        int clients = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Order>> results = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return orderUseCase.createOrder(null, items(2), "kiosk-7-order-1");
+            }));
+        }
+        start.countDown();
+
+        for (Future<Order> result : results) {
+            assertEquals(1L, result.get().getId());
+        }
+        executor.shutdown();
+        verify(paymentRepository, times(1)).createPaymentOrder(any(), any(), any(), any(), any(), any(), any(),
+                eq("kiosk-7-order-1"));
+        verify(orderRepository, times(1)).save(any());
+    }
+
+    @Test
+    @DisplayName("Deve devolver o pedido já criado em uma retentativa")
+    public void shouldReplayCompletedRequest() {
+        Order first = orderUseCase.createOrder(null, items(2), "kiosk-7-order-2");
+        Order replay = orderUseCase.createOrder(null, items(2), "kiosk-7-order-2");
+        Order other = orderUseCase.createOrder(null, items(2), null);
+
+        assertEquals(first.getId(), replay.getId());
+        assertNotEquals(first.getId(), other.getId());
+        verify(paymentRepository, times(2)).createPaymentOrder(any(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar a mesma chave com outro pedido")
+    public void shouldRejectKeyReusedWithDifferentRequest() {
+        orderUseCase.createOrder(null, items(2), "kiosk-7-order-3");
+
+        assertThrows(IdempotencyKeyMismatchException.class,
+                () -> orderUseCase.createOrder(null, items(3), "kiosk-7-order-3"));
+    }
+
+    private List<OrderItemRequest> items(int quantity) {
+        return List.of(new OrderItemRequest(xBurger.getId(), quantity));
+    }
+
+    private static class InMemoryIdempotencyKeyRepository implements IdempotencyKeyRepository {
+        private final Map<String, IdempotencyRecord> records = new ConcurrentHashMap<>();
+
+        @Override
+        public boolean tryAcquire(String key, String requestHash, LocalDateTime now, LocalDateTime staleBefore) {
+            return records.putIfAbsent(key, new IdempotencyRecord(key, requestHash, null)) == null;
+        }
+
+        @Override
+        public Optional<IdempotencyRecord> findByKey(String key) {
+            return Optional.ofNullable(records.get(key));
+        }
+
+        @Override
+        public boolean complete(String key, Long orderId, LocalDateTime now) {
+            IdempotencyRecord record = records.get(key);
+            return record != null && !record.isCompleted()
+                    && records.replace(key, record, new IdempotencyRecord(key, record.getRequestHash(), orderId));
+        }
+
+        @Override
+        public void release(String key) {
+            records.remove(key);
+        }
+
+        @Override
+        public int deleteOlderThan(LocalDateTime cutoff) {
+            return 0;
+        }
+    }
+}
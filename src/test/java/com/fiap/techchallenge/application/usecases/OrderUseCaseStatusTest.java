@@ -0,0 +1,144 @@
+package com.fiap.techchallenge.application.usecases;
+
+import com.fiap.techchallenge.application.usecases.OrderUseCase.OrderStatusUpdateResult;
+import com.fiap.techchallenge.application.usecases.OrderUseCase.OrderStatusUpdateResult.Outcome;
+import com.fiap.techchallenge.domain.entities.Money;
+import com.fiap.techchallenge.domain.entities.Order;
+import com.fiap.techchallenge.domain.entities.OrderStatus;
+import com.fiap.techchallenge.domain.entities.StatusPayment;
+import com.fiap.techchallenge.domain.exception.DomainException;
+import com.fiap.techchallenge.domain.exception.NotFoundException;
+import com.fiap.techchallenge.domain.exception.OrderStatusConflictException;
+import com.fiap.techchallenge.domain.readmodels.OrderState;
+import com.fiap.techchallenge.domain.repositories.CustomerRepository;
+import com.fiap.techchallenge.domain.repositories.IdempotencyKeyRepository;
+import com.fiap.techchallenge.domain.repositories.OrderRepository;
+import com.fiap.techchallenge.domain.repositories.PaymentRepository;
+import com.fiap.techchallenge.domain.repositories.ProductRepository;
+import com.fiap.techchallenge.infrastructure.analytics.OrderQueueAnalytics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Máquina de estados do pedido aplicada por UPDATE condicional: quando nada muda,
+ * o estado atual explica o motivo (404 inexistente, 400 não pago, 409 status anterior inválido).
+ */
+public class OrderUseCaseStatusTest {
+
+    private OrderRepository orderRepository;
+    private OrderUseCaseImpl orderUseCase;
+
+    @BeforeEach
+    public void setUp() {
+        orderRepository = mock(OrderRepository.class);
+        orderUseCase = new OrderUseCaseImpl(orderRepository, mock(CustomerRepository.class),
+                mock(ProductRepository.class), mock(PaymentRepository.class), mock(IdempotencyKeyRepository.class),
+                new OrderQueueAnalytics());
+    }
+
+    @Test
+    @DisplayName("Deve atualizar o pedido pago vindo do status anterior da máquina de estados")
+    public void shouldUpdatePaidOrderFromPreviousStatus() {
+        when(orderRepository.updateStatus(eq(1L), any(), any(), any(), any())).thenReturn(true);
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order(1L, OrderStatus.READY, StatusPayment.APROVADO)));
+
+        Order order = orderUseCase.updateOrderStatus(1L, OrderStatus.READY);
+
+        assertEquals(OrderStatus.READY, order.getStatus());
+        verify(orderRepository).updateStatus(eq(1L), eq(EnumSet.of(OrderStatus.IN_PREPARATION)),
+                eq(StatusPayment.APROVADO), eq(OrderStatus.READY), any());
+        verify(orderRepository, never()).findStateById(any());
+    }
+
+    @Test
+    @DisplayName("Deve responder não encontrado quando o pedido não existe")
+    public void shouldRejectMissingOrder() {
+        when(orderRepository.findStateById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> orderUseCase.updateOrderStatus(1L, OrderStatus.READY));
+    }
+
+    @Test
+    @DisplayName("Deve recusar a mudança de status de pedido não pago")
+    public void shouldRejectUnpaidOrder() {
+        when(orderRepository.findStateById(1L)).thenReturn(
+                Optional.of(new OrderState(1L, OrderStatus.IN_PREPARATION, StatusPayment.AGUARDANDO_PAGAMENTO)));
+
+        DomainException exception = assertThrows(DomainException.class,
+                () -> orderUseCase.updateOrderStatus(1L, OrderStatus.READY));
+
+        assertFalse(exception instanceof OrderStatusConflictException);
+        assertFalse(exception instanceof NotFoundException);
+        assertEquals("The order is not paid", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve responder conflito quando o status atual não precede o pedido")
+    public void shouldRejectInvalidTransition() {
+        when(orderRepository.findStateById(1L)).thenReturn(
+                Optional.of(new OrderState(1L, OrderStatus.RECEIVED, StatusPayment.APROVADO)));
+
+        OrderStatusConflictException exception = assertThrows(OrderStatusConflictException.class,
+                () -> orderUseCase.updateOrderStatus(1L, OrderStatus.FINISHED));
+
+        assertEquals("Order status cannot change from RECEIVED to FINISHED", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve responder conflito ao mandar para preparo um pedido que já saiu de RECEIVED")
+    public void shouldRejectPreparationOutOfOrder() {
+        when(orderRepository.findStateById(1L)).thenReturn(
+                Optional.of(new OrderState(1L, OrderStatus.READY, StatusPayment.APROVADO)));
+
+        assertThrows(OrderStatusConflictException.class, () -> orderUseCase.updateOrderStatus(1L));
+        verify(orderRepository).updateStatus(eq(1L), eq(EnumSet.of(OrderStatus.RECEIVED)), isNull(),
+                eq(OrderStatus.IN_PREPARATION), any());
+    }
+
+    @Test
+    @DisplayName("Deve reportar o resultado de cada pedido na atualização em lote")
+    public void shouldReportOutcomePerOrderInBulkUpdate() {
+        when(orderRepository.updateStatuses(any(), any(), any(), any(), any())).thenReturn(Set.of(1L));
+        when(orderRepository.findStatesByIds(any())).thenReturn(List.of(
+                new OrderState(3L, OrderStatus.IN_PREPARATION, StatusPayment.AGUARDANDO_PAGAMENTO),
+                new OrderState(4L, OrderStatus.FINISHED, StatusPayment.APROVADO)));
+
+        List<OrderStatusUpdateResult> results = orderUseCase.updateOrdersStatus(List.of(1L, 2L, 3L, 4L, 1L),
+                OrderStatus.READY);
+
+        assertEquals(List.of(1L, 2L, 3L, 4L), results.stream().map(OrderStatusUpdateResult::getOrderId).toList());
+        assertEquals(List.of(Outcome.UPDATED, Outcome.NOT_FOUND, Outcome.NOT_PAID, Outcome.INVALID_TRANSITION),
+                results.stream().map(OrderStatusUpdateResult::getOutcome).toList());
+        assertEquals(OrderStatus.READY, results.get(0).getStatus());
+        assertNull(results.get(1).getStatus());
+        assertEquals(OrderStatus.FINISHED, results.get(3).getStatus());
+        // Um UPDATE para o lote; só os que não mudaram são consultados
+        verify(orderRepository).updateStatuses(eq(Set.of(1L, 2L, 3L, 4L)), eq(EnumSet.of(OrderStatus.IN_PREPARATION)),
+                eq(StatusPayment.APROVADO), eq(OrderStatus.READY), any());
+        verify(orderRepository).findStatesByIds(List.of(2L, 3L, 4L));
+    }
+
+    @Test
+    @DisplayName("Deve recusar o lote sem status ou sem pedidos")
+    public void shouldRejectInvalidBulkRequest() {
+        assertThrows(DomainException.class, () -> orderUseCase.updateOrdersStatus(List.of(1L), null));
+        assertThrows(DomainException.class, () -> orderUseCase.updateOrdersStatus(List.of(), OrderStatus.READY));
+        verifyNoInteractions(orderRepository);
+    }
+
+    private static Order order(Long id, OrderStatus status, StatusPayment statusPayment) {
+        LocalDateTime createdAt = LocalDateTime.now().minusMinutes(10);
+        return new Order(id, null, null, List.of(), Money.ZERO, status, statusPayment, null, createdAt, createdAt);
+    }
+}
@@ -0,0 +1,210 @@
+package com.fiap.techchallenge.application.usecases;
+
+import com.fiap.techchallenge.adapters.gateway.PaymentRepositoryGateway;
+import com.fiap.techchallenge.application.usecases.PaymentReconciliationUseCase.ReconciliationResult;
+import com.fiap.techchallenge.domain.entities.OrderStatus;
+import com.fiap.techchallenge.domain.entities.StatusPayment;
+import com.fiap.techchallenge.domain.readmodels.PendingPayment;
+import com.fiap.techchallenge.domain.repositories.JobLeaseRepository;
+import com.fiap.techchallenge.domain.repositories.OrderRepository;
+import com.fiap.techchallenge.external.datasource.mercadopago.MercadoPagoClientImpl;
+import com.fiap.techchallenge.infrastructure.analytics.OrderQueueAnalytics;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Reconciliação contra um stub local do Mercado Pago (GET /v1/payments/{id}).
+ * O status devolvido depende do id: id % 5 = 0 approved, 1 rejected, 2 in_process, 3 cancelled, 4 erro 500.
+ */
+public class PaymentReconciliationUseCaseTest {
+
+    private static final int PENDING_ORDERS = 250;
+    private static final int BATCH_SIZE = 100;
+    private static final int CONCURRENCY = 4;
+    private static final long ORDER_ID_OFFSET = 1_000;
+
+    private HttpServer stub;
+    private ExecutorService stubExecutor;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private OrderRepository orderRepository;
+    private JobLeaseRepository jobLeaseRepository;
+    private List<PendingPayment> pending;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stub.createContext("/v1/payments/", this::handlePaymentStatus);
+        stubExecutor = Executors.newFixedThreadPool(CONCURRENCY * 2);
+        stub.setExecutor(stubExecutor);
+        stub.start();
+
+        pending = new ArrayList<>();
+        for (long idPayment = 1; idPayment <= PENDING_ORDERS; idPayment++) {
+            pending.add(new PendingPayment(idPayment + ORDER_ID_OFFSET, idPayment));
+        }
+
+        orderRepository = mock(OrderRepository.class);
+        when(orderRepository.findStalePendingPayments(any(), any(), anyInt())).thenAnswer(invocation -> {
+            Long afterOrderId = invocation.getArgument(1);
+            int limit = invocation.getArgument(2);
+            return pending.stream()
+                    .filter(payment -> afterOrderId == null || payment.getOrderId() > afterOrderId)
+                    .limit(limit)
+                    .toList();
+        });
+        when(orderRepository.updatePaymentStatuses(any(), any(), any(), any(), any())).thenAnswer(invocation -> {
+            Collection<Long> idPayments = invocation.getArgument(0);
+            Set<Long> orderIds = new HashSet<>();
+            for (Long idPayment : idPayments) {
+                orderIds.add(idPayment + ORDER_ID_OFFSET);
+            }
+            return orderIds;
+        });
+        jobLeaseRepository = mock(JobLeaseRepository.class);
+        when(jobLeaseRepository.tryAcquire(any(), any())).thenReturn(true);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        stub.stop(0);
+        stubExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Deve consultar os pagamentos pendentes em lotes concorrentes e aplicar o resultado em lote")
+    public void shouldReconcilePendingPaymentsInConcurrentBatches() {
+        PaymentReconciliationUseCase useCase = useCase(1_000);
+
+        ReconciliationResult result = useCase.reconcilePendingPayments(Duration.ofMinutes(2), BATCH_SIZE);
+
+        assertEquals(PENDING_ORDERS, result.getChecked());
+        assertEquals(50, result.getApproved());
+        assertEquals(100, result.getRejected());
+        assertEquals(50, result.getStillPending());
+        assertEquals(50, result.getFailed());
+        assertEquals(PENDING_ORDERS, requests.get());
+        assertTrue(maxInFlight.get() > 1, "status checks should run concurrently");
+        assertTrue(maxInFlight.get() <= CONCURRENCY, "concurrency must be bounded: " + maxInFlight.get());
+
+        // Um UPDATE por página e por resultado, nunca um por pedido
+        verify(orderRepository, times(3)).updatePaymentStatuses(any(), eq(StatusPayment.AGUARDANDO_PAGAMENTO),
+                eq(StatusPayment.APROVADO), eq(OrderStatus.IN_PREPARATION), any());
+        verify(orderRepository, times(3)).updatePaymentStatuses(any(), eq(StatusPayment.AGUARDANDO_PAGAMENTO),
+                eq(StatusPayment.REJEITADO), isNull(), any());
+        verify(orderRepository).updatePaymentStatuses(argThat(ids -> ids.size() == 20 && ids.contains(5L)),
+                any(), eq(StatusPayment.APROVADO), any(), any());
+        verify(jobLeaseRepository).release("payment-reconciliation");
+    }
+
+    @Test
+    @DisplayName("Deve pular a rodada quando outra instância está com o lease")
+    public void shouldSkipWhenLeaseIsHeldElsewhere() {
+        when(jobLeaseRepository.tryAcquire(any(), any())).thenReturn(false);
+
+        ReconciliationResult result = useCase(1_000).reconcilePendingPayments(Duration.ofMinutes(2), BATCH_SIZE);
+
+        assertEquals(0, result.getChecked());
+        assertEquals(0, requests.get());
+        verifyNoInteractions(orderRepository);
+        verify(jobLeaseRepository, never()).release(any());
+    }
+
+    @Test
+    @DisplayName("Deve propagar a falha ao obter o lease sem liberá-lo")
+    public void shouldPropagateLeaseFailure() {
+        when(jobLeaseRepository.tryAcquire(any(), any())).thenThrow(new IllegalStateException("connection refused"));
+
+        PaymentReconciliationUseCase useCase = useCase(1_000);
+        assertThrows(IllegalStateException.class,
+                () -> useCase.reconcilePendingPayments(Duration.ofMinutes(2), BATCH_SIZE));
+
+        verifyNoInteractions(orderRepository);
+        verify(jobLeaseRepository, never()).release(any());
+    }
+
+    @Test
+    @DisplayName("Deve parar entre páginas quando perde o lease")
+    public void shouldStopWhenLeaseIsLost() {
+        when(jobLeaseRepository.tryAcquire(any(), any())).thenReturn(true, false);
+
+        ReconciliationResult result = useCase(1_000).reconcilePendingPayments(Duration.ofMinutes(2), BATCH_SIZE);
+
+        assertEquals(BATCH_SIZE, result.getChecked());
+        verify(orderRepository, times(1)).findStalePendingPayments(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Deve respeitar o limite de consultas por segundo ao Mercado Pago")
+    public void shouldRateLimitGatewayCalls() {
+        PaymentReconciliationUseCase useCase = useCase(200);
+
+        long startTime = System.nanoTime();
+        useCase.reconcilePendingPayments(Duration.ofMinutes(2), BATCH_SIZE);
+        long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+
+        // 250 chamadas a 200/s, com rajada de CONCURRENCY: pelo menos ~1,2 s
+        assertTrue(elapsedMillis >= 1_100, "elapsed " + elapsedMillis + " ms");
+    }
+
+    private PaymentReconciliationUseCase useCase(double ratePerSecond) {
+        MercadoPagoClientImpl client = new MercadoPagoClientImpl(new RestTemplateBuilder(), 1_000, 2_000,
+                "http://localhost:" + stub.getAddress().getPort());
+        return new PaymentReconciliationUseCaseImpl(orderRepository, new PaymentRepositoryGateway(client),
+                jobLeaseRepository, new OrderQueueAnalytics(), CONCURRENCY, ratePerSecond);
+    }
+
+    private void handlePaymentStatus(HttpExchange exchange) throws IOException {
+        int current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+        requests.incrementAndGet();
+        try {
+            Thread.sleep(2);
+            String path = exchange.getRequestURI().getPath();
+            long id = Long.parseLong(path.substring(path.lastIndexOf('/') + 1));
+            String[] statuses = {"approved", "rejected", "in_process", "cancelled"};
+            int remainder = (int) (id % 5);
+            if (remainder == 4 || !"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(500, -1);
+                return;
+            }
+            byte[] body = ("{\"id\":" + id + ",\"status\":\"" + statuses[remainder] + "\"}")
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+}
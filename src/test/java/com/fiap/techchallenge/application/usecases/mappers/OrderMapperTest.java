@@ -0,0 +1,68 @@
+package com.fiap.techchallenge.application.usecases.mappers;
+
+import com.fiap.techchallenge.domain.entities.*;
+import com.fiap.techchallenge.external.datasource.entities.CategoryJpaEntity;
+import com.fiap.techchallenge.external.datasource.entities.OrderItemJpaEntity;
+import com.fiap.techchallenge.external.datasource.entities.OrderJpaEntity;
+import com.fiap.techchallenge.external.datasource.entities.ProductJpaEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OrderMapperTest {
+
+    @Test
+    @DisplayName("Deve mapear o pedido para JPA e de volta sem perder itens, cliente e status")
+    public void shouldRoundTripOrder() {
+        Customer customer = Customer.builder().id(UUID.randomUUID()).name("Maria")
+                .email("maria@example.com").cpf("52998224725").build();
+        Product burger = new Product(UUID.randomUUID(), "X-Burger", null, new BigDecimal("19.90"),
+                new Category(UUID.randomUUID(), "Lanches"), true);
+        Order order = Order.create(customer, List.of(OrderItem.create(burger, 2)))
+                .withId(42L)
+                .withStatusPayment(StatusPayment.APROVADO);
+
+        OrderJpaEntity jpaEntity = OrderMapper.toJpaEntity(order);
+        assertEquals(OrderJpaEntity.StatusPaymentJpa.APROVADO, jpaEntity.getStatusPayment());
+        assertEquals("Maria", jpaEntity.getCustomer().getName());
+        // A associação com o catálogo é só leitura
+        assertNull(jpaEntity.getItems().get(0).getProduct());
+
+        Order mapped = OrderMapper.toDomainEntity(jpaEntity);
+        assertEquals(42L, mapped.getId());
+        assertEquals(OrderStatus.RECEIVED, mapped.getStatus());
+        assertEquals(Money.parse("39.80"), mapped.getTotalAmount());
+        assertEquals(customer, mapped.getCustomer());
+
+        Product snapshot = mapped.getItems().get(0).getProduct();
+        assertEquals("X-Burger", snapshot.getName());
+        assertEquals("Lanches", snapshot.getCategory().getName());
+        assertEquals(new BigDecimal("19.90"), snapshot.getPrice());
+    }
+
+    @Test
+    @DisplayName("Deve cair na associação do catálogo para itens gravados sem snapshot")
+    public void shouldFallBackToCatalogForLegacyItems() {
+        ProductJpaEntity product = new ProductJpaEntity(UUID.randomUUID(), "Batata", "Média",
+                new BigDecimal("9.50"), new CategoryJpaEntity(UUID.randomUUID(), "Acompanhamentos"), true);
+        OrderItemJpaEntity legacyItem = new OrderItemJpaEntity(UUID.randomUUID(), product.getId(), product,
+                null, null, null, 1, Money.parse("9.50"), Money.parse("9.50"));
+        OrderJpaEntity jpaEntity = new OrderJpaEntity();
+        jpaEntity.setItems(List.of(legacyItem));
+        jpaEntity.setStatus(OrderJpaEntity.OrderStatusJpa.READY);
+        jpaEntity.setCreatedAt(LocalDateTime.now());
+
+        List<Order> orders = OrderMapper.toDomainEntities(List.of(jpaEntity));
+
+        Product mapped = orders.get(0).getItems().get(0).getProduct();
+        assertEquals("Média", mapped.getDescription());
+        assertEquals("Acompanhamentos", mapped.getCategory().getName());
+        assertEquals(OrderStatus.READY, orders.get(0).getStatus());
+    }
+}
@@ -0,0 +1,111 @@
+package com.fiap.techchallenge.benchmark;
+
+import com.fiap.techchallenge.adapters.gateway.CategoryRepositoryGateway;
+import com.fiap.techchallenge.adapters.gateway.ProductRepositoryGateway;
+import com.fiap.techchallenge.adapters.gateway.ReadOnlyLookup;
+import com.fiap.techchallenge.application.usecases.CatalogUseCase.CatalogImportResult;
+import com.fiap.techchallenge.application.usecases.CatalogUseCase.CatalogItemRequest;
+import com.fiap.techchallenge.application.usecases.CatalogUseCaseImpl;
+import com.fiap.techchallenge.external.datasource.repositories.CategoryJpaRepository;
+import com.fiap.techchallenge.external.datasource.repositories.ProductJpaRepository;
+import com.fiap.techchallenge.infrastructure.search.ProductSearchIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Mede a importação de catálogo (upsert em lote) com 100 mil produtos.
+ * <p>
+ * Precisa de um PostgreSQL descartável:
+ * <code>BENCHMARK_DB_URL=jdbc:postgresql://localhost:5432/bench mvn test -Pbenchmark</code>
+ * </p>
+ */
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("high-throughput")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfEnvironmentVariable(named = "BENCHMARK_DB_URL", matches = ".+")
+public class CatalogImportBenchmarkTest {
+
+    private static final int PRODUCTS = 100_000;
+    private static final int CATEGORIES = 20;
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private CategoryJpaRepository categoryJpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getenv("BENCHMARK_DB_URL"));
+        registry.add("spring.datasource.username", () -> env("BENCHMARK_DB_USER", "postgres"));
+        registry.add("spring.datasource.password", () -> env("BENCHMARK_DB_PASSWORD", "postgres"));
+    }
+
+    @Test
+    @DisplayName("Deve medir produtos importados por segundo")
+    public void shouldMeasureCatalogImportThroughput() {
+        ProductSearchIndex searchIndex = new ProductSearchIndex();
+        CatalogUseCaseImpl catalogUseCase = new CatalogUseCaseImpl(
+                new ProductRepositoryGateway(productJpaRepository, searchIndex, jdbcTemplate, new ReadOnlyLookup()),
+                new CategoryRepositoryGateway(categoryJpaRepository, searchIndex, jdbcTemplate, new ReadOnlyLookup()));
+        String run = UUID.randomUUID().toString().substring(0, 8);
+
+        long startTime = System.nanoTime();
+        CatalogImportResult result = catalogUseCase.importCatalog(rows(run));
+        long elapsedNanos = System.nanoTime() - startTime;
+
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        System.out.printf("[benchmark] products=%d categories=%d -> %.2f s, %.0f products/s%n",
+                PRODUCTS, CATEGORIES, seconds, PRODUCTS / seconds);
+
+        assertEquals(PRODUCTS, result.getUpserted());
+        assertEquals(CATEGORIES, result.getCategoriesCreated());
+    }
+
+    private Iterator<CatalogItemRequest> rows(String run) {
+        return new Iterator<>() {
+            private int line;
+
+            @Override
+            public boolean hasNext() {
+                return line < PRODUCTS;
+            }
+
+            @Override
+            public CatalogItemRequest next() {
+                line++;
+                CatalogItemRequest item = new CatalogItemRequest();
+                item.setLine(line);
+                item.setName("Produto " + run + " " + line);
+                item.setDescription("Descrição do produto " + line);
+                item.setPrice(BigDecimal.valueOf(5 + line % 50));
+                item.setCategory("Categoria " + run + " " + line % CATEGORIES);
+                return item;
+            }
+        };
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value != null && !value.isEmpty() ? value : defaultValue;
+    }
+}
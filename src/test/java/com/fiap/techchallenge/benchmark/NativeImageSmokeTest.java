@@ -0,0 +1,167 @@
+package com.fiap.techchallenge.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Smoke test do executável nativo e comparação com a JVM da imagem atual.
+ * <p>
+ * Sobe o binário (e, se informado, o jar com as opções de memória da imagem
+ * <code>eclipse-temurin:17-jre-alpine</code>), mede o tempo até o readiness e o RSS
+ * depois de algumas requisições, e confere que Actuator, segurança, gzip e Swagger
+ * respondem no nativo — onde falta de metadado de reflexão aparece como erro em runtime.
+ * Precisa de um PostgreSQL acessível pelas variáveis de sempre (DB_HOST, DB_NAME...):
+ * <code>NATIVE_BINARY=target/tech-challenge JVM_JAR=target/tech-challenge-0.0.1-SNAPSHOT.jar
+ * mvn test -Pbenchmark -Dtest=NativeImageSmokeTest</code>
+ * </p>
+ */
+@Tag("benchmark")
+@EnabledIfEnvironmentVariable(named = "NATIVE_BINARY", matches = ".+")
+public class NativeImageSmokeTest {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+    private static final String JVM_OPTS = "-Xms256m -Xmx512m -XX:MaxMetaspaceSize=128m -XX:+UseG1GC";
+
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+
+    @Test
+    @DisplayName("Deve subir o executável nativo e comparar inicialização e memória com a JVM")
+    public void shouldStartNativeBinaryAndCompareWithJvm() throws Exception {
+        Measurement nativeRun = run("native", List.of(System.getenv("NATIVE_BINARY")));
+        print(nativeRun);
+
+        String jvmJar = System.getenv("JVM_JAR");
+        if (jvmJar != null && !jvmJar.isEmpty()) {
+            List<String> command = new ArrayList<>();
+            command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+            command.addAll(Arrays.asList(JVM_OPTS.split(" ")));
+            command.addAll(List.of("-jar", jvmJar));
+            Measurement jvmRun = run("jvm", command);
+            print(jvmRun);
+            System.out.printf("[benchmark] native vs jvm: startup %.1fx faster, RSS %.1fx smaller%n",
+                    (double) jvmRun.startupMillis / nativeRun.startupMillis,
+                    (double) jvmRun.rssKilobytes / Math.max(1, nativeRun.rssKilobytes));
+        }
+    }
+
+    private Measurement run(String name, List<String> command) throws Exception {
+        int port = freePort();
+        File log = Files.createTempFile("tech-challenge-" + name, ".log").toFile();
+        ProcessBuilder builder = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log);
+        builder.environment().put("SERVER_PORT", Integer.toString(port));
+        builder.environment().putIfAbsent("SPRING_PROFILES_ACTIVE", "fast-start");
+        builder.environment().putIfAbsent("ORDER_ARCHIVE_ENABLED", "false");
+
+        String baseUrl = "http://localhost:" + port + "/api";
+        long startTime = System.nanoTime();
+        Process process = builder.start();
+        try {
+            long startupMillis = awaitReady(process, baseUrl + "/health/readiness", log);
+
+            HttpResponse<String> health = get(baseUrl + "/health", null);
+            assertEquals(200, health.statusCode());
+            assertTrue(health.body().contains("\"UP\""));
+
+            HttpResponse<String> prometheus = get(baseUrl + "/prometheus", null);
+            assertEquals(200, prometheus.statusCode());
+            assertTrue(prometheus.body().contains("hikaricp_connections"));
+
+            // Cadeia do Spring Security montada: endpoint protegido sem token
+            assertEquals(401, get(baseUrl + "/orders", null).statusCode());
+
+            HttpResponse<String> apiDocs = get(baseUrl + "/api-docs", "gzip");
+            assertEquals(200, apiDocs.statusCode());
+            assertEquals("gzip", apiDocs.headers().firstValue("Content-Encoding").orElse(null));
+
+            return new Measurement(name, startupMillis, rssKilobytes(process.pid()),
+                    (System.nanoTime() - startTime) / 1_000_000);
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private long awaitReady(Process process, String readinessUrl, File log) throws Exception {
+        long startTime = System.nanoTime();
+        long deadline = startTime + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                fail("Process exited with code " + process.exitValue() + ", see " + log);
+            }
+            try {
+                if (get(readinessUrl, null).statusCode() == 200) {
+                    return (System.nanoTime() - startTime) / 1_000_000;
+                }
+            } catch (IOException e) {
+                // Porta ainda fechada
+            }
+            Thread.sleep(50);
+        }
+        return fail("Not ready after " + STARTUP_TIMEOUT + ", see " + log);
+    }
+
+    private HttpResponse<String> get(String url, String acceptEncoding) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(10));
+        if (acceptEncoding != null) {
+            request.header("Accept-Encoding", acceptEncoding);
+        }
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static long rssKilobytes(long pid) throws IOException {
+        Path status = Path.of("/proc", Long.toString(pid), "status");
+        if (!Files.exists(status)) {
+            return 0;
+        }
+        for (String line : Files.readAllLines(status)) {
+            if (line.startsWith("VmRSS:")) {
+                return Long.parseLong(line.replaceAll("[^0-9]", ""));
+            }
+        }
+        return 0;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static void print(Measurement measurement) {
+        System.out.printf("[benchmark] %s: ready in %d ms, RSS %d MB (smoke test done in %d ms)%n",
+                measurement.name, measurement.startupMillis, measurement.rssKilobytes / 1024,
+                measurement.totalMillis);
+    }
+
+    private static class Measurement {
+        private final String name;
+        private final long startupMillis;
+        private final long rssKilobytes;
+        private final long totalMillis;
+
+        private Measurement(String name, long startupMillis, long rssKilobytes, long totalMillis) {
+            this.name = name;
+            this.startupMillis = startupMillis;
+            this.rssKilobytes = rssKilobytes;
+            this.totalMillis = totalMillis;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.fiap.techchallenge.benchmark;
+
+import com.fiap.techchallenge.domain.entities.Money;
+import com.fiap.techchallenge.external.datasource.entities.CategoryJpaEntity;
+import com.fiap.techchallenge.external.datasource.entities.OrderItemJpaEntity;
+import com.fiap.techchallenge.external.datasource.entities.OrderJpaEntity;
+import com.fiap.techchallenge.external.datasource.entities.ProductJpaEntity;
+import com.fiap.techchallenge.external.datasource.repositories.CategoryJpaRepository;
+import com.fiap.techchallenge.external.datasource.repositories.OrderJpaRepository;
+import com.fiap.techchallenge.external.datasource.repositories.ProductJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Mede a vazão de INSERT de pedidos com vários itens no perfil high-throughput.
+ * <p>
+ * Precisa de um PostgreSQL descartável:
+ * <code>BENCHMARK_DB_URL=jdbc:postgresql://localhost:5432/bench mvn test -Pbenchmark</code>
+ * <p>
+ * Para comparar com o modo sem batch, rode de novo com <code>HIBERNATE_BATCH_SIZE=1</code>.
+ * </p>
+ */
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("high-throughput")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfEnvironmentVariable(named = "BENCHMARK_DB_URL", matches = ".+")
+public class OrderBatchInsertBenchmarkTest {
+
+    private static final int ORDERS = 5_000;
+    private static final int ITEMS_PER_ORDER = 5;
+    private static final int FLUSH_EVERY = 200;
+
+    @Autowired
+    private OrderJpaRepository orderJpaRepository;
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private CategoryJpaRepository categoryJpaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getenv("BENCHMARK_DB_URL"));
+        registry.add("spring.datasource.username", () -> env("BENCHMARK_DB_USER", "postgres"));
+        registry.add("spring.datasource.password", () -> env("BENCHMARK_DB_PASSWORD", "postgres"));
+    }
+
+    @Test
+    @DisplayName("Deve medir pedidos inseridos por segundo com itens em batch")
+    public void shouldMeasureMultiItemOrderInsertThroughput() {
+        List<ProductJpaEntity> products = createProducts();
+
+        long startTime = System.nanoTime();
+        for (int i = 0; i < ORDERS; i++) {
+            orderJpaRepository.save(newOrder(products, i));
+            if ((i + 1) % FLUSH_EVERY == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        long elapsedNanos = System.nanoTime() - startTime;
+
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        System.out.printf("[benchmark] orders=%d items/order=%d batch_size=%s -> %.0f orders/s, %.0f rows/s%n",
+                ORDERS, ITEMS_PER_ORDER, env("HIBERNATE_BATCH_SIZE", "50"),
+                ORDERS / seconds, ORDERS * (ITEMS_PER_ORDER + 1) / seconds);
+
+        assertEquals(ORDERS, entityManager
+                .createQuery("SELECT COUNT(o) FROM OrderJpaEntity o WHERE o.createdAt >= :start", Long.class)
+                .setParameter("start", LocalDateTime.now().minusHours(1))
+                .getSingleResult().intValue());
+    }
+
+    private List<ProductJpaEntity> createProducts() {
+        CategoryJpaEntity category = categoryJpaRepository.save(
+                new CategoryJpaEntity(UUID.randomUUID(), "bench-" + UUID.randomUUID()));
+
+        List<ProductJpaEntity> products = new ArrayList<>(ITEMS_PER_ORDER);
+        for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+            products.add(productJpaRepository.save(new ProductJpaEntity(
+                    UUID.randomUUID(), "Produto " + i, null, BigDecimal.valueOf(10 + i), category, true)));
+        }
+        return products;
+    }
+
+    private OrderJpaEntity newOrder(List<ProductJpaEntity> products, int sequence) {
+        List<OrderItemJpaEntity> items = new ArrayList<>(products.size());
+        Money total = Money.ZERO;
+        for (ProductJpaEntity product : products) {
+            int quantity = 1 + sequence % 3;
+            Money unitPrice = Money.of(product.getPrice());
+            Money subTotal = unitPrice.times(quantity);
+            items.add(new OrderItemJpaEntity(null, product.getId(), null, product.getName(),
+                    product.getCategory().getId(), product.getCategory().getName(),
+                    quantity, unitPrice, subTotal));
+            total = total.plus(subTotal);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        OrderJpaEntity order = new OrderJpaEntity();
+        order.setItems(items);
+        order.setTotalAmount(total);
+        order.setStatus(OrderJpaEntity.OrderStatusJpa.RECEIVED);
+        order.setStatusPayment(OrderJpaEntity.StatusPaymentJpa.AGUARDANDO_PAGAMENTO);
+        order.setCreatedAt(now);
+        order.setUpdatedAt(now);
+        return order;
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value != null && !value.isEmpty() ? value : defaultValue;
+    }
+}
@@ -0,0 +1,132 @@
+package com.fiap.techchallenge.benchmark;
+
+import com.fiap.techchallenge.application.usecases.mappers.OrderMapper;
+import com.fiap.techchallenge.domain.entities.Category;
+import com.fiap.techchallenge.domain.entities.Customer;
+import com.fiap.techchallenge.domain.entities.Money;
+import com.fiap.techchallenge.domain.entities.Order;
+import com.fiap.techchallenge.domain.entities.OrderItem;
+import com.fiap.techchallenge.domain.entities.OrderStatus;
+import com.fiap.techchallenge.domain.entities.Product;
+import com.fiap.techchallenge.domain.entities.StatusPayment;
+import com.fiap.techchallenge.external.datasource.entities.CustomerJpaEntity;
+import com.fiap.techchallenge.external.datasource.entities.OrderItemJpaEntity;
+import com.fiap.techchallenge.external.datasource.entities.OrderJpaEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Custo de mapeamento por pedido na listagem (<code>GET /orders</code>): JPA para domínio
+ * com o mapper gerado pelo MapStruct, comparado ao mapeamento anterior com streams.
+ * <p>
+ * Mede tempo e bytes alocados por pedido na thread do teste.
+ * <code>mvn test -Pbenchmark -Dtest=OrderMappingBenchmarkTest</code>
+ * </p>
+ */
+@Tag("benchmark")
+public class OrderMappingBenchmarkTest {
+
+    private static final int ORDERS = 100;
+    private static final int WARMUP = 10_000;
+    private static final int ITERATIONS = 20_000;
+
+    // Evita que o JIT descarte o mapeamento
+    private long blackhole;
+
+    @Test
+    @DisplayName("Deve medir o custo de mapeamento por pedido com streams e com o mapper gerado")
+    public void shouldMeasureMappingCostPerOrder() {
+        for (int itemsPerOrder : new int[] {3, 10}) {
+            List<OrderJpaEntity> page = orders(itemsPerOrder);
+            assertEquals(page.size(), OrderMapper.toDomainEntities(page).size());
+            assertEquals(streamMapping(page).get(0).getTotalAmount(),
+                    OrderMapper.toDomainEntities(page).get(0).getTotalAmount());
+
+            for (int i = 0; i < WARMUP; i++) {
+                blackhole += streamMapping(page).size();
+                blackhole += OrderMapper.toDomainEntities(page).size();
+            }
+            report("streams", itemsPerOrder, () -> streamMapping(page));
+            report("mapstruct", itemsPerOrder, () -> OrderMapper.toDomainEntities(page));
+        }
+    }
+
+    private void report(String name, int itemsPerOrder, Supplier<List<Order>> mapping) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long startTime = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            blackhole += mapping.get().size();
+        }
+        long orders = (long) ITERATIONS * ORDERS;
+        double nanosPerOrder = (double) (System.nanoTime() - startTime) / orders;
+        long bytesPerOrder = (threads.getThreadAllocatedBytes(threadId) - allocatedBefore) / orders;
+        System.out.printf("[benchmark] %s items/order=%d: %.0f ns and %d bytes allocated per order%n",
+                name, itemsPerOrder, nanosPerOrder, bytesPerOrder);
+    }
+
+    private static List<OrderJpaEntity> orders(int itemsPerOrder) {
+        List<OrderJpaEntity> orders = new ArrayList<>(ORDERS);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < ORDERS; i++) {
+            List<OrderItemJpaEntity> items = new ArrayList<>(itemsPerOrder);
+            long total = 0;
+            for (int j = 0; j < itemsPerOrder; j++) {
+                Money unitPrice = Money.ofCents(990 + j * 37L);
+                items.add(new OrderItemJpaEntity(UUID.randomUUID(), UUID.randomUUID(), null, "Produto " + j,
+                        UUID.randomUUID(), "Lanches", 1 + j % 3, unitPrice, unitPrice.times(1 + j % 3)));
+                total += unitPrice.times(1 + j % 3).getCents();
+            }
+            OrderJpaEntity order = new OrderJpaEntity();
+            order.setId((long) i);
+            UUID customerId = UUID.randomUUID();
+            order.setCustomerId(customerId);
+            order.setCustomer(new CustomerJpaEntity(customerId, "Cliente " + i, "cliente" + i + "@example.com",
+                    "52998224725"));
+            order.setItems(items);
+            order.setTotalAmount(Money.ofCents(total));
+            order.setStatus(OrderJpaEntity.OrderStatusJpa.IN_PREPARATION);
+            order.setStatusPayment(OrderJpaEntity.StatusPaymentJpa.APROVADO);
+            order.setCreatedAt(now.minusMinutes(i));
+            order.setUpdatedAt(now);
+            orders.add(order);
+        }
+        return orders;
+    }
+
+    // Mapeamento anterior (streams + collect por pedido e por lista de itens), mantido como referência
+    private static List<Order> streamMapping(List<OrderJpaEntity> page) {
+        return page.stream().map(OrderMappingBenchmarkTest::streamOrder).collect(Collectors.toList());
+    }
+
+    private static Order streamOrder(OrderJpaEntity jpaEntity) {
+        CustomerJpaEntity customerJpa = jpaEntity.getCustomer();
+        Customer customer = Customer.builder().id(customerJpa.getId()).name(customerJpa.getName())
+                .email(customerJpa.getEmail()).cpf(customerJpa.getCpf()).build();
+        List<OrderItem> items = jpaEntity.getItems().stream()
+                .map(item -> new OrderItem(item.getId(), item.getProductId(),
+                        Product.builder().id(item.getProductId()).name(item.getProductName())
+                                .price(item.getUnitPrice().toBigDecimal())
+                                .category(new Category(item.getCategoryId(), item.getCategoryName()))
+                                .active(true).build(),
+                        item.getProductName(), item.getCategoryId(), item.getCategoryName(), item.getQuantity(),
+                        item.getUnitPrice(), item.getSubTotal()))
+                .collect(Collectors.toList());
+        return new Order(jpaEntity.getId(), jpaEntity.getCustomerId(), customer, items, jpaEntity.getTotalAmount(),
+                OrderStatus.valueOf(jpaEntity.getStatus().name()),
+                StatusPayment.valueOf(jpaEntity.getStatusPayment().name()),
+                jpaEntity.getIdPayment(), jpaEntity.getCreatedAt(), jpaEntity.getUpdatedAt());
+    }
+}
@@ -0,0 +1,101 @@
+package com.fiap.techchallenge.benchmark;
+
+import com.fiap.techchallenge.domain.entities.Money;
+import com.fiap.techchallenge.domain.entities.Order;
+import com.fiap.techchallenge.domain.entities.OrderItem;
+import com.fiap.techchallenge.domain.entities.Product;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compara o cálculo de subtotais e total de um pedido de 50 itens com BigDecimal
+ * (caminho anterior de <code>OrderItem.create</code>/<code>Order.create</code>) e com Money.
+ * <p>
+ * Mede tempo e bytes alocados por pedido na thread do teste.
+ * <code>mvn test -Pbenchmark -Dtest=OrderTotalBenchmarkTest</code>
+ * </p>
+ */
+@Tag("benchmark")
+public class OrderTotalBenchmarkTest {
+
+    private static final int ITEMS_PER_ORDER = 50;
+    private static final int WARMUP = 50_000;
+    private static final int ITERATIONS = 200_000;
+
+    // Evita que o JIT descarte o cálculo
+    private long blackhole;
+
+    @Test
+    @DisplayName("Deve comparar o total do pedido com BigDecimal e com Money")
+    public void shouldCompareBigDecimalAndMoneyTotals() {
+        List<Product> products = new ArrayList<>(ITEMS_PER_ORDER);
+        int[] quantities = new int[ITEMS_PER_ORDER];
+        for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+            products.add(new Product(UUID.randomUUID(), "Produto " + i, null,
+                    BigDecimal.valueOf(990 + i * 37L, 2), null, true));
+            quantities[i] = 1 + i % 3;
+        }
+
+        List<OrderItem> items = new ArrayList<>(ITEMS_PER_ORDER);
+        for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+            items.add(OrderItem.create(products.get(i), quantities[i]));
+        }
+
+        Money expected = Money.of(bigDecimalTotal(products, quantities));
+        assertEquals(expected, moneyTotal(products, quantities));
+        assertEquals(expected, Order.create(null, items).getTotalAmount());
+
+        for (int i = 0; i < WARMUP; i++) {
+            blackhole += bigDecimalTotal(products, quantities).scale();
+            blackhole += moneyTotal(products, quantities).getCents();
+            blackhole += Order.create(null, items).getTotalAmount().getCents();
+        }
+
+        report("BigDecimal", () -> blackhole += bigDecimalTotal(products, quantities).scale());
+        report("Money (price from catalog)", () -> blackhole += moneyTotal(products, quantities).getCents());
+        report("Money (Order.create)", () -> blackhole += Order.create(null, items).getTotalAmount().getCents());
+    }
+
+    // Caminho anterior: um BigDecimal por multiplicação, por valueOf e por soma parcial
+    private static BigDecimal bigDecimalTotal(List<Product> products, int[] quantities) {
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < products.size(); i++) {
+            BigDecimal subTotal = products.get(i).getPrice().multiply(BigDecimal.valueOf(quantities[i]));
+            total = total.add(subTotal);
+        }
+        return total;
+    }
+
+    // Mesmo cálculo de OrderItem.create + Order.create, incluindo a conversão do preço do catálogo
+    private static Money moneyTotal(List<Product> products, int[] quantities) {
+        long totalCents = 0;
+        for (int i = 0; i < products.size(); i++) {
+            Money subTotal = Money.of(products.get(i).getPrice()).times(quantities[i]);
+            totalCents = Math.addExact(totalCents, subTotal.getCents());
+        }
+        return Money.ofCents(totalCents);
+    }
+
+    private static void report(String name, Runnable order) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long startTime = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            order.run();
+        }
+        double micros = (System.nanoTime() - startTime) / 1_000.0 / ITERATIONS;
+        long bytesPerOrder = (threads.getThreadAllocatedBytes(threadId) - allocatedBefore) / ITERATIONS;
+        System.out.printf("[benchmark] %s: %.2f us and %d bytes allocated per %d-item order%n",
+                name, micros, bytesPerOrder, ITEMS_PER_ORDER);
+    }
+}
@@ -0,0 +1,139 @@
+package com.fiap.techchallenge.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.techchallenge.domain.entities.Category;
+import com.fiap.techchallenge.domain.entities.Money;
+import com.fiap.techchallenge.domain.entities.Order;
+import com.fiap.techchallenge.domain.entities.OrderItem;
+import com.fiap.techchallenge.domain.entities.OrderStatus;
+import com.fiap.techchallenge.domain.entities.Product;
+import com.fiap.techchallenge.domain.entities.StatusPayment;
+import com.fiap.techchallenge.external.api.json.MoneyJsonComponent;
+import com.fiap.techchallenge.infrastructure.compression.DeflaterPool;
+import com.fiap.techchallenge.infrastructure.compression.GzipResponseFilter;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Mede bytes trafegados e latência do gzip nas respostas de <code>/products</code>
+ * e <code>/orders</code>, com o JSON serializado pelo mesmo Jackson da API.
+ * <p>
+ * O tempo de transferência é estimado para o Wi-Fi dos totens (2 Mbit/s efetivos).
+ * <code>mvn test -Pbenchmark -Dtest=ResponseCompressionBenchmarkTest</code>
+ * </p>
+ */
+@Tag("benchmark")
+public class ResponseCompressionBenchmarkTest {
+
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 1_000;
+    private static final double KIOSK_BYTES_PER_SECOND = 2_000_000 / 8.0;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .serializerByType(Money.class, new MoneyJsonComponent.Serializer()).build();
+
+    @Test
+    @DisplayName("Deve medir bytes e latência do cardápio com e sem gzip")
+    public void shouldMeasureProductsPayload() throws Exception {
+        measure("/products", objectMapper.writeValueAsBytes(products(120)));
+    }
+
+    @Test
+    @DisplayName("Deve medir bytes e latência da lista de pedidos com e sem gzip")
+    public void shouldMeasureOrdersPayload() throws Exception {
+        measure("/orders", objectMapper.writeValueAsBytes(orders(100)));
+    }
+
+    private void measure(String endpoint, byte[] body) throws Exception {
+        for (int level : new int[] {1, 5, 9}) {
+            GzipResponseFilter filter = new GzipResponseFilter(new DeflaterPool(4, level), 1024);
+            for (int i = 0; i < WARMUP; i++) {
+                execute(filter, body);
+            }
+            long startTime = System.nanoTime();
+            int compressedBytes = 0;
+            for (int i = 0; i < ITERATIONS; i++) {
+                compressedBytes = execute(filter, body).getContentAsByteArray().length;
+            }
+            double micros = (System.nanoTime() - startTime) / 1_000.0 / ITERATIONS;
+
+            System.out.printf("[benchmark] %s level=%d: %d -> %d bytes (%.1f%%), gzip %.0f us, "
+                            + "transfer %.0f ms -> %.0f ms%n",
+                    endpoint, level, body.length, compressedBytes, 100.0 * compressedBytes / body.length, micros,
+                    transferMillis(body.length), transferMillis(compressedBytes) + micros / 1_000);
+            assertTrue(compressedBytes < body.length);
+        }
+    }
+
+    private static MockHttpServletResponse execute(GzipResponseFilter filter, byte[] body) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/benchmark");
+        request.addHeader("Accept-Encoding", "gzip");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                resp.setContentType("application/json");
+                resp.getOutputStream().write(body);
+            }
+        }));
+        assertEquals("gzip", response.getHeader("Content-Encoding"));
+        return response;
+    }
+
+    private static double transferMillis(int bytes) {
+        return bytes / KIOSK_BYTES_PER_SECOND * 1_000;
+    }
+
+    private static List<Product> products(int count) {
+        List<Category> categories = List.of(new Category(UUID.randomUUID(), "Lanche"),
+                new Category(UUID.randomUUID(), "Acompanhamento"), new Category(UUID.randomUUID(), "Bebida"),
+                new Category(UUID.randomUUID(), "Sobremesa"));
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            products.add(new Product(UUID.randomUUID(), "Produto " + i,
+                    "Descrição do produto " + i + " com ingredientes e informações nutricionais",
+                    BigDecimal.valueOf(990 + i * 37L, 2), categories.get(i % categories.size()), true));
+        }
+        return products;
+    }
+
+    private static List<Order> orders(int count) {
+        List<Product> menu = products(20);
+        List<Order> orders = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < count; i++) {
+            List<OrderItem> items = new ArrayList<>();
+            Money total = Money.ZERO;
+            for (int j = 0; j < 3; j++) {
+                Product product = menu.get((i + j) % menu.size());
+                Money unitPrice = Money.of(product.getPrice());
+                Money subTotal = unitPrice.times(j + 1);
+                items.add(new OrderItem(UUID.randomUUID(), product.getId(), product, product.getName(),
+                        product.getCategory().getId(), product.getCategory().getName(), j + 1,
+                        unitPrice, subTotal));
+                total = total.plus(subTotal);
+            }
+            orders.add(new Order((long) i, null, null, items, total, OrderStatus.RECEIVED, StatusPayment.APROVADO,
+                    (long) i, now.minusMinutes(i), now));
+        }
+        return orders;
+    }
+}
@@ -0,0 +1,272 @@
+package com.fiap.techchallenge.benchmark;
+
+import com.fiap.techchallenge.adapters.gateway.SalesReportRepositoryGateway;
+import com.fiap.techchallenge.domain.entities.Money;
+import com.fiap.techchallenge.domain.readmodels.CategorySales;
+import com.fiap.techchallenge.domain.readmodels.DailySales;
+import com.fiap.techchallenge.domain.readmodels.ProductSales;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Relatórios de vendas sobre um ano de pedidos sintéticos: o refresh incremental
+ * precisa bater com a agregação direta dos pedidos, e a leitura dos relatórios
+ * é comparada com a mesma agregação feita sobre orders/order_items.
+ * <p>
+ * Os pedidos ficam em 2001 para não se misturar a dados reais, e o teste roda em
+ * uma transação desfeita no fim.
+ * <code>BENCHMARK_DB_URL=jdbc:postgresql://localhost:5432/bench mvn test -Pbenchmark -Dtest=SalesReportBenchmarkTest</code>
+ * </p>
+ */
+@Tag("benchmark")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfEnvironmentVariable(named = "BENCHMARK_DB_URL", matches = ".+")
+public class SalesReportBenchmarkTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2001, 1, 1);
+    private static final int DAYS = 365;
+    private static final int ORDERS_PER_DAY = 40;
+    private static final int PRODUCTS = 30;
+    private static final int CATEGORIES = 5;
+    // Primeiro trimestre vai direto para orders_archive, como se o job de arquivamento já tivesse rodado
+    private static final LocalDate ARCHIVED_BEFORE = LocalDate.of(2001, 4, 1);
+    private static final long FIRST_ORDER_ID = 2_001_000_000L;
+    private static final int REPEAT = 20;
+    private static final int BACKFILL_DAYS = 400;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Map<LocalDate, long[]> expectedDaily = new HashMap<>();
+    private final Map<UUID, long[]> expectedProducts = new HashMap<>();
+    private final Map<UUID, long[]> expectedCategories = new HashMap<>();
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getenv("BENCHMARK_DB_URL"));
+        registry.add("spring.datasource.username", () -> env("BENCHMARK_DB_USER", "postgres"));
+        registry.add("spring.datasource.password", () -> env("BENCHMARK_DB_PASSWORD", "postgres"));
+    }
+
+    @Test
+    @DisplayName("Deve manter os relatórios de vendas de um ano de pedidos iguais à agregação direta")
+    public void shouldRefreshSalesReportsForAYearOfOrders() {
+        SalesReportRepositoryGateway gateway = new SalesReportRepositoryGateway(jdbcTemplate);
+        List<UUID[]> products = createProducts();
+        long pendingOrderId = createOrders(products);
+        LocalDate lastDay = FIRST_DAY.plusDays(DAYS - 1);
+
+        // Sem estado salvo: o histórico entra em blocos de BACKFILL_DAYS, uma execução por bloco
+        jdbcTemplate.update("DELETE FROM report_refresh_state");
+        long startTime = System.nanoTime();
+        int days = 0;
+        int runs = 0;
+        do {
+            days += gateway.refreshChangedDays(LocalDateTime.now(), Duration.ofMinutes(5), BACKFILL_DAYS);
+            runs++;
+        } while (Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT backfill_next_day IS NOT NULL FROM report_refresh_state WHERE report_name = 'sales'",
+                Boolean.class)));
+        System.out.printf("[benchmark] full refresh: %d days in %d runs, %d ms%n", days, runs,
+                (System.nanoTime() - startTime) / 1_000_000);
+        assertTrue(days >= DAYS);
+
+        List<DailySales> daily = gateway.findDailySales(FIRST_DAY, lastDay);
+        assertEquals(DAYS, daily.size());
+        for (DailySales sales : daily) {
+            long[] expected = expectedDaily.get(sales.getDay());
+            assertEquals(expected[0], sales.getOrders(), sales.getDay().toString());
+            assertEquals(expected[1], sales.getItems());
+            assertEquals(Money.ofCents(expected[2]), sales.getRevenue());
+        }
+
+        List<ProductSales> top = gateway.findTopProducts(FIRST_DAY, lastDay, 5);
+        assertEquals(5, top.size());
+        long bestQuantity = expectedProducts.values().stream().mapToLong(totals -> totals[0]).max().orElseThrow();
+        assertEquals(bestQuantity, top.get(0).getQuantity());
+        for (ProductSales product : top) {
+            assertEquals(expectedProducts.get(product.getProductId())[0], product.getQuantity());
+            assertEquals(Money.ofCents(expectedProducts.get(product.getProductId())[1]), product.getRevenue());
+        }
+
+        List<CategorySales> categories = gateway.findCategorySales(FIRST_DAY, lastDay);
+        assertEquals(CATEGORIES, categories.size());
+        for (CategorySales category : categories) {
+            assertEquals(Money.ofCents(expectedCategories.get(category.getCategoryId())[1]), category.getRevenue());
+        }
+
+        // Incremental: só o dia do pedido aprovado agora é recalculado
+        LocalDate pendingDay = jdbcTemplate.queryForObject(
+                "SELECT created_at::date FROM orders WHERE id = ?", LocalDate.class, pendingOrderId);
+        Money pendingAmount = Money.of(jdbcTemplate.queryForObject(
+                "SELECT total_amount FROM orders WHERE id = ?", BigDecimal.class, pendingOrderId));
+        Money before = gateway.findDailySales(pendingDay, pendingDay).get(0).getRevenue();
+        jdbcTemplate.update("UPDATE orders SET status_payment = 'APROVADO', updated_at = ? WHERE id = ?",
+                Timestamp.valueOf(LocalDateTime.now()), pendingOrderId);
+
+        startTime = System.nanoTime();
+        days = gateway.refreshChangedDays(LocalDateTime.now(), Duration.ofMinutes(5), BACKFILL_DAYS);
+        System.out.printf("[benchmark] incremental refresh: %d days in %d ms%n", days,
+                (System.nanoTime() - startTime) / 1_000_000);
+        assertTrue(days >= 1 && days < DAYS);
+        assertEquals(before.plus(pendingAmount), gateway.findDailySales(pendingDay, pendingDay).get(0).getRevenue());
+
+        reportLatency(gateway, lastDay);
+    }
+
+    private void reportLatency(SalesReportRepositoryGateway gateway, LocalDate lastDay) {
+        String adHocTopProducts =
+                "SELECT i.product_id, SUM(i.quantity) AS quantity, SUM(i.sub_total) AS revenue FROM (" +
+                "  SELECT i.product_id, i.quantity, i.sub_total FROM orders o JOIN order_items i ON i.order_id = o.id" +
+                "  WHERE o.status_payment = 'APROVADO' AND o.created_at >= ? AND o.created_at < ?" +
+                "  UNION ALL" +
+                "  SELECT i.product_id, i.quantity, i.sub_total FROM orders_archive o" +
+                "  JOIN order_items_archive i ON i.order_id = o.id AND i.order_created_at = o.created_at" +
+                "  WHERE o.status_payment = 'APROVADO' AND o.created_at >= ? AND o.created_at < ?" +
+                ") i GROUP BY i.product_id ORDER BY quantity DESC LIMIT 5";
+        Timestamp from = Timestamp.valueOf(FIRST_DAY.atStartOfDay());
+        Timestamp to = Timestamp.valueOf(lastDay.plusDays(1).atStartOfDay());
+
+        long startTime = System.nanoTime();
+        for (int i = 0; i < REPEAT; i++) {
+            jdbcTemplate.queryForList(adHocTopProducts, from, to, from, to);
+        }
+        long adHocMicros = (System.nanoTime() - startTime) / 1_000 / REPEAT;
+
+        startTime = System.nanoTime();
+        for (int i = 0; i < REPEAT; i++) {
+            gateway.findTopProducts(FIRST_DAY, lastDay, 5);
+        }
+        long reportMicros = (System.nanoTime() - startTime) / 1_000 / REPEAT;
+
+        startTime = System.nanoTime();
+        for (int i = 0; i < REPEAT; i++) {
+            gateway.findDailySales(FIRST_DAY, lastDay);
+        }
+        long dailyMicros = (System.nanoTime() - startTime) / 1_000 / REPEAT;
+
+        System.out.printf("[benchmark] top products over a year: ad-hoc %d us, pre-aggregated %d us; daily revenue %d us%n",
+                adHocMicros, reportMicros, dailyMicros);
+    }
+
+    // {productId, categoryId, price em centavos}
+    private List<UUID[]> createProducts() {
+        List<UUID> categories = new ArrayList<>(CATEGORIES);
+        for (int i = 0; i < CATEGORIES; i++) {
+            UUID id = UUID.randomUUID();
+            jdbcTemplate.update("INSERT INTO categories (id, name) VALUES (?, ?)", id, "report-bench-" + id);
+            categories.add(id);
+        }
+        List<UUID[]> products = new ArrayList<>(PRODUCTS);
+        for (int i = 0; i < PRODUCTS; i++) {
+            UUID id = UUID.randomUUID();
+            UUID categoryId = categories.get(i % CATEGORIES);
+            jdbcTemplate.update("INSERT INTO products (id, name, price, category_id, active) VALUES (?, ?, ?, ?, true)",
+                    id, "Produto " + i, BigDecimal.valueOf(500 + i * 75L, 2), categoryId);
+            products.add(new UUID[] {id, categoryId});
+        }
+        return products;
+    }
+
+    // Devolve o id de um pedido aguardando pagamento em orders, para o teste incremental
+    private long createOrders(List<UUID[]> products) {
+        Random random = new Random(2001);
+        List<Object[]> orders = new ArrayList<>();
+        List<Object[]> items = new ArrayList<>();
+        List<Object[]> archivedOrders = new ArrayList<>();
+        List<Object[]> archivedItems = new ArrayList<>();
+        long orderId = FIRST_ORDER_ID;
+        long pendingOrderId = -1;
+
+        for (int day = 0; day < DAYS; day++) {
+            LocalDate date = FIRST_DAY.plusDays(day);
+            boolean archived = date.isBefore(ARCHIVED_BEFORE);
+            for (int n = 0; n < ORDERS_PER_DAY; n++) {
+                orderId++;
+                Timestamp createdAt = Timestamp.valueOf(date.atTime(10, 0).plusMinutes(n * 15L));
+                boolean approved = random.nextInt(10) < 8;
+                int itemCount = 1 + random.nextInt(4);
+                long total = 0;
+                long quantity = 0;
+                for (int k = 0; k < itemCount; k++) {
+                    int index = (int) Math.abs(random.nextGaussian() * PRODUCTS / 3) % PRODUCTS;
+                    UUID productId = products.get(index)[0];
+                    UUID categoryId = products.get(index)[1];
+                    long unitPrice = 500 + index * 75L;
+                    int itemQuantity = 1 + random.nextInt(3);
+                    long subTotal = unitPrice * itemQuantity;
+                    Object[] item = archived
+                            ? new Object[] {UUID.randomUUID(), orderId, createdAt, productId, "Produto " + index,
+                                    categoryId, "cat", itemQuantity, BigDecimal.valueOf(unitPrice, 2), BigDecimal.valueOf(subTotal, 2)}
+                            : new Object[] {UUID.randomUUID(), orderId, productId, "Produto " + index,
+                                    categoryId, "cat", itemQuantity, BigDecimal.valueOf(unitPrice, 2), BigDecimal.valueOf(subTotal, 2)};
+                    (archived ? archivedItems : items).add(item);
+                    total += subTotal;
+                    quantity += itemQuantity;
+                    if (approved) {
+                        add(expectedProducts, productId, itemQuantity, subTotal);
+                        add(expectedCategories, categoryId, itemQuantity, subTotal);
+                    }
+                }
+                if (approved) {
+                    long[] daily = expectedDaily.computeIfAbsent(date, key -> new long[3]);
+                    daily[0]++;
+                    daily[1] += quantity;
+                    daily[2] += total;
+                } else if (!archived && pendingOrderId < 0) {
+                    pendingOrderId = orderId;
+                }
+                Object[] order = {orderId, BigDecimal.valueOf(total, 2), archived ? "FINISHED" : "RECEIVED",
+                        approved ? "APROVADO" : "AGUARDANDO_PAGAMENTO", createdAt, createdAt};
+                (archived ? archivedOrders : orders).add(order);
+            }
+        }
+
+        jdbcTemplate.batchUpdate("INSERT INTO orders (id, total_amount, status, status_payment, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?)", orders);
+        jdbcTemplate.batchUpdate("INSERT INTO order_items (id, order_id, product_id, product_name, category_id, " +
+                "category_name, quantity, unit_price, sub_total) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", items);
+        jdbcTemplate.batchUpdate("INSERT INTO orders_archive (id, total_amount, status, status_payment, created_at, " +
+                "updated_at) VALUES (?, ?, ?, ?, ?, ?)", archivedOrders);
+        jdbcTemplate.batchUpdate("INSERT INTO order_items_archive (id, order_id, order_created_at, product_id, " +
+                "product_name, category_id, category_name, quantity, unit_price, sub_total) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", archivedItems);
+        System.out.printf("[benchmark] synthetic year: %d orders, %d items%n",
+                orders.size() + archivedOrders.size(), items.size() + archivedItems.size());
+        return pendingOrderId;
+    }
+
+    private static void add(Map<UUID, long[]> totals, UUID key, long quantity, long cents) {
+        long[] value = totals.computeIfAbsent(key, k -> new long[2]);
+        value[0] += quantity;
+        value[1] += cents;
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value != null && !value.isEmpty() ? value : defaultValue;
+    }
+}
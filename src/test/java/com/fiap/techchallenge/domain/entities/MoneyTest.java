@@ -0,0 +1,60 @@
+package com.fiap.techchallenge.domain.entities;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fiap.techchallenge.external.api.json.MoneyJsonComponent;
+import com.fiap.techchallenge.external.datasource.converters.MoneyAttributeConverter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MoneyTest {
+
+    @Test
+    @DisplayName("Deve calcular subtotal e total do pedido em centavos sem perda")
+    public void shouldComputeOrderTotalInCents() {
+        Product soda = new Product(UUID.randomUUID(), "Refrigerante", null, new BigDecimal("0.10"), null, true);
+        Product burger = new Product(UUID.randomUUID(), "X-Burger", null, new BigDecimal("19.90"), null, true);
+
+        Order order = Order.create(null, List.of(OrderItem.create(soda, 3), OrderItem.create(burger, 2)));
+
+        assertEquals(Money.ofCents(30), order.getItems().get(0).getSubTotal());
+        assertEquals(Money.parse("40.10"), order.getTotalAmount());
+        // Em double, 0.1 * 3 já não é 0.3
+        assertEquals("40.10", order.getTotalAmount().toString());
+        assertEquals(new BigDecimal("40.10"), order.getTotalAmount().toBigDecimal());
+    }
+
+    @Test
+    @DisplayName("Deve arredondar para duas casas e detectar estouro")
+    public void shouldRoundAndDetectOverflow() {
+        assertEquals(Money.ofCents(1235), Money.of(new BigDecimal("12.345")));
+        assertEquals(Money.ofCents(1200), Money.of(BigDecimal.valueOf(12)));
+        assertEquals("-0.05", Money.ofCents(-5).toString());
+        assertEquals("-1234.05", Money.ofCents(-123405).toString());
+        assertEquals(BigDecimal.valueOf(Long.MIN_VALUE, 2).toPlainString(), Money.ofCents(Long.MIN_VALUE).toString());
+        assertSame(Money.ZERO, Money.ofCents(0));
+        assertThrows(ArithmeticException.class, () -> Money.ofCents(Long.MAX_VALUE).times(2));
+    }
+
+    @Test
+    @DisplayName("Deve converter para a coluna numeric e para número no JSON")
+    public void shouldConvertForDatabaseAndJson() throws Exception {
+        MoneyAttributeConverter converter = new MoneyAttributeConverter();
+        assertEquals(new BigDecimal("19.90"), converter.convertToDatabaseColumn(Money.ofCents(1990)));
+        assertEquals(Money.ofCents(1990), converter.convertToEntityAttribute(new BigDecimal("19.90")));
+        assertNull(converter.convertToEntityAttribute(null));
+
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new SimpleModule()
+                .addSerializer(Money.class, new MoneyJsonComponent.Serializer())
+                .addDeserializer(Money.class, new MoneyJsonComponent.Deserializer()));
+        assertEquals("19.90", objectMapper.writeValueAsString(Money.ofCents(1990)));
+        assertEquals(Money.ofCents(1990), objectMapper.readValue("19.9", Money.class));
+        assertEquals(Money.ofCents(1990), objectMapper.readValue("\"19.90\"", Money.class));
+    }
+}
@@ -23,17 +23,16 @@ public class CategoryTest {
     }
 
     @Test
-    @DisplayName("Deve criar uma categoria usando os setters")
-    public void shouldCreateCategoryUsingSetters() {
+    @DisplayName("Deve renomear uma categoria criando uma cópia, sem alterar a original")
+    public void shouldRenameCategoryWithoutMutatingOriginal() {
         UUID id = UUID.randomUUID();
-        String name = "Books";
+        Category category = new Category(id, "Books");
 
-        Category category = new Category();
-        category.setId(id);
-        category.setName(name);
+        Category renamed = category.withName("Livros");
 
-        assertEquals(id, category.getId());
-        assertEquals(name, category.getName());
+        assertEquals(id, renamed.getId());
+        assertEquals("Livros", renamed.getName());
+        assertEquals("Books", category.getName());
     }
 
     @Test
@@ -0,0 +1,77 @@
+package com.fiap.techchallenge.external.api;
+
+import com.fiap.techchallenge.domain.entities.Category;
+import com.fiap.techchallenge.domain.readmodels.ResourceVersion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConditionalGetTest {
+
+    private final Category category = new Category(UUID.randomUUID(), "Lanche");
+    private final Optional<ResourceVersion> version =
+            Optional.of(new ResourceVersion("3", LocalDateTime.of(2024, 5, 1, 12, 0)));
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    @DisplayName("Deve responder 200 com ETag, Last-Modified e Cache-Control do recurso")
+    public void shouldSendValidatorsWithBody() {
+        ResponseEntity<Category> response = respond(null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(category, response.getBody());
+        assertEquals("\"3\"", response.getHeaders().getETag());
+        assertTrue(response.getHeaders().getLastModified() > 0);
+        assertEquals("max-age=300, public, stale-while-revalidate=300", response.getHeaders().getCacheControl());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Deve responder 304 sem carregar a entidade quando o ETag ainda vale, inclusive o fraco do gzip")
+    public void shouldAnswerNotModifiedWithoutLoading() {
+        assertEquals(HttpStatus.NOT_MODIFIED, respond("\"3\"").getStatusCode());
+        assertEquals(HttpStatus.NOT_MODIFIED, respond("W/\"3\"").getStatusCode());
+        assertEquals(HttpStatus.NOT_MODIFIED, respond("\"2\", \"3\"").getStatusCode());
+        assertEquals(0, loads.get());
+
+        ResponseEntity<Category> changed = respond("\"2\"");
+        assertEquals(HttpStatus.OK, changed.getStatusCode());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Deve seguir o fluxo normal quando o recurso não existe")
+    public void shouldFallBackWhenVersionIsMissing() {
+        ResponseEntity<Category> response = ConditionalGet.respond(webRequest("\"3\""), Optional.empty(),
+                ConditionalGet.privateRevalidated(), Optional::empty);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertEquals("no-cache, private", ConditionalGet.privateRevalidated().getHeaderValue());
+    }
+
+    private ResponseEntity<Category> respond(String ifNoneMatch) {
+        return ConditionalGet.respond(webRequest(ifNoneMatch), version, ConditionalGet.publicCatalog(300), () -> {
+            loads.incrementAndGet();
+            return Optional.of(category);
+        });
+    }
+
+    private static ServletWebRequest webRequest(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/categories/1");
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+}
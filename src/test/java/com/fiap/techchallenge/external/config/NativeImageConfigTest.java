@@ -0,0 +1,51 @@
+package com.fiap.techchallenge.external.config;
+
+import com.fiap.techchallenge.application.usecases.OrderUseCase;
+import com.fiap.techchallenge.domain.entities.Order;
+import com.fiap.techchallenge.external.api.OrderRestController;
+import com.fiap.techchallenge.external.api.dto.WebhookRequestDTO;
+import com.fiap.techchallenge.external.datasource.entities.OrderJpaEntity;
+import net.logstash.logback.encoder.LogstashEncoder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NativeImageConfigTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @BeforeEach
+    public void setUp() {
+        new NativeImageConfig.ApplicationRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    @DisplayName("Deve registrar reflexão para entidades JPA e tipos do JSON")
+    public void shouldRegisterReflectionForEntitiesAndJsonTypes() {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(OrderJpaEntity.class)
+                .withMemberCategories(MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)
+                .test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(WebhookRequestDTO.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(Order.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(OrderRestController.OrderRequestDTO.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(OrderUseCase.OrderItemRequest.class).test(hints));
+
+        // Controllers ficam com o Spring AOT
+        assertFalse(RuntimeHintsPredicates.reflection().onType(OrderRestController.class).test(hints));
+    }
+
+    @Test
+    @DisplayName("Deve registrar o encoder do Logstash e os recursos do AWS SDK")
+    public void shouldRegisterLoggingAndAwsSdkResources() {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(LogstashEncoder.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_METHODS).test(hints));
+        assertTrue(RuntimeHintsPredicates.resource().forResource("logback-spring.xml").test(hints));
+        assertTrue(RuntimeHintsPredicates.resource()
+                .forResource("software/amazon/awssdk/regions/internal/region/endpoints.json").test(hints));
+    }
+}
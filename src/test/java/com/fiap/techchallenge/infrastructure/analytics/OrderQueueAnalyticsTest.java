@@ -0,0 +1,162 @@
+package com.fiap.techchallenge.infrastructure.analytics;
+
+import com.fiap.techchallenge.domain.entities.Money;
+import com.fiap.techchallenge.domain.entities.Order;
+import com.fiap.techchallenge.domain.entities.OrderStatus;
+import com.fiap.techchallenge.domain.entities.StatusPayment;
+import com.fiap.techchallenge.domain.readmodels.DwellTimeStats;
+import com.fiap.techchallenge.domain.readmodels.OrderQueueStats;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OrderQueueAnalyticsTest {
+
+    @Test
+    @DisplayName("Deve estimar quantis em fluxo próximos dos quantis exatos")
+    public void shouldEstimateQuantilesCloseToExactValues() {
+        Random random = new Random(42);
+        int samples = 20_000;
+        double[] values = new double[samples];
+        P2QuantileEstimator p50 = new P2QuantileEstimator(0.5);
+        P2QuantileEstimator p90 = new P2QuantileEstimator(0.9);
+        P2QuantileEstimator p99 = new P2QuantileEstimator(0.99);
+        for (int i = 0; i < samples; i++) {
+            // Tempo de preparo com cauda longa (log-normal em torno de 8 minutos)
+            values[i] = Math.exp(Math.log(480) + 0.4 * random.nextGaussian());
+            p50.add(values[i]);
+            p90.add(values[i]);
+            p99.add(values[i]);
+        }
+        Arrays.sort(values);
+
+        assertEquals(values[samples / 2], p50.getValue(), values[samples / 2] * 0.02);
+        assertEquals(values[(int) (samples * 0.9)], p90.getValue(), values[(int) (samples * 0.9)] * 0.02);
+        assertEquals(values[(int) (samples * 0.99)], p99.getValue(), values[(int) (samples * 0.99)] * 0.05);
+        assertEquals(samples, p50.getCount());
+    }
+
+    @Test
+    @DisplayName("Deve acumular a permanência por status e estimar quando o pedido fica pronto")
+    public void shouldTrackDwellTimesAndEstimateReadyAt() {
+        OrderQueueAnalytics analytics = new OrderQueueAnalytics();
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+        for (long id = 1; id <= 10; id++) {
+            LocalDateTime createdAt = start.plusMinutes(id);
+            analytics.orderReceived(order(id, createdAt));
+            analytics.statusChanged(id, OrderStatus.IN_PREPARATION, null, createdAt.plusMinutes(2));
+            analytics.statusChanged(id, OrderStatus.READY, null, createdAt.plusMinutes(12));
+            analytics.statusChanged(id, OrderStatus.FINISHED, null, createdAt.plusMinutes(15));
+        }
+
+        OrderQueueStats stats = analytics.snapshot();
+        DwellTimeStats received = stats.getDwellTimes().get(OrderStatus.RECEIVED);
+        assertEquals(10, received.getSamples());
+        assertEquals(120.0, received.getP50Seconds());
+        assertEquals(600.0, stats.getDwellTimes().get(OrderStatus.IN_PREPARATION).getMeanSeconds());
+        assertEquals(180.0, stats.getDwellTimes().get(OrderStatus.READY).getP90Seconds());
+        assertEquals(720.0, stats.getTimeToReady().getP99Seconds());
+        assertFalse(stats.getDwellTimes().containsKey(OrderStatus.FINISHED));
+        assertEquals(0, analytics.trackedOrders());
+
+        LocalDateTime now = start.plusHours(1);
+        assertEquals(now.plusMinutes(12), analytics.estimateReadyAt(OrderStatus.RECEIVED, now, now, now));
+        assertEquals(now.plusMinutes(7), analytics.estimateReadyAt(OrderStatus.IN_PREPARATION, now.minusMinutes(3),
+                now.minusMinutes(3), now));
+        // Atrasado além do p90: a previsão não fica no passado
+        assertEquals(now, analytics.estimateReadyAt(OrderStatus.IN_PREPARATION, now.minusMinutes(40),
+                now.minusMinutes(30), now));
+        assertNull(analytics.estimateReadyAt(OrderStatus.FINISHED, start, start, now));
+    }
+
+    @Test
+    @DisplayName("Deve medir pedidos criados antes da subida da instância pela data de criação")
+    public void shouldMeasureUntrackedOrdersFromCreatedAt() {
+        OrderQueueAnalytics analytics = new OrderQueueAnalytics();
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+        assertNull(analytics.estimateReadyAt(OrderStatus.RECEIVED, createdAt, createdAt, createdAt));
+
+        analytics.statusChanged(1L, OrderStatus.IN_PREPARATION, createdAt, createdAt.plusMinutes(5));
+        analytics.statusChanged(1L, OrderStatus.READY, createdAt, createdAt.plusMinutes(20));
+        // Lote sem data de criação e pedido desconhecido: nada a medir
+        analytics.statusChanged(2L, OrderStatus.READY, null, createdAt.plusMinutes(20));
+
+        OrderQueueStats stats = analytics.snapshot();
+        assertEquals(300.0, stats.getDwellTimes().get(OrderStatus.RECEIVED).getP50Seconds());
+        assertEquals(900.0, stats.getDwellTimes().get(OrderStatus.IN_PREPARATION).getP50Seconds());
+        assertEquals(1, stats.getTimeToReady().getSamples());
+        assertEquals(1, analytics.trackedOrders());
+
+        Order order = order(3L, createdAt);
+        Order estimated = analytics.withEstimatedReadyAt(order, createdAt);
+        assertEquals(createdAt.plusMinutes(20), estimated.getEstimatedReadyAt());
+        assertNull(order.getEstimatedReadyAt());
+        assertSame(order.getItems(), estimated.getItems());
+    }
+
+    @Test
+    @DisplayName("Deve descartar pedidos parados além do TTL e os com pagamento rejeitado")
+    public void shouldEvictStaleAndDiscardedOrders() {
+        OrderQueueAnalytics analytics = new OrderQueueAnalytics(Duration.ofHours(1));
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+        // 1: finalizado em outra réplica; 2: pagamento rejeitado; 3: ainda em andamento
+        analytics.orderReceived(order(1L, start));
+        analytics.orderReceived(order(2L, start));
+        analytics.orderReceived(order(3L, start));
+        analytics.statusChanged(3L, OrderStatus.IN_PREPARATION, null, start.plusMinutes(50));
+        analytics.orderDiscarded(2L);
+        assertEquals(2, analytics.trackedOrders());
+
+        assertEquals(1, analytics.evictStaleOrders(start.plusMinutes(90)));
+        assertEquals(1, analytics.trackedOrders());
+        assertEquals(0, analytics.evictStaleOrders(start.plusMinutes(90)));
+
+        // Expirado e depois transicionado: medido pela criação, como pedido não acompanhado
+        analytics.statusChanged(1L, OrderStatus.IN_PREPARATION, start, start.plusMinutes(95));
+        assertEquals(2, analytics.snapshot().getDwellTimes().get(OrderStatus.RECEIVED).getSamples());
+    }
+
+    @Test
+    @DisplayName("Deve medir cada etapa uma vez com transições simultâneas do mesmo pedido")
+    public void shouldRecordEachStageOnceUnderConcurrentTransitions() throws InterruptedException {
+        OrderQueueAnalytics analytics = new OrderQueueAnalytics();
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 12, 0);
+        int orders = 2_000;
+        for (long id = 1; id <= orders; id++) {
+            analytics.orderReceived(order(id, start));
+        }
+
+        // Duas réplicas do mesmo evento por pedido (webhook e reconciliação)
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (long id = 1; id <= orders; id++) {
+            long orderId = id;
+            for (int copy = 0; copy < 2; copy++) {
+                executor.execute(() -> analytics.statusChanged(orderId, OrderStatus.IN_PREPARATION, null,
+                        start.plusMinutes(2)));
+            }
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(orders, analytics.snapshot().getDwellTimes().get(OrderStatus.RECEIVED).getSamples());
+        assertEquals(orders, analytics.trackedOrders());
+    }
+
+    private static Order order(Long id, LocalDateTime createdAt) {
+        return new Order(id, null, null, List.of(), Money.ZERO, OrderStatus.RECEIVED,
+                StatusPayment.AGUARDANDO_PAGAMENTO, null, createdAt, createdAt);
+    }
+}
@@ -0,0 +1,101 @@
+package com.fiap.techchallenge.infrastructure.cache;
+
+import com.fiap.techchallenge.adapters.gateway.ProductRepositoryGateway;
+import com.fiap.techchallenge.adapters.gateway.ReadOnlyLookup;
+import com.fiap.techchallenge.domain.entities.Product;
+import com.fiap.techchallenge.domain.repositories.ProductRepository;
+import com.fiap.techchallenge.external.datasource.entities.CategoryJpaEntity;
+import com.fiap.techchallenge.external.datasource.entities.ProductJpaEntity;
+import com.fiap.techchallenge.external.datasource.repositories.ProductJpaRepository;
+import com.fiap.techchallenge.infrastructure.search.ProductSearchIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class RequestIdentityCacheTest {
+
+    private final UUID productId = UUID.randomUUID();
+    private final UUID missingId = UUID.randomUUID();
+
+    private ProductJpaRepository productJpaRepository;
+    private ProductRepository productRepository;
+
+    @BeforeEach
+    public void setUp() {
+        ProductJpaEntity entity = new ProductJpaEntity(productId, "X-Burger", "Pão, carne e queijo",
+                new BigDecimal("25.90"), new CategoryJpaEntity(UUID.randomUUID(), "Lanche"), true);
+        productJpaRepository = mock(ProductJpaRepository.class);
+        when(productJpaRepository.findById(productId)).thenReturn(Optional.of(entity));
+        when(productJpaRepository.findById(missingId)).thenReturn(Optional.empty());
+        when(productJpaRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        productRepository = new ProductRepositoryGateway(productJpaRepository, new ProductSearchIndex(), null,
+                new ReadOnlyLookup());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        RequestIdentityCache.end();
+    }
+
+    @Test
+    @DisplayName("Deve ler cada produto do banco uma vez só dentro da requisição e publicar as leituras economizadas")
+    public void shouldLoadEachProductOncePerRequest() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        MockFilterChain chain = new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse response) {
+                // Pedido com o mesmo produto em três itens, um produto inexistente e uma checagem de existência
+                for (int i = 0; i < 3; i++) {
+                    assertEquals("X-Burger", productRepository.findById(productId).orElseThrow().getName());
+                }
+                assertTrue(productRepository.findById(missingId).isEmpty());
+                assertTrue(productRepository.findById(missingId).isEmpty());
+                assertTrue(productRepository.existsById(productId));
+            }
+        };
+
+        new RequestIdentityCacheFilter(meterRegistry)
+                .doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), chain);
+
+        verify(productJpaRepository, times(1)).findById(productId);
+        verify(productJpaRepository, times(1)).findById(missingId);
+        verify(productJpaRepository, never()).existsById(any());
+        assertFalse(RequestIdentityCache.isActive());
+        assertEquals(4.0, meterRegistry.counter(RequestIdentityCacheFilter.LOOKUPS_METRIC,
+                "entity", "Product", "result", "hit").count());
+        assertEquals(2.0, meterRegistry.counter(RequestIdentityCacheFilter.LOOKUPS_METRIC,
+                "entity", "Product", "result", "miss").count());
+    }
+
+    @Test
+    @DisplayName("Deve ler sempre do banco fora de uma requisição e refletir escritas dentro dela")
+    public void shouldBypassOutsideRequestAndTrackWrites() {
+        productRepository.findById(productId);
+        productRepository.findById(productId);
+        verify(productJpaRepository, times(2)).findById(productId);
+
+        RequestIdentityCache.begin();
+        Product product = productRepository.findById(productId).orElseThrow();
+        Product saved = productRepository.save(product.update("X-Salada", null, null, null));
+        assertSame(saved, productRepository.findById(productId).orElseThrow());
+
+        productRepository.deleteById(productId);
+        productRepository.findById(productId);
+        verify(productJpaRepository, times(4)).findById(productId);
+    }
+}
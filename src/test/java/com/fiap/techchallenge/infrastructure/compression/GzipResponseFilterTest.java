@@ -0,0 +1,98 @@
+package com.fiap.techchallenge.infrastructure.compression;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GzipResponseFilterTest {
+
+    private final DeflaterPool deflaterPool = new DeflaterPool(2, 5);
+    private final GzipResponseFilter filter = new GzipResponseFilter(deflaterPool, 1024);
+
+    @Test
+    @DisplayName("Deve comprimir JSON acima do tamanho mínimo e devolver o Deflater ao pool")
+    public void shouldCompressLargeJson() throws Exception {
+        String body = products(200);
+
+        MockHttpServletResponse response = execute("gzip, deflate, br", "application/json", body);
+
+        assertEquals("gzip", response.getHeader("Content-Encoding"));
+        assertTrue(response.getContentAsByteArray().length < body.length() / 4);
+        assertEquals(body, gunzip(response.getContentAsByteArray()));
+        assertEquals("W/\"7\"", response.getHeader("ETag"));
+        assertEquals(1, deflaterPool.getIdle());
+    }
+
+    @Test
+    @DisplayName("Deve enviar sem compressão respostas pequenas, binárias ou sem Accept-Encoding")
+    public void shouldSkipCompressionWhenNotWorthIt() throws Exception {
+        String small = products(2);
+        MockHttpServletResponse smallResponse = execute("gzip", "application/json", small);
+        assertNull(smallResponse.getHeader("Content-Encoding"));
+        assertEquals(small, smallResponse.getContentAsString());
+        assertEquals(small.getBytes(StandardCharsets.UTF_8).length, smallResponse.getContentLength());
+        assertEquals("\"7\"", smallResponse.getHeader("ETag"));
+
+        String large = products(200);
+        assertNull(execute(null, "application/json", large).getHeader("Content-Encoding"));
+        assertNull(execute("gzip;q=0", "application/json", large).getHeader("Content-Encoding"));
+        MockHttpServletResponse image = execute("gzip", "image/png", large);
+        assertNull(image.getHeader("Content-Encoding"));
+        assertEquals(large, image.getContentAsString());
+        assertEquals(0, deflaterPool.getIdle());
+    }
+
+    private MockHttpServletResponse execute(String acceptEncoding, String contentType, String body) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products");
+        if (acceptEncoding != null) {
+            request.addHeader("Accept-Encoding", acceptEncoding);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        HttpServlet servlet = new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                resp.setContentType(contentType);
+                resp.setCharacterEncoding("UTF-8");
+                resp.setHeader("ETag", "\"7\"");
+                // Escreve em pedaços, como o Jackson faz ao serializar
+                byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+                for (int offset = 0; offset < bytes.length; offset += 500) {
+                    resp.getOutputStream().write(bytes, offset, Math.min(500, bytes.length - offset));
+                }
+                resp.flushBuffer();
+            }
+        };
+        filter.doFilter(request, response, new MockFilterChain(servlet));
+        return response;
+    }
+
+    private static String products(int count) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\":\"").append(i).append("\",\"name\":\"X-Burger ").append(i)
+                    .append("\",\"description\":\"Pão, carne e queijo\",\"price\":25.90,\"available\":true}");
+        }
+        return json.append(']').toString();
+    }
+
+    private static String gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.fiap.techchallenge.infrastructure.datasource;
+
+import com.fiap.techchallenge.infrastructure.datasource.ReadReplicaRoutingDataSource.Route;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReadReplicaRoutingDataSourceTest {
+
+    @AfterEach
+    public void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        ReadYourWritesContext.clear();
+    }
+
+    @Test
+    @DisplayName("Deve enviar transações somente leitura para a réplica")
+    public void shouldRouteReadOnlyTransactionsToReplica() {
+        ReadYourWritesContext.begin(false);
+
+        assertEquals(Route.PRIMARY, ReadReplicaRoutingDataSource.currentRoute());
+
+        readOnlyTransaction();
+        assertEquals(Route.REPLICA, ReadReplicaRoutingDataSource.currentRoute());
+        assertFalse(ReadYourWritesContext.hasWritten());
+    }
+
+    @Test
+    @DisplayName("Deve ler do primário depois de uma escrita na mesma requisição")
+    public void shouldPinToPrimaryAfterWrite() {
+        ReadYourWritesContext.begin(false);
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        assertEquals(Route.PRIMARY, ReadReplicaRoutingDataSource.currentRoute());
+        assertTrue(ReadYourWritesContext.hasWritten());
+
+        readOnlyTransaction();
+        assertEquals(Route.PRIMARY, ReadReplicaRoutingDataSource.currentRoute());
+    }
+
+    @Test
+    @DisplayName("Deve respeitar a janela do cookie e ignorar escritas fora de requisição")
+    public void shouldHonourStickyWindowOnlyInsideRequests() {
+        ReadYourWritesContext.begin(true);
+        readOnlyTransaction();
+        assertEquals(Route.PRIMARY, ReadReplicaRoutingDataSource.currentRoute());
+
+        // Jobs agendados não têm contexto: a escrita não fixa a thread
+        ReadYourWritesContext.clear();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        assertEquals(Route.PRIMARY, ReadReplicaRoutingDataSource.currentRoute());
+        readOnlyTransaction();
+        assertEquals(Route.REPLICA, ReadReplicaRoutingDataSource.currentRoute());
+    }
+
+    private void readOnlyTransaction() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    }
+}
@@ -0,0 +1,134 @@
+package com.fiap.techchallenge.infrastructure.ratelimit;
+
+import com.fiap.techchallenge.infrastructure.ratelimit.AdaptiveConcurrencyLimiter.Priority;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RateLimiterTest {
+
+    @Test
+    @DisplayName("Deve liberar o burst, rejeitar o excesso e reabastecer com o tempo")
+    public void shouldAllowBurstThenRefill() {
+        AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(2, 3, 16, clock::get);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire("ip:10.0.0.1"));
+        }
+        long wait = limiter.tryAcquire("ip:10.0.0.1");
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(500), wait);
+
+        // Outro cliente tem o próprio bucket
+        assertEquals(0, limiter.tryAcquire("ip:10.0.0.2"));
+
+        clock.addAndGet(wait);
+        assertEquals(0, limiter.tryAcquire("ip:10.0.0.1"));
+        assertTrue(limiter.tryAcquire("ip:10.0.0.1") > 0);
+    }
+
+    @Test
+    @DisplayName("Deve reduzir o limite sob latência alta e cortar primeiro a prioridade baixa")
+    public void shouldShedLowPriorityFirst() {
+        AtomicBoolean poolUnderPressure = new AtomicBoolean();
+        AdaptiveConcurrencyLimiter limiter =
+                new AdaptiveConcurrencyLimiter(10, 2, 100, 100, poolUnderPressure::get);
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limiter.tryAcquire(Priority.LOW));
+        }
+        assertFalse(limiter.tryAcquire(Priority.LOW));
+        assertTrue(limiter.tryAcquire(Priority.CRITICAL));
+
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(300));
+        assertEquals(10 * AdaptiveConcurrencyLimiter.BACKOFF_RATIO, limiter.getLimit(), 1e-9);
+        assertEquals(5, limiter.getInFlight());
+
+        poolUnderPressure.set(true);
+        assertFalse(limiter.tryAcquire(Priority.LOW));
+        assertTrue(limiter.tryAcquire(Priority.NORMAL));
+    }
+
+    @Test
+    @DisplayName("Deve aumentar o limite com respostas rápidas")
+    public void shouldGrowLimitWhenHealthy() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 2, 100, 100, () -> false);
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.tryAcquire(Priority.NORMAL));
+            limiter.release(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+
+        assertTrue(limiter.getLimit() > 10.9);
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    @DisplayName("Deve ignorar a latência de rotas lentas por natureza e reagir só à pressão no pool")
+    public void shouldOnlyBackOffOnPoolPressureForUnmeasuredRoutes() {
+        AtomicBoolean poolUnderPressure = new AtomicBoolean();
+        AdaptiveConcurrencyLimiter limiter =
+                new AdaptiveConcurrencyLimiter(10, 2, 100, 100, poolUnderPressure::get);
+
+        for (int i = 0; i < 20; i++) {
+            assertTrue(limiter.tryAcquire(Priority.NORMAL));
+            limiter.releaseUnmeasured();
+        }
+        assertEquals(10, limiter.getLimit(), 1e-9);
+
+        poolUnderPressure.set(true);
+        assertTrue(limiter.tryAcquire(Priority.NORMAL));
+        limiter.releaseUnmeasured();
+        assertEquals(10 * AdaptiveConcurrencyLimiter.BACKOFF_RATIO, limiter.getLimit(), 1e-9);
+        assertEquals(0, limiter.getInFlight());
+
+        assertFalse(RateLimitFilter.measuresLatency("POST", "/orders"));
+        assertFalse(RateLimitFilter.measuresLatency("POST", "/catalog/import"));
+        assertFalse(RateLimitFilter.measuresLatency("POST", "/payment/create-order"));
+        assertTrue(RateLimitFilter.measuresLatency("GET", "/orders/42"));
+        assertTrue(RateLimitFilter.measuresLatency("GET", "/products/search"));
+    }
+
+    @Test
+    @DisplayName("Deve usar o primeiro IP não confiável do X-Forwarded-For e ignorar headers forjados")
+    public void shouldKeyOnClientResolvedThroughTrustedProxies() {
+        RateLimitFilter filter = new RateLimitFilter(null, null, null, null,
+                List.of("10.0.0.0/8", " ", "::1/128"), null);
+
+        // Direto da internet: o header é do próprio cliente e não vale nada
+        assertEquals("ip:203.0.113.7", filter.clientKey(request("203.0.113.7", "1.2.3.4")));
+        // Via load balancer: o cliente forjou um hop à esquerda, o balanceador acrescentou o real
+        assertEquals("ip:198.51.100.9",
+                filter.clientKey(request("10.0.0.5", "1.2.3.4, 198.51.100.9, 10.0.0.4")));
+        assertEquals("ip:unknown", filter.clientKey(request("10.0.0.5", "1.2.3.4, unknown")));
+        assertEquals("ip:10.0.0.5", filter.clientKey(request("10.0.0.5", null)));
+        assertEquals("ip:10.0.0.3", filter.clientKey(request("::1", "10.0.0.3")));
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products");
+        request.setRemoteAddr(remoteAddr);
+        request.addHeader("X-Client-ID", "rotated-" + System.nanoTime());
+        if (forwardedFor != null) {
+            request.addHeader("X-Forwarded-For", forwardedFor);
+        }
+        return request;
+    }
+
+    @Test
+    @DisplayName("Deve priorizar webhook e status de pedido sobre o catálogo")
+    public void shouldClassifyPriorityByPath() {
+        assertEquals(Priority.CRITICAL, RateLimitFilter.classify("POST", "/webhook/mercadopago"));
+        assertEquals(Priority.CRITICAL, RateLimitFilter.classify("PATCH", "/orders/42/status"));
+        assertEquals(Priority.LOW, RateLimitFilter.classify("GET", "/products/category/1"));
+        assertEquals(Priority.NORMAL, RateLimitFilter.classify("POST", "/orders"));
+        assertTrue(RateLimitFilter.isExempt("/health/liveness"));
+    }
+}
@@ -0,0 +1,164 @@
+package com.fiap.techchallenge.infrastructure.search;
+
+import com.fiap.techchallenge.domain.entities.Category;
+import com.fiap.techchallenge.domain.entities.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProductSearchIndexTest {
+
+    private final Category lanche = new Category(UUID.randomUUID(), "Lanche");
+
+    private ProductSearchIndex index;
+    private Product xBurger;
+    private Product paoDeQueijo;
+    private Product batata;
+
+    @BeforeEach
+    public void setUp() {
+        xBurger = product("X-Burger", "Pão, hambúrguer e queijo");
+        paoDeQueijo = product("Pão de Queijo", "Porção com 6 unidades");
+        batata = product("Batata Frita", "Acompanha molho");
+
+        index = new ProductSearchIndex();
+        index.rebuild(() -> List.of(xBurger, paoDeQueijo, batata));
+    }
+
+    @Test
+    @DisplayName("Deve ignorar acentos e maiúsculas na busca")
+    public void shouldIgnoreAccentsAndCase() {
+        assertEquals(List.of(paoDeQueijo, xBurger), index.search("PAO"));
+        assertEquals(List.of(xBurger), index.search("hamburguer"));
+    }
+
+    @Test
+    @DisplayName("Deve buscar por prefixo exigindo todos os termos")
+    public void shouldMatchPrefixesOfAllTerms() {
+        assertEquals(List.of(paoDeQueijo, xBurger), index.search("pão qu"));
+        assertEquals(List.of(paoDeQueijo), index.search("pão por"));
+        assertEquals(List.of(batata), index.search("bat"));
+        assertTrue(index.search("pizza").isEmpty());
+        assertTrue(index.search("  ").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve ranquear nome antes de descrição")
+    public void shouldRankNameMatchesFirst() {
+        List<Product> result = index.search("queijo");
+
+        assertEquals(List.of(paoDeQueijo, xBurger), result);
+    }
+
+    @Test
+    @DisplayName("Deve atualizar o índice de forma incremental")
+    public void shouldUpdateIncrementally() {
+        Product renamed = xBurger.update("X-Salada", null, null, null);
+        index.put(renamed);
+        Product suco = product("Suco de Laranja", null);
+        index.put(suco);
+        index.remove(batata.getId());
+
+        assertTrue(index.search("burger").isEmpty());
+        assertEquals(List.of(renamed), index.search("salada"));
+        assertEquals(List.of(suco), index.search("laranja"));
+        assertTrue(index.search("batata").isEmpty());
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    @DisplayName("Deve carregar sob demanda e recarregar após invalidar")
+    public void shouldLoadLazilyAfterInvalidate() {
+        index.invalidate();
+        index.put(batata);
+        assertFalse(index.isLoaded());
+
+        index.loadIfNecessary(() -> List.of(batata));
+
+        assertTrue(index.isLoaded());
+        assertEquals(List.of(batata), index.search("frita"));
+    }
+
+    @Test
+    @DisplayName("Deve reaplicar as escritas recebidas durante a reconstrução")
+    public void shouldReplayWritesMadeDuringRebuild() {
+        Product suco = product("Suco de Laranja", null);
+        Product renamed = xBurger.update("X-Salada", null, null, null);
+
+        // Leitura do banco feita antes das escritas: ainda sem o suco, com o X-Burger e a batata
+        index.rebuild(() -> {
+            index.put(suco);
+            index.put(renamed);
+            index.remove(batata.getId());
+            return List.of(xBurger, paoDeQueijo, batata);
+        });
+
+        assertEquals(List.of(suco), index.search("laranja"));
+        assertEquals(List.of(renamed), index.search("salada"));
+        assertTrue(index.search("burger").isEmpty());
+        assertTrue(index.search("batata").isEmpty());
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    @DisplayName("Deve continuar buscando no conteúdo anterior enquanto recarrega")
+    public void shouldServeSearchesWhileReloading() {
+        index.invalidate();
+
+        index.loadIfNecessary(() -> {
+            // Outro thread buscando durante a carga não espera o banco
+            CompletableFuture<List<Product>> concurrent = CompletableFuture.supplyAsync(() -> {
+                index.loadIfNecessary(() -> fail("only one thread reloads"));
+                return index.search("bat");
+            });
+            assertEquals(List.of(batata), concurrent.join());
+            return List.of(paoDeQueijo);
+        });
+
+        assertTrue(index.isLoaded());
+        assertTrue(index.search("bat").isEmpty());
+        assertEquals(List.of(paoDeQueijo), index.search("pao"));
+    }
+
+    @Test
+    @DisplayName("Deve aplicar as escritas de uma transação só depois do commit")
+    public void shouldApplyTransactionalWritesAfterCommit() {
+        Product suco = product("Suco de Laranja", null);
+
+        // Rollback: nada chega ao índice
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            index.put(suco);
+            index.remove(batata.getId());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertTrue(index.search("laranja").isEmpty());
+        assertEquals(List.of(batata), index.search("batata"));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            index.put(suco);
+            index.remove(batata.getId());
+            assertTrue(index.search("laranja").isEmpty());
+            TransactionSynchronizationUtils.triggerAfterCommit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertEquals(List.of(suco), index.search("laranja"));
+        assertTrue(index.search("batata").isEmpty());
+    }
+
+    private Product product(String name, String description) {
+        return new Product(UUID.randomUUID(), name, description, BigDecimal.TEN, lanche, true);
+    }
+}
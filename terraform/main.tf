@@ -11,7 +11,7 @@ resource "kubernetes_config_map" "app_config" {
   }
 
   data = {
-    SPRING_PROFILES_ACTIVE = "dev"
+    SPRING_PROFILES_ACTIVE = "dev,fast-start"
     DB_HOST               = data.terraform_remote_state.database.outputs.rds_address
     DB_PORT               = tostring(data.terraform_remote_state.database.outputs.rds_port)
     DB_NAME               = data.terraform_remote_state.database.outputs.rds_db_name
@@ -97,12 +97,23 @@ resource "kubernetes_deployment" "tech_challenge_app" {
             }
           }
 
+          # Perfil fast-start (AOT + CDS): a aplicação sobe em segundos; o startup probe
+          # checa com frequência e ainda tolera até 2 minutos num nó sobrecarregado
+          startup_probe {
+            http_get {
+              path = "/api/health/readiness"
+              port = 8080
+            }
+            period_seconds    = 2
+            timeout_seconds   = 2
+            failure_threshold = 60
+          }
+
           liveness_probe {
             http_get {
               path = "/api/health"
               port = 8080
             }
-            initial_delay_seconds = 90   # Aumentado para dar tempo da JVM iniciar
             period_seconds        = 30
             timeout_seconds       = 5
             failure_threshold     = 3
@@ -113,7 +124,6 @@ resource "kubernetes_deployment" "tech_challenge_app" {
               path = "/api/health"
               port = 8080
             }
-            initial_delay_seconds = 60   # Aumentado para aplicação Spring Boot
             period_seconds        = 10
             timeout_seconds       = 3
             failure_threshold     = 3